@@ -0,0 +1,82 @@
+package g62221.labyrinthe.bench;
+
+import g62221.labyrinthe.model.Direction;
+import g62221.labyrinthe.model.ai.BatchReachability;
+import g62221.labyrinthe.model.ai.PackedBoard;
+import g62221.labyrinthe.model.ai.ReachabilityEngine;
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reachability of many positions: {@link BatchReachability} against a bare loop of {@link ReachabilityEngine}
+ * explorations, which gives the cost of keeping the regions of the whole batch. Scores are per board.
+ * <p>
+ * Run with {@code mvn -P jmh package exec:exec -Dexec.args="ReachabilityBenchmark"}.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReachabilityBenchmark {
+
+    private static final int BOARDS = 4096;
+
+    @Param({"7", "9"})
+    private int size;
+
+    private PackedBoard[] boards;
+    private int[] starts;
+    private BatchReachability batch;
+    private ReachabilityEngine engine;
+
+    @Setup
+    public void setup() {
+        // Positions variées et reproductibles : 64 parties de départ, puis quelques glissements
+        Random random = new Random(1);
+        boards = new PackedBoard[BOARDS];
+        starts = new int[BOARDS];
+        for (int b = 0; b < BOARDS; b++) {
+            LabyrinthFacade facade = new LabyrinthFacade(size, new Random(b % 64));
+            facade.startGame(2, false);
+            boards[b] = new PackedBoard(size);
+            boards[b].load(facade);
+            for (int k = 0; k < 3; k++) {
+                boards[b].slide(Direction.values()[random.nextInt(4)], 1 + 2 * random.nextInt(size / 2));
+            }
+            starts[b] = boards[b].playerCell(0);
+        }
+        batch = new BatchReachability(size, BOARDS);
+        engine = new ReachabilityEngine(size);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOARDS)
+    public int batch() {
+        batch.compute(boards, BOARDS, starts);
+        return batch.reachedCount(BOARDS - 1);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BOARDS)
+    public void perBoardEngine(Blackhole bh) {
+        for (int b = 0; b < BOARDS; b++) bh.consume(engine.explore(boards[b], starts[b]));
+    }
+}
@@ -1,12 +1,17 @@
 package g62221.labyrinthe;
 
 import g62221.labyrinthe.controller.Controller;
+import g62221.labyrinthe.model.ai.Weights;
 import g62221.labyrinthe.model.facade.LabyrinthFacade;
+import g62221.labyrinthe.model.strategy.HeuristicStrategy;
 import g62221.labyrinthe.view.MainView;
 import javafx.application.Application;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * Main entry point for the Labyrinth application.
  * <p>
@@ -38,6 +43,16 @@ public class App extends Application {
         // Le Modèle (La Façade qui cache la complexité du jeu)
         LabyrinthFacade facade = new LabyrinthFacade();
 
+        // Les bots évaluent leurs insertions sur tous les cœurs (threads démons : rien à arrêter en sortant)
+        int cores = Runtime.getRuntime().availableProcessors();
+        ExecutorService botPool = Executors.newFixedThreadPool(cores, r -> {
+            Thread t = new Thread(r, "bot-search");
+            t.setDaemon(true);
+            return t;
+        });
+        HeuristicStrategy bots = new HeuristicStrategy(Weights.DEFAULT, botPool, cores);
+        for (int player = 0; player < 4; player++) facade.setStrategy(player, bots);
+
         // La Vue (L'interface graphique qui observe le Modèle)
         MainView view = new MainView(primaryStage, facade);
 
@@ -0,0 +1,40 @@
+package g62221.labyrinthe.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a complete bot turn: its duration, the work done and the move played.
+ */
+@Name("g62221.labyrinthe.BotDecision")
+@Label("Bot Decision")
+@Category({"Labyrinthe", "AI"})
+@Description("A bot chose and played its turn")
+@StackTrace(false)
+public class BotDecisionEvent extends Event {
+
+    @Label("Player")
+    public int player;
+
+    @Label("Strategy")
+    public String strategy;
+
+    @Label("Candidates Evaluated")
+    public int candidates;
+
+    @Label("Insertion Direction")
+    public String direction;
+
+    @Label("Insertion Index")
+    public int index;
+
+    @Label("Destination Row")
+    public int row;
+
+    @Label("Destination Column")
+    public int col;
+}
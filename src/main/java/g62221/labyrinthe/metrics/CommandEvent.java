@@ -0,0 +1,28 @@
+package g62221.labyrinthe.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of an action of the command history (execute, undo or redo).
+ */
+@Name("g62221.labyrinthe.Command")
+@Label("Command")
+@Category({"Labyrinthe", "Model"})
+@Description("A command of the undo/redo history was executed, undone or redone")
+@StackTrace(false)
+public class CommandEvent extends Event {
+
+    @Label("Action")
+    public String action;
+
+    @Label("Command")
+    public String command;
+
+    @Label("History Size")
+    public int historySize;
+}
@@ -0,0 +1,47 @@
+package g62221.labyrinthe.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic counter of a {@link MetricsRegistry}.
+ * <p>
+ * Backed by a {@link LongAdder}, so concurrent threads (bot pool, server connections) never contend on it.
+ * Increments are ignored while the registry is disabled: a counter on a hot path then costs one field read.
+ * </p>
+ */
+public final class Counter {
+
+    private final MetricsRegistry registry;
+    private final LongAdder value = new LongAdder();
+
+    Counter(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    /** Adds one to the counter. */
+    public void increment() {
+        if (registry.isEnabled()) value.increment();
+    }
+
+    /**
+     * Adds a value to the counter.
+     *
+     * @param amount The value to add.
+     */
+    public void add(long amount) {
+        if (registry.isEnabled()) value.add(amount);
+    }
+
+    /**
+     * Gets the current total.
+     *
+     * @return The sum of the increments.
+     */
+    public long sum() {
+        return value.sum();
+    }
+
+    void reset() {
+        value.reset();
+    }
+}
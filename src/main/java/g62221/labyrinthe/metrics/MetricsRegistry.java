@@ -0,0 +1,124 @@
+package g62221.labyrinthe.metrics;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process registry of named counters and latency timers, dumped on demand.
+ * <p>
+ * The model and the bots register their metrics once (in static fields) in the {@link #global()} registry and
+ * update them on their hot paths. Recording is off unless the JVM is started with
+ * {@code -Dlabyrinthe.metrics=true} or {@link #setEnabled(boolean)} is called: a disabled metric costs a single
+ * volatile read, so the instrumentation can stay in production code.
+ * </p>
+ * <p>
+ * The same code paths also emit JDK Flight Recorder events (see {@link SlideEvent}, {@link ReachabilityEvent},
+ * {@link BotDecisionEvent}, {@link CommandEvent}), which are free when no recording is running. The registry
+ * gives the totals at a glance; a recording gives the individual events.
+ * </p>
+ */
+public final class MetricsRegistry {
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry(Boolean.getBoolean("labyrinthe.metrics"));
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+
+    /**
+     * Creates a registry.
+     *
+     * @param enabled true to record from the start.
+     */
+    public MetricsRegistry(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the registry shared by the whole application.
+     *
+     * @return The global registry.
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Checks if the metrics are recorded.
+     *
+     * @return true if recording is on.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns recording on or off (the values recorded so far are kept).
+     *
+     * @param enabled true to record.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets the counter with the given name, creating it if needed.
+     *
+     * @param name The name (e.g. "ai.reachability.queries").
+     * @return The counter.
+     */
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, n -> new Counter(this));
+    }
+
+    /**
+     * Gets the timer with the given name, creating it if needed.
+     *
+     * @param name The name (e.g. "board.slide").
+     * @return The timer.
+     */
+    public Timer timer(String name) {
+        return timers.computeIfAbsent(name, n -> new Timer(this));
+    }
+
+    /**
+     * Clears every counter and timer.
+     */
+    public void reset() {
+        counters.values().forEach(Counter::reset);
+        timers.values().forEach(t -> t.histogram().reset());
+    }
+
+    /**
+     * Describes every metric, one line each, sorted by name.
+     * Timers give their count and percentiles in microseconds.
+     *
+     * @return The lines.
+     */
+    public List<String> dump() {
+        // Tri par nom : counters et timers d'un même module restent groupés
+        Map<String, String> lines = new TreeMap<>();
+        counters.forEach((name, c) -> lines.put(name, name + " " + c.sum()));
+        timers.forEach((name, t) -> {
+            LatencyHistogram h = t.histogram();
+            lines.put(name, String.format(Locale.ROOT, "%s count=%d p50=%.1fus p90=%.1fus p99=%.1fus max=%.1fus",
+                    name, h.count(), h.percentile(50) / 1e3, h.percentile(90) / 1e3,
+                    h.percentile(99) / 1e3, h.percentile(100) / 1e3));
+        });
+        return new ArrayList<>(lines.values());
+    }
+
+    /**
+     * Prints every metric.
+     *
+     * @param out The stream to print to.
+     */
+    public void dump(PrintStream out) {
+        for (String line : dump()) out.println(line);
+    }
+}
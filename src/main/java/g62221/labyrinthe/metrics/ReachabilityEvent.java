@@ -0,0 +1,50 @@
+package g62221.labyrinthe.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a reachability query (flood fill from a cell).
+ * <p>
+ * The bots run thousands of queries per turn, so the event is disabled by default: enable it in the
+ * recording settings ({@code g62221.labyrinthe.Reachability#enabled=true}) to study the search itself.
+ * Callers check {@link #isRecorded()} first, so that no event is even allocated on the search path
+ * while it is disabled.
+ * </p>
+ */
+@Name("g62221.labyrinthe.Reachability")
+@Label("Reachability Query")
+@Category({"Labyrinthe", "AI"})
+@Description("Flood fill of the cells reachable from a start cell")
+@StackTrace(false)
+@Enabled(false)
+public class ReachabilityEvent extends Event {
+
+    // Type résolu une seule fois : isEnabled() suit ensuite les enregistrements démarrés ou arrêtés
+    private static final EventType TYPE = EventType.getEventType(ReachabilityEvent.class);
+
+    /**
+     * Checks if a running recording enables this event.
+     *
+     * @return true if queries must be recorded.
+     */
+    public static boolean isRecorded() {
+        return TYPE.isEnabled();
+    }
+
+    @Label("Start Cell")
+    public int start;
+
+    @Label("Reached Cells")
+    public int reached;
+
+    @Label("Engine")
+    @Description("Board (object model) or Packed (bot search)")
+    public String engine;
+}
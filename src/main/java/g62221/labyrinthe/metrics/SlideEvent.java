@@ -0,0 +1,28 @@
+package g62221.labyrinthe.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a slide of the board (real games and simulations alike).
+ */
+@Name("g62221.labyrinthe.Slide")
+@Label("Board Slide")
+@Category({"Labyrinthe", "Model"})
+@Description("A row or column of the board slid by the insertion of the extra tile")
+@StackTrace(false)
+public class SlideEvent extends Event {
+
+    @Label("Direction")
+    public String direction;
+
+    @Label("Index")
+    public int index;
+
+    @Label("Board Size")
+    public int size;
+}
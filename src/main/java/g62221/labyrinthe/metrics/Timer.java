@@ -0,0 +1,54 @@
+package g62221.labyrinthe.metrics;
+
+/**
+ * Latency timer of a {@link MetricsRegistry}, recording durations into a {@link LatencyHistogram}.
+ * <p>
+ * Usage: {@code long start = timer.start(); ... timer.stop(start);}. While the registry is disabled,
+ * {@link #start()} does not even read the clock and {@link #stop(long)} records nothing.
+ * </p>
+ */
+public final class Timer {
+
+    private final MetricsRegistry registry;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    Timer(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Starts a measure.
+     *
+     * @return The start time to give to {@link #stop(long)}, or 0 if the registry is disabled.
+     */
+    public long start() {
+        return registry.isEnabled() ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Ends a measure and records its duration.
+     *
+     * @param start The value returned by {@link #start()}.
+     */
+    public void stop(long start) {
+        if (start != 0) histogram.record(System.nanoTime() - start);
+    }
+
+    /**
+     * Records a duration measured elsewhere.
+     *
+     * @param nanos The duration in nanoseconds.
+     */
+    public void record(long nanos) {
+        if (registry.isEnabled()) histogram.record(nanos);
+    }
+
+    /**
+     * Gets the recorded durations.
+     *
+     * @return The histogram (in nanoseconds).
+     */
+    public LatencyHistogram histogram() {
+        return histogram;
+    }
+}
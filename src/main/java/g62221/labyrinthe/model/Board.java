@@ -1,178 +1,254 @@
 package g62221.labyrinthe.model;
 
+import g62221.labyrinthe.metrics.Counter;
+import g62221.labyrinthe.metrics.MetricsRegistry;
+import g62221.labyrinthe.metrics.ReachabilityEvent;
+import g62221.labyrinthe.metrics.SlideEvent;
+import g62221.labyrinthe.metrics.Timer;
+
 import java.util.*;
 
 /**
  * Represents the game board logic, managing the grid of tiles, sliding mechanics, and pathfinding.
  * <p>
- * The board consists of a 7x7 grid containing both fixed and mobile tiles.
- * It also holds one extra tile used for sliding rows and columns.
+ * The board is a square grid of odd size (7x7 in the standard game) containing both fixed and mobile tiles:
+ * a tile is fixed when its row and its column are both even. It also holds one extra tile used for sliding
+ * rows and columns.
+ * </p>
+ * <p>
+ * Larger boards keep the proportions of the standard deck. The 24 treasure designs are then reused,
+ * the copies being told apart by a {@code "#k"} suffix (e.g. {@code goal_bat#1}).
+ * </p>
+ * <p>
+ * The grid keeps apart the identity of each tile (an immutable {@link Tile}, shared between boards) and its
+ * orientation (a byte of quarter turns per cell): sliding moves both arrays, and copying a board
+ * ({@link #Board(Board)}) copies them without creating any tile.
  * </p>
  */
 public class Board {
-    private final Tile[][] grid;
+
+    /** Size of the standard board. */
+    public static final int DEFAULT_SIZE = 7;
+
+    // Trésors des tuiles fixes, dans l'ordre de parcours colonne par colonne du plateau 7x7
+    private static final List<String> FIXED_TREASURES = List.of(
+            "goal_money", "goal_book", "goal_skull", "goal_keys", "goal_crown", "goal_map",
+            "goal_sword", "goal_saphir", "goal_coffre", "goal_ring", "goal_helmet", "goal_candleholder"
+    );
+
+    // Trésors dessinés sur des tuiles à 3 embranchements (Forme T)
+    private static final List<String> MOBILE_TREASURES_T = List.of(
+            "goal_bat", "goal_dragon", "goal_ghost", "goal_ghost2", "goal_pig", "goal_witch"
+    );
+
+    // Trésors dessinés sur des tuiles à 2 embranchements (Forme L/Angle)
+    private static final List<String> MOBILE_TREASURES_L = List.of(
+            "goal_butteryfly", "goal_hibou", "goal_insecte", "goal_lezard", "goal_mouse", "goal_spider"
+    );
+
+    // Instrumentation (sans effet tant que l'enregistrement est désactivé)
+    private static final Timer SLIDE_TIMER = MetricsRegistry.global().timer("board.slide");
+    private static final Counter REACHABILITY_QUERIES = MetricsRegistry.global().counter("board.reachability.queries");
+
+    private final int size;
+    private final Random random;
+    private final Tile[] tiles; // Identité de chaque case (orientation 0), ligne par ligne
+    private final byte[] turns; // Orientation de chaque case, en quarts de tour
     private Tile extraTile;
+    private List<Tile> deck; // Identités des tuiles mobiles (orientation 0), fixées à chaque partie
+    private final List<String> treasures;
+    private List<String> sortedTreasures; // Ordre canonique des trésors (calculé à la demande)
 
     /**
-     * Constructs a new Board and initializes the grid configuration.
+     * Constructs a new standard 7x7 Board and initializes the grid configuration.
      */
     public Board() {
-        this.grid = new Tile[7][7];
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * Constructs a new Board of the given size and initializes the grid configuration.
+     *
+     * @param size The number of rows (and columns): an odd number, at least 3.
+     * @throws IllegalArgumentException if the size is even or too small.
+     */
+    public Board(int size) {
+        this(size, new Random());
+    }
+
+    /**
+     * Constructs a new Board whose layout is drawn from the given random generator.
+     * Two boards built with generators of the same seed are identical (reproducible games).
+     *
+     * @param size   The number of rows (and columns): an odd number, at least 3.
+     * @param random The source of randomness of the layouts.
+     * @throws IllegalArgumentException if the size is even or too small.
+     */
+    public Board(int size, Random random) {
+        if (size < 3 || size % 2 == 0) {
+            throw new IllegalArgumentException("Board size must be odd and at least 3: " + size);
+        }
+        this.size = size;
+        this.random = random;
+        this.tiles = new Tile[size * size];
+        this.turns = new byte[size * size];
+        this.treasures = new ArrayList<>();
         initializeBoard();
     }
 
+    /**
+     * Constructs a copy of a board, sharing its tiles (which are immutable) and its random generator.
+     *
+     * @param source The board to copy.
+     */
+    public Board(Board source) {
+        this.size = source.size;
+        this.random = source.random;
+        this.tiles = source.tiles.clone();
+        this.turns = source.turns.clone();
+        this.extraTile = source.extraTile;
+        this.deck = source.deck;
+        this.treasures = new ArrayList<>(source.treasures);
+        this.sortedTreasures = source.sortedTreasures;
+    }
+
     /**
      * Initializes the board with fixed tiles (corners, treasures) and randomly distributed mobile tiles.
      * <p>
      * Ensures that specific treasures are placed on fixed tiles and that mobile treasures
      * are correctly assigned to 'T' or 'L' shapes based on their visual representation.
+     * The mobile deck keeps the proportions of the standard one (6 T and 6 L with a treasure,
+     * 10 plain L and 12 I out of 34 tiles).
      * </p>
      */
     public void initializeBoard() {
-        // --- 1. Préparation des Trésors Mobiles (Classés par forme) ---
-
-        // Liste T : Trésors dessinés sur des tuiles à 3 embranchements (Forme T)
-        List<String> mobileTreasuresT = new ArrayList<>(Arrays.asList(
-                "goal_bat", "goal_dragon", "goal_ghost", "goal_ghost2", "goal_pig", "goal_witch"
-        ));
-
-        // Liste L : Trésors dessinés sur des tuiles à 2 embranchements (Forme L/Angle)
-        List<String> mobileTreasuresL = new ArrayList<>(Arrays.asList(
-                "goal_butteryfly", "goal_hibou", "goal_insecte", "goal_lezard", "goal_mouse", "goal_spider"
-        ));
+        treasures.clear();
+        sortedTreasures = null;
 
-        // Mélange aléatoire des trésors
-        Collections.shuffle(mobileTreasuresT);
-        Collections.shuffle(mobileTreasuresL);
-
-        int indexT = 0;
-        int indexL = 0;
+        // --- 1. Taille de la pioche : toutes les cases mobiles + la tuile en main ---
+        int fixedCount = ((size + 1) / 2) * ((size + 1) / 2);
+        int mobileCount = size * size - fixedCount + 1;
+        int treasuresT = Math.round(mobileCount * 6 / 34f);
+        int treasuresL = Math.round(mobileCount * 6 / 34f);
+        int corridorsL = Math.round(mobileCount * 10 / 34f);
+        int straights = mobileCount - treasuresT - treasuresL - corridorsL;
 
         // --- 2. Création de la pioche de tuiles mobiles ---
-        List<Tile> mobileTiles = new ArrayList<>();
+        List<Tile> mobileTiles = new ArrayList<>(mobileCount);
 
-        // A. 6 tuiles "T" avec un trésor
-        for (int i = 0; i < 6; i++) {
-            mobileTiles.add(createRandomTile(Tile.Shape.T, mobileTreasuresT.get(indexT++)));
+        // A. Tuiles "T" avec un trésor
+        for (String treasure : treasureNames(MOBILE_TREASURES_T, treasuresT)) {
+            mobileTiles.add(createRandomTile(Tile.Shape.T, treasure));
         }
 
-        // B. 6 tuiles "L" avec un trésor
-        for (int i = 0; i < 6; i++) {
-            mobileTiles.add(createRandomTile(Tile.Shape.L, mobileTreasuresL.get(indexL++)));
+        // B. Tuiles "L" avec un trésor
+        for (String treasure : treasureNames(MOBILE_TREASURES_L, treasuresL)) {
+            mobileTiles.add(createRandomTile(Tile.Shape.L, treasure));
         }
 
-        // C. 10 tuiles "L" sans trésor (tuiles couloirs simples)
-        for (int i = 0; i < 10; i++) {
+        // C. Tuiles "L" sans trésor (tuiles couloirs simples)
+        for (int i = 0; i < corridorsL; i++) {
             mobileTiles.add(createRandomTile(Tile.Shape.L, null));
         }
 
-        // D. 12 tuiles "I" sans trésor (tuiles droites)
-        for (int i = 0; i < 12; i++) {
+        // D. Tuiles "I" sans trésor (tuiles droites)
+        for (int i = 0; i < straights; i++) {
             mobileTiles.add(createRandomTile(Tile.Shape.I, null));
         }
 
         // Mélange final de toutes les tuiles mobiles pour la distribution
-        Collections.shuffle(mobileTiles);
+        Collections.shuffle(mobileTiles, random);
         int tilePileIndex = 0;
 
         // --- 3. Remplissage du Plateau ---
-        for (int r = 0; r < 7; r++) {
-            for (int c = 0; c < 7; c++) {
+        // Parcours colonne par colonne : les trésors fixes sont attribués dans cet ordre
+        int fixedTreasureIndex = 0;
+        for (int c = 0; c < size; c++) {
+            for (int r = 0; r < size; r++) {
                 // Une case est fixe si sa ligne ET sa colonne sont paires (ex: 0,0 ; 2,4)
                 boolean isFixed = (r % 2 == 0) && (c % 2 == 0);
 
                 if (isFixed) {
                     // Création spécifique pour les tuiles inamovibles
-                    grid[r][c] = createFixedTile(r, c);
+                    place(r * size + c, createFixedTile(r, c, fixedTreasureIndex));
+                    if (!isCorner(r, c)) fixedTreasureIndex++;
                 } else {
                     // Remplissage avec la pioche pour les cases mobiles
-                    if (tilePileIndex < mobileTiles.size()) {
-                        grid[r][c] = mobileTiles.get(tilePileIndex++);
-                    } else {
-                        // Sécurité : Cas impossible si le compte est bon
-                        grid[r][c] = new Tile(Tile.Shape.I, 0, null, false);
-                    }
+                    place(r * size + c, mobileTiles.get(tilePileIndex++));
                 }
             }
         }
 
         // La dernière tuile restante devient la tuile supplémentaire (en main du joueur)
-        if (tilePileIndex < mobileTiles.size()) {
-            this.extraTile = mobileTiles.get(tilePileIndex);
-        } else {
-            this.extraTile = new Tile(Tile.Shape.I, 0, null, false);
+        this.extraTile = mobileTiles.get(tilePileIndex);
+        List<Tile> identities = new ArrayList<>(mobileCount);
+        for (Tile t : mobileTiles) identities.add(t.withRotation(0));
+        this.deck = List.copyOf(identities);
+    }
+
+    /**
+     * Builds the names of a group of treasures, reusing the designs with a "#k" suffix when needed.
+     *
+     * @param designs The available treasure designs.
+     * @param count   The number of treasures wanted.
+     * @return The shuffled names, also recorded in the list of treasures of the board.
+     */
+    private List<String> treasureNames(List<String> designs, int count) {
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(treasureName(designs, i));
         }
+        // Mélange aléatoire des trésors
+        Collections.shuffle(names, random);
+        treasures.addAll(names);
+        return names;
+    }
+
+    private static String treasureName(List<String> designs, int i) {
+        String design = designs.get(i % designs.size());
+        int copy = i / designs.size();
+        return (copy == 0) ? design : design + "#" + copy;
+    }
+
+    private boolean isCorner(int r, int c) {
+        return (r == 0 || r == size - 1) && (c == 0 || c == size - 1);
     }
 
     /**
      * Creates a fixed tile with the correct orientation and treasure based on its coordinates.
      *
-     * @param r The row index.
-     * @param c The column index.
+     * @param r     The row index.
+     * @param c     The column index.
+     * @param order The rank of this tile among the fixed tiles with a treasure (column by column).
      * @return The configured fixed Tile.
      */
-    private Tile createFixedTile(int r, int c) {
-        String key = r + "," + c;
+    private Tile createFixedTile(int r, int c, int order) {
+        int last = size - 1;
 
         // --- COINS (Shape L) ---
         // Les rotations sont définies pour que les ouvertures pointent vers l'intérieur du plateau.
-        switch (key) {
-            case "0,0": return new Tile(Tile.Shape.L, 90, "fixed_tile_upleft_corner", true);
-            case "0,6": return new Tile(Tile.Shape.L, 180, "fixed_tile_upright_corner", true);
-            case "6,0": return new Tile(Tile.Shape.L, 0, "fixed_tile_downleft_corner", true);
-            case "6,6": return new Tile(Tile.Shape.L, 270, "fixed_tile_downright_corner", true);
-        }
+        if (r == 0 && c == 0) return new Tile(Tile.Shape.L, 90, "fixed_tile_upleft_corner", true);
+        if (r == 0 && c == last) return new Tile(Tile.Shape.L, 180, "fixed_tile_upright_corner", true);
+        if (r == last && c == 0) return new Tile(Tile.Shape.L, 0, "fixed_tile_downleft_corner", true);
+        if (r == last && c == last) return new Tile(Tile.Shape.L, 270, "fixed_tile_downright_corner", true);
 
         // --- AUTRES TUILES FIXES (Shape T) ---
         // Calcul de la rotation pour que le "T" pointe vers le centre ou la direction opposée au bord.
-        int rotation = 0;
-
-        if (r == 0) rotation = 0;        // Ligne du Haut : Pointe vers le Bas (0°)
-        else if (r == 6) rotation = 180; // Ligne du Bas : Pointe vers le Haut (180°)
-        else if (c == 0) rotation = 270; // Colonne Gauche : Pointe vers la Droite (270°)
-        else if (c == 6) rotation = 90;  // Colonne Droite : Pointe vers la Gauche (90°)
-
-            // Cas particuliers des tuiles centrales (2,2 ; 4,2 ; 4,4...)
-        else {
-            switch (key) {
-                case "2,2": rotation = 270; break;
-                case "4,2": rotation = 180; break;
-                case "4,4": rotation = 90; break;
-                case "2,4": rotation = 90; break;
-                default: rotation = 0;
-            }
-        }
+        int rotation;
+        int middle = size / 2;
 
-        String treasureName = getFixedTreasureName(key);
-        if (treasureName != null) {
-            return new Tile(Tile.Shape.T, rotation, treasureName, true);
-        }
+        if (r == 0) rotation = 0;           // Ligne du Haut : Pointe vers le Bas (0°)
+        else if (r == last) rotation = 180; // Ligne du Bas : Pointe vers le Haut (180°)
+        else if (c == 0) rotation = 270;    // Colonne Gauche : Pointe vers la Droite (270°)
+        else if (c == last) rotation = 90;  // Colonne Droite : Pointe vers la Gauche (90°)
 
-        return new Tile(Tile.Shape.T, 0, "goal_unknown", true);
-    }
+            // Tuiles centrales : orientation selon le quart du plateau (2,2 ; 4,2 ; 4,4 ; 2,4 en 7x7)
+        else if (r <= middle) rotation = (c <= middle) ? 270 : 90;
+        else rotation = (c <= middle) ? 180 : 90;
 
-    /**
-     * Maps coordinates to fixed treasure names.
-     *
-     * @param key The "row,col" key string.
-     * @return The name of the treasure, or null if none.
-     */
-    private String getFixedTreasureName(String key) {
-        return switch (key) {
-            case "2,0" -> "goal_money";
-            case "4,0" -> "goal_book";
-            case "0,2" -> "goal_skull";
-            case "2,2" -> "goal_keys";
-            case "4,2" -> "goal_crown";
-            case "6,2" -> "goal_map";
-            case "0,4" -> "goal_sword";
-            case "2,4" -> "goal_saphir";
-            case "4,4" -> "goal_coffre";
-            case "6,4" -> "goal_ring";
-            case "2,6" -> "goal_helmet";
-            case "4,6" -> "goal_candleholder";
-            default -> null;
-        };
+        String treasureName = treasureName(FIXED_TREASURES, order);
+        treasures.add(treasureName);
+        return new Tile(Tile.Shape.T, rotation, treasureName, true);
     }
 
     /**
@@ -184,7 +260,7 @@ public class Board {
      */
     private Tile createRandomTile(Tile.Shape shape, String treasure) {
         // Génère une rotation aléatoire parmi 0, 90, 180, 270 degrés
-        int randomRotation = new Random().nextInt(4) * 90;
+        int randomRotation = random.nextInt(4) * 90;
         return new Tile(shape, randomRotation, treasure, false);
     }
 
@@ -199,30 +275,69 @@ public class Board {
     public void slide(Direction dir, int index) {
         // Vérifie que l'index correspond bien à une ligne mobile (impaire)
         if (index % 2 == 0) throw new IllegalArgumentException("Cannot slide a fixed line!");
+        if (index < 0 || index >= size) throw new IllegalArgumentException("No such line: " + index);
 
+        SlideEvent event = new SlideEvent();
+        event.begin();
+        long start = SLIDE_TIMER.start();
         Tile newExtra = null;
 
-        // Logique de décalage selon la direction
+        // Logique de décalage selon la direction (identités et orientations ensemble)
+        int last = size - 1;
+        int row = index * size;
         if (dir == Direction.RIGHT) {
-            newExtra = grid[index][6]; // La dernière tuile sort
-            System.arraycopy(grid[index], 0, grid[index], 1, 6); // Décalage
-            grid[index][0] = extraTile; // Insertion au début
+            newExtra = tileAt(row + last); // La dernière tuile sort
+            shift(row, row + 1, last); // Décalage
+            place(row, extraTile); // Insertion au début
         } else if (dir == Direction.LEFT) {
-            newExtra = grid[index][0];
-            System.arraycopy(grid[index], 1, grid[index], 0, 6);
-            grid[index][6] = extraTile;
+            newExtra = tileAt(row);
+            shift(row + 1, row, last);
+            place(row + last, extraTile);
         } else if (dir == Direction.DOWN) {
-            newExtra = grid[6][index];
-            for (int i = 6; i > 0; i--) grid[i][index] = grid[i - 1][index];
-            grid[0][index] = extraTile;
+            newExtra = tileAt(last * size + index);
+            for (int cell = last * size + index; cell > index; cell -= size) move(cell - size, cell);
+            place(index, extraTile);
         } else if (dir == Direction.UP) {
-            newExtra = grid[0][index];
-            for (int i = 0; i < 6; i++) grid[i][index] = grid[i + 1][index];
-            grid[6][index] = extraTile;
+            newExtra = tileAt(index);
+            for (int cell = index; cell < last * size + index; cell += size) move(cell + size, cell);
+            place(last * size + index, extraTile);
         }
 
         // La tuile éjectée devient la nouvelle tuile en main
         extraTile = newExtra;
+
+        SLIDE_TIMER.stop(start);
+        if (event.shouldCommit()) {
+            event.direction = dir.name();
+            event.index = index;
+            event.size = size;
+            event.commit();
+        }
+    }
+
+    /**
+     * Gets the oriented tile of a cell (a shared instance: nothing is allocated).
+     */
+    private Tile tileAt(int cell) {
+        return tiles[cell].withRotation(turns[cell] * 90);
+    }
+
+    /**
+     * Puts a tile on a cell, its identity and its orientation apart.
+     */
+    private void place(int cell, Tile tile) {
+        tiles[cell] = tile.withRotation(0);
+        turns[cell] = (byte) (tile.getRotation() / 90);
+    }
+
+    private void move(int from, int to) {
+        tiles[to] = tiles[from];
+        turns[to] = turns[from];
+    }
+
+    private void shift(int from, int to, int length) {
+        System.arraycopy(tiles, from, tiles, to, length);
+        System.arraycopy(turns, from, turns, to, length);
     }
 
     /**
@@ -233,6 +348,10 @@ public class Board {
      * @return A set of all reachable positions.
      */
     public Set<Position> getReachablePositions(Position start) {
+        // Pas d'événement alloué tant qu'aucun enregistrement ne le demande
+        ReachabilityEvent event = ReachabilityEvent.isRecorded() ? new ReachabilityEvent() : null;
+        if (event != null) event.begin();
+        REACHABILITY_QUERIES.increment();
         Set<Position> visited = new HashSet<>();
         Queue<Position> queue = new LinkedList<>();
 
@@ -242,7 +361,7 @@ public class Board {
 
         while (!queue.isEmpty()) {
             Position current = queue.poll();
-            Tile currentTile = grid[current.row()][current.col()];
+            Tile currentTile = getTile(current.row(), current.col());
 
             // Pour chaque direction ouverte sur la tuile actuelle
             for (Direction dir : currentTile.getConnectors()) {
@@ -250,7 +369,7 @@ public class Board {
 
                 // Si la case voisine existe (est dans la grille)
                 if (isValid(neighborPos)) {
-                    Tile neighborTile = grid[neighborPos.row()][neighborPos.col()];
+                    Tile neighborTile = getTile(neighborPos.row(), neighborPos.col());
 
                     // Vérification CRUCIALE : Connexion mutuelle
                     // Le voisin doit avoir une ouverture vers la case d'où l'on vient
@@ -261,6 +380,13 @@ public class Board {
                 }
             }
         }
+
+        if (event != null && event.shouldCommit()) {
+            event.start = start.row() * size + start.col();
+            event.reached = visited.size();
+            event.engine = "Board";
+            event.commit();
+        }
         return visited;
     }
 
@@ -270,7 +396,7 @@ public class Board {
      * @return true if valid.
      */
     private boolean isValid(Position p) {
-        return p.row() >= 0 && p.row() < 7 && p.col() >= 0 && p.col() < 7;
+        return p.row() >= 0 && p.row() < size && p.col() >= 0 && p.col() < size;
     }
 
     /**
@@ -278,9 +404,9 @@ public class Board {
      *
      * @param row The row index.
      * @param col The column index.
-     * @return The Tile object.
+     * @return The Tile object, in the orientation of the cell.
      */
-    public Tile getTile(int row, int col) { return grid[row][col]; }
+    public Tile getTile(int row, int col) { return tileAt(row * size + col); }
 
     /**
      * Gets the current extra tile (the one in hand).
@@ -288,4 +414,110 @@ public class Board {
      * @return The extra Tile.
      */
     public Tile getExtraTile() { return extraTile; }
-}
\ No newline at end of file
+
+    /**
+     * Rotates the extra tile 90 degrees.
+     *
+     * @param clockwise true for a clockwise quarter turn, false for a counter-clockwise one.
+     */
+    public void rotateExtraTile(boolean clockwise) {
+        extraTile = clockwise ? extraTile.rotated() : extraTile.rotatedCounterClockwise();
+    }
+
+    /**
+     * Gets the number of rows (and columns) of the board.
+     *
+     * @return The size, an odd number.
+     */
+    public int getSize() { return size; }
+
+    /**
+     * Gets the indices of the rows and columns that can be slid (the odd ones).
+     *
+     * @return A new array {1, 3, ..., size - 2}.
+     */
+    public int[] getMobileIndices() {
+        int[] indices = new int[size / 2];
+        for (int i = 0; i < indices.length; i++) indices[i] = 2 * i + 1;
+        return indices;
+    }
+
+    /**
+     * Gets the names of all the treasures of the board (corners excluded), which make up the deck of objectives.
+     *
+     * @return An unmodifiable view of the treasure names.
+     */
+    public List<String> getTreasures() { return Collections.unmodifiableList(treasures); }
+
+    /**
+     * Gets the canonical id of a treasure: its rank in the sorted names of the board, plus one.
+     * The set of names only depends on the size of the board, so ids are the same in every game.
+     *
+     * @param name The treasure name, or null.
+     * @return The id, or 0 for no treasure (or a corner).
+     */
+    public int treasureId(String name) {
+        if (name == null) return 0;
+        int rank = Collections.binarySearch(sortedTreasures(), name);
+        return (rank < 0) ? 0 : rank + 1;
+    }
+
+    /**
+     * Gets the treasure of a canonical id.
+     *
+     * @param id The id given by {@link #treasureId(String)}.
+     * @return The name, or null for 0.
+     */
+    String treasureName(int id) {
+        return (id == 0) ? null : sortedTreasures().get(id - 1);
+    }
+
+    private List<String> sortedTreasures() {
+        if (sortedTreasures == null) {
+            List<String> sorted = new ArrayList<>(treasures);
+            Collections.sort(sorted);
+            sortedTreasures = sorted;
+        }
+        return sortedTreasures;
+    }
+
+    /**
+     * Puts a tile of the deck on a cell (restoration of a saved position): the shared tile of that shape and
+     * treasure, its orientation going to the orientation of the cell.
+     *
+     * @param row      The row index.
+     * @param col      The column index.
+     * @param shape    The shape of the tile.
+     * @param treasure The treasure of the tile, or null.
+     * @param rotation The rotation in degrees.
+     * @throws IllegalArgumentException if the deck has no such tile.
+     */
+    void restoreTile(int row, int col, Tile.Shape shape, String treasure, int rotation) {
+        int cell = row * size + col;
+        tiles[cell] = deckTile(shape, treasure);
+        turns[cell] = (byte) (Math.floorMod(rotation, 360) / 90);
+    }
+
+    /**
+     * Makes a tile of the deck the extra tile (restoration of a saved position).
+     *
+     * @param shape    The shape of the tile.
+     * @param treasure The treasure of the tile, or null.
+     * @param rotation The rotation in degrees.
+     * @throws IllegalArgumentException if the deck has no such tile.
+     */
+    void restoreExtraTile(Tile.Shape shape, String treasure, int rotation) {
+        extraTile = deckTile(shape, treasure).withRotation(rotation);
+    }
+
+    /**
+     * Finds the shared identity of a mobile tile. The plain corridors of a shape are interchangeable:
+     * the first one of the deck stands for all of them.
+     */
+    private Tile deckTile(Tile.Shape shape, String treasure) {
+        for (Tile t : deck) {
+            if (t.getShape() == shape && Objects.equals(t.getTreasure(), treasure)) return t;
+        }
+        throw new IllegalArgumentException("No " + shape + " tile with treasure " + treasure + " in the deck");
+    }
+}
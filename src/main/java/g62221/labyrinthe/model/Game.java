@@ -1,5 +1,6 @@
 package g62221.labyrinthe.model;
 
+import g62221.labyrinthe.model.observer.GameEvent;
 import g62221.labyrinthe.model.observer.Observable;
 import java.util.*;
 
@@ -12,15 +13,17 @@ import java.util.*;
  * </p>
  * <p>
  * It extends {@link Observable} to notify registered observers (like the View)
- * whenever the game state changes.
+ * whenever the game state changes, with a typed {@link GameEvent} describing each change.
  * </p>
  */
 public class Game extends Observable {
 
     private final Board board;
+    private final Random random;
     private final List<Player> players;
     private int currentPlayerIndex;
     private Player winner;
+    private boolean humanPlayer = true; // false : toutes les places sont tenues par des bots (spectateur)
 
     /**
      * Represents the possible states of a game turn.
@@ -40,11 +43,34 @@ public class Game extends Observable {
     private int forbiddenIndex = -1;
 
     /**
-     * Constructs a new Game instance.
+     * Constructs a new Game instance on the standard 7x7 board.
      * Initializes the board and the player list.
      */
     public Game() {
-        this.board = new Board();
+        this(Board.DEFAULT_SIZE);
+    }
+
+    /**
+     * Constructs a new Game instance on a board of the given size.
+     *
+     * @param boardSize The size of the board (odd, at least 3).
+     * @throws IllegalArgumentException if the size is invalid.
+     */
+    public Game(int boardSize) {
+        this(boardSize, new Random());
+    }
+
+    /**
+     * Constructs a new Game instance whose boards and card deals are drawn from the given generator.
+     * With the same seed and the same moves, two games are identical (self-play, replays).
+     *
+     * @param boardSize The size of the board (odd, at least 3).
+     * @param random    The source of randomness of the game.
+     * @throws IllegalArgumentException if the size is invalid.
+     */
+    public Game(int boardSize, Random random) {
+        this.random = random;
+        this.board = new Board(boardSize, random);
         this.players = new ArrayList<>();
         this.currentState = State.WAITING_FOR_SLIDE;
     }
@@ -59,19 +85,31 @@ public class Game extends Observable {
      * @param nbPlayers The number of players (between 2 and 4).
      */
     public void start(int nbPlayers) {
+        start(nbPlayers, true);
+    }
+
+    /**
+     * Starts a new game, optionally without any human player.
+     *
+     * @param nbPlayers   The number of players (between 2 and 4).
+     * @param humanPlayer true if Player 0 is the human user, false if every seat is a bot.
+     */
+    public void start(int nbPlayers, boolean humanPlayer) {
         // Nettoyage de la liste des joueurs pour garantir une nouvelle partie propre
         players.clear();
+        this.humanPlayer = humanPlayer;
         winner = null;
         forbiddenDirection = null;
         forbiddenIndex = -1;
         board.initializeBoard();
 
         // Définition des positions de départ dans les 4 coins du plateau
-        // P1: Bas-Gauche (6,0), P2: Bas-Droite (6,6), P3: Haut-Droite (0,6), P4: Haut-Gauche (0,0)
+        // P1: Bas-Gauche (6,0), P2: Bas-Droite (6,6), P3: Haut-Droite (0,6), P4: Haut-Gauche (0,0) en 7x7
+        int last = board.getSize() - 1;
         Position[] starts = {
-                new Position(6, 0),
-                new Position(6, 6),
-                new Position(0, 6),
+                new Position(last, 0),
+                new Position(last, last),
+                new Position(0, last),
                 new Position(0, 0)
         };
 
@@ -86,35 +124,40 @@ public class Game extends Observable {
         // Le premier joueur commence, phase d'insertion
         currentPlayerIndex = 0;
         currentState = State.WAITING_FOR_SLIDE;
-        notifyObservers();
+        notifyObservers(new GameEvent.GameStarted(nbPlayers));
     }
 
     /**
      * Checks if the current player is an AI bot.
      * <p>
      * By convention in this project, Player 0 is the human user, and all other players are bots.
+     * In a bot-only game (see {@link #start(int, boolean)}), every player is a bot.
      * </p>
      *
      * @return true if the current player is a bot, false otherwise.
      */
     public boolean isCurrentPlayerBot() {
-        return currentPlayerIndex != 0;
+        return !humanPlayer || currentPlayerIndex != 0;
+    }
+
+    /**
+     * Checks if a human user takes part in the game.
+     *
+     * @return true if Player 0 is human, false in a bot-only game.
+     */
+    public boolean hasHumanPlayer() {
+        return humanPlayer;
     }
 
     /**
-     * Distributes the 24 treasure cards randomly and equally among players.
+     * Distributes the treasure cards (24 on the standard board) randomly and equally among players.
      */
     private void distributeCards() {
-        // Liste complète des 24 trésors disponibles dans le jeu
-        List<String> allTreasures = new ArrayList<>(Arrays.asList(
-                "goal_bat", "goal_butteryfly", "goal_dragon", "goal_ghost", "goal_ghost2", "goal_hibou",
-                "goal_insecte", "goal_lezard", "goal_mouse", "goal_pig", "goal_spider", "goal_witch",
-                "goal_book", "goal_candleholder", "goal_coffre", "goal_crown", "goal_helmet", "goal_keys",
-                "goal_map", "goal_money", "goal_ring", "goal_saphir", "goal_skull", "goal_sword"
-        ));
+        // Liste complète des trésors présents sur le plateau
+        List<String> allTreasures = new ArrayList<>(board.getTreasures());
 
         // Mélange aléatoire du paquet
-        Collections.shuffle(allTreasures);
+        Collections.shuffle(allTreasures, random);
 
         // Calcul du nombre de cartes par joueur
         int cardsPerPlayer = allTreasures.size() / players.size();
@@ -152,6 +195,7 @@ public class Game extends Observable {
 
         // Modification physique du plateau (glissement)
         board.slide(dir, index);
+        notifyObservers(new GameEvent.TileSlid(dir, index));
 
         // Gestion des joueurs qui seraient poussés hors du plateau (Pac-Man effect)
         handlePlayerExpulsion(dir, index);
@@ -162,7 +206,7 @@ public class Game extends Observable {
 
         // Changement de phase : le joueur doit maintenant se déplacer
         currentState = State.WAITING_FOR_MOVE;
-        notifyObservers();
+        notifyObservers(new GameEvent.TurnChanged(currentPlayerIndex, currentState));
     }
 
     /**
@@ -187,7 +231,9 @@ public class Game extends Observable {
         }
 
         // Mise à jour de la position du joueur
+        Position from = currentP.getPosition();
         currentP.setPosition(destination);
+        notifyObservers(new GameEvent.PlayerMoved(currentPlayerIndex, from, destination));
 
         // Vérifie si le joueur est arrivé sur son trésor
         checkObjective(currentP);
@@ -196,13 +242,13 @@ public class Game extends Observable {
         if (checkVictory(currentP)) {
             currentState = State.GAME_OVER;
             this.winner = currentP;
+            notifyObservers(new GameEvent.GameOver(currentP.getId()));
         } else {
             // Fin du tour, passage au joueur suivant
             currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
             currentState = State.WAITING_FOR_SLIDE;
+            notifyObservers(new GameEvent.TurnChanged(currentPlayerIndex, currentState));
         }
-
-        notifyObservers();
     }
 
     /**
@@ -218,6 +264,7 @@ public class Game extends Observable {
         // Si la tuile contient un trésor et que c'est celui recherché par le joueur
         if (target != null && currentTile.hasTreasure() && target.equals(currentTile.getTreasure())) {
             p.objectiveFound();
+            notifyObservers(new GameEvent.ObjectiveFound(p.getId(), target));
         }
     }
 
@@ -240,24 +287,32 @@ public class Game extends Observable {
      * @param index The row or column index being slid.
      */
     private void handlePlayerExpulsion(Direction dir, int index) {
+        int size = board.getSize();
         for (Player p : players) {
             Position pos = p.getPosition();
+            Position newPos = null;
 
-            // Si on pousse vers la Droite et que le joueur est au bout (col 6) -> retour à 0
+            // Si on pousse vers la Droite et que le joueur est au bout (dernière colonne) -> retour à 0
             if (dir == Direction.RIGHT && pos.row() == index) {
-                p.setPosition(new Position(pos.row(), (pos.col() + 1) % 7));
+                newPos = new Position(pos.row(), (pos.col() + 1) % size);
             }
-            // Si on pousse vers la Gauche et que le joueur est au bout (col 0) -> retour à 6
+            // Si on pousse vers la Gauche et que le joueur est au bout (col 0) -> retour à la dernière
             else if (dir == Direction.LEFT && pos.row() == index) {
-                p.setPosition(new Position(pos.row(), (pos.col() - 1 + 7) % 7));
+                newPos = new Position(pos.row(), (pos.col() - 1 + size) % size);
             }
-            // Si on pousse vers le Bas et que le joueur est en bas (row 6) -> retour à 0
+            // Si on pousse vers le Bas et que le joueur est en bas (dernière ligne) -> retour à 0
             else if (dir == Direction.DOWN && pos.col() == index) {
-                p.setPosition(new Position((pos.row() + 1) % 7, pos.col()));
+                newPos = new Position((pos.row() + 1) % size, pos.col());
             }
-            // Si on pousse vers le Haut et que le joueur est en haut (row 0) -> retour à 6
+            // Si on pousse vers le Haut et que le joueur est en haut (row 0) -> retour à la dernière
             else if (dir == Direction.UP && pos.col() == index) {
-                p.setPosition(new Position((pos.row() - 1 + 7) % 7, pos.col()));
+                newPos = new Position((pos.row() - 1 + size) % size, pos.col());
+            }
+
+            // Le pion est emporté par la rangée : on le signale comme un déplacement
+            if (newPos != null) {
+                p.setPosition(newPos);
+                notifyObservers(new GameEvent.PlayerMoved(p.getId(), pos, newPos));
             }
         }
     }
@@ -278,6 +333,7 @@ public class Game extends Observable {
     public String getPlayerCurrentObjective(int index) { return players.get(index).getCurrentObjective(); }
     public int getPlayerCardsCount(int index) { return players.get(index).getCardsRemaining(); }
     public List<String> getPlayerFoundObjectives(int index) { return players.get(index).getFoundObjectives(); }
+    List<String> getPlayerHiddenObjectives(int index) { return players.get(index).getHiddenObjectives(); } // Sans copie, lecture seule
     public Player getWinner() { return winner; }
     public Direction getForbiddenDirection() { return forbiddenDirection; }
     public int getForbiddenIndex() { return forbiddenIndex; }
@@ -330,6 +386,16 @@ public class Game extends Observable {
         players.get(index).restoreState(state);
     }
 
+    /**
+     * Reverts the last treasure found by a player (see {@link Player#undoObjectiveFound()}).
+     *
+     * @param index The index of the player.
+     */
+    public void undoObjectiveFound(int index) {
+        // Annule le dernier trésor trouvé sans passer par un instantané complet du joueur
+        players.get(index).undoObjectiveFound();
+    }
+
     /**
      * Resets the winner of the game.
      * <p>
@@ -341,4 +407,22 @@ public class Game extends Observable {
         // Réinitialise le gagnant à null (nécessaire si on annule le coup de la victoire)
         this.winner = null;
     }
+
+    /**
+     * Sets the player to play (restoration of a saved position).
+     *
+     * @param index The player index.
+     */
+    void setCurrentPlayerIndex(int index) {
+        this.currentPlayerIndex = index;
+    }
+
+    /**
+     * Sets the winner (restoration of a saved position).
+     *
+     * @param index The index of the winner, or -1 if nobody has won.
+     */
+    void setWinner(int index) {
+        this.winner = (index < 0) ? null : players.get(index);
+    }
 }
\ No newline at end of file
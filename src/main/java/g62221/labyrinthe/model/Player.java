@@ -70,6 +70,19 @@ public class Player {
         }
     }
 
+    /**
+     * Reverts the last {@link #objectiveFound()}: the found treasure becomes the current objective again,
+     * and the objective revealed by it goes back on top of the stack.
+     */
+    public void undoObjectiveFound() {
+        if (foundObjectives.isEmpty()) return;
+        // Opération inverse exacte : sans copie des listes
+        if (this.currentObjective != null) {
+            this.objectives.push(this.currentObjective);
+        }
+        this.currentObjective = foundObjectives.remove(foundObjectives.size() - 1);
+    }
+
     // --- Memento Pattern for Undo/Redo ---
 
     /**
@@ -148,4 +161,10 @@ public class Player {
     public int getId() { return id; }
 
     public List<String> getFoundObjectives() { return foundObjectives; }
+
+    /**
+     * Gets the hidden cards, bottom of the stack first, without copying them (unlike {@link #saveState()}).
+     * @return The live stack: read only.
+     */
+    List<String> getHiddenObjectives() { return objectives; }
 }
\ No newline at end of file
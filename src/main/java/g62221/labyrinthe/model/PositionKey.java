@@ -0,0 +1,265 @@
+package g62221.labyrinthe.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Canonical, immutable encoding of a game position into a few {@code long}s.
+ * <p>
+ * Two games in the same position (same tiles and orientations, same pawns, same cards in the same order,
+ * same turn, phase and forbidden slide) give equal keys, whatever their history: keys can be compared,
+ * hashed and used in maps to cache results or to deduplicate positions. Restoring a key into a game of the
+ * same size and number of players ({@link #restore(Game)}) gives the position back.
+ * </p>
+ * <p>
+ * Only what can change is encoded. The fixed tiles only depend on the size of the board and are skipped;
+ * each mobile tile and the extra tile take 4 bits of shape and rotation plus a treasure id, the rank of its
+ * name among the sorted treasures of the board (the same set in every game of a given size). A straight
+ * tile (I) is the same at 0° and 180°, and at 90° and 270°: its rotation is encoded modulo 180°, as the AI
+ * enumerates its orientations, so these positions share a key (and a restored straight tile is at 0° or
+ * 90°). Then come
+ * for each player its cell, its current objective, its hidden cards and its found treasures. On the
+ * standard board with four players, a key is 8 {@code long}s. The seat of the human player is not part
+ * of the position.
+ * </p>
+ */
+public final class PositionKey {
+
+    private final long[] words;
+    private final int hash;
+
+    private PositionKey(long[] words) {
+        this.words = words;
+        // Mélange des mots : les clés voisines tombent dans des seaux différents
+        long h = 0;
+        for (long w : words) h = (h ^ w) * 0x9E3779B97F4A7C15L;
+        this.hash = (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Encodes the current position of a game.
+     *
+     * @param game The game.
+     * @return Its key.
+     */
+    public static PositionKey of(Game game) {
+        Board board = game.getBoard();
+        int size = board.getSize();
+        Layout layout = new Layout(size, board.getTreasures().size());
+        BitWriter out = new BitWriter();
+
+        int nbPlayers = game.getPlayersCount();
+        out.write(size, 6);
+        out.write(nbPlayers, 3);
+        out.write(game.getCurrentPlayerIndex(), 2);
+        out.write(game.getState().ordinal(), 2);
+        Player winner = game.getWinner();
+        out.write((winner == null) ? 0 : winner.getId() + 1, 3);
+        Direction forbidden = game.getForbiddenDirection();
+        out.write((forbidden == null) ? 0 : forbidden.ordinal() + 1, 3);
+        out.write((forbidden == null) ? 0 : game.getForbiddenIndex(), layout.lineBits);
+
+        // Tuiles mobiles ligne par ligne, puis la tuile en main
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                if (!isFixed(r, c)) writeTile(out, board, board.getTile(r, c), layout);
+            }
+        }
+        writeTile(out, board, board.getExtraTile(), layout);
+
+        for (int p = 0; p < nbPlayers; p++) {
+            Position pos = game.getPlayerPosition(p);
+            out.write(pos.row() * size + pos.col(), layout.cellBits);
+            // Lecture directe des piles : pas de copie (Memento) à chaque encodage
+            out.write(board.treasureId(game.getPlayerCurrentObjective(p)), layout.treasureBits);
+            writeTreasures(out, board, game.getPlayerHiddenObjectives(p), layout);
+            writeTreasures(out, board, game.getPlayerFoundObjectives(p), layout);
+        }
+        return new PositionKey(out.toArray());
+    }
+
+    /**
+     * Sets a game to the position of this key.
+     *
+     * @param game A game of the same board size and number of players (its fixed tiles are kept).
+     * @throws IllegalArgumentException if the game does not match the key.
+     */
+    public void restore(Game game) {
+        Board board = game.getBoard();
+        BitReader in = new BitReader(words);
+        int size = in.read(6);
+        int nbPlayers = in.read(3);
+        if (size != board.getSize() || nbPlayers != game.getPlayersCount()) {
+            throw new IllegalArgumentException("Key of a " + size + "x" + size + " game with " + nbPlayers + " players");
+        }
+        Layout layout = new Layout(size, board.getTreasures().size());
+
+        game.setCurrentPlayerIndex(in.read(2));
+        game.forceState(Game.State.values()[in.read(2)]);
+        game.setWinner(in.read(3) - 1);
+        int forbidden = in.read(3);
+        int forbiddenIndex = in.read(layout.lineBits);
+        if (forbidden == 0) game.setForbiddenState(null, -1);
+        else game.setForbiddenState(Direction.values()[forbidden - 1], forbiddenIndex);
+
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                if (!isFixed(r, c)) readTile(in, board, layout, r, c);
+            }
+        }
+        readTile(in, board, layout, -1, -1);
+
+        for (int p = 0; p < nbPlayers; p++) {
+            int cell = in.read(layout.cellBits);
+            game.teleportPlayer(p, new Position(cell / size, cell % size));
+            String current = board.treasureName(in.read(layout.treasureBits));
+            List<String> stack = readTreasures(in, board, layout);
+            List<String> found = readTreasures(in, board, layout);
+            game.restorePlayerState(p, new Player.PlayerState(current, stack, found));
+        }
+    }
+
+    /**
+     * Gets the number of {@code long}s of the key.
+     *
+     * @return The length of the encoding.
+     */
+    public int length() {
+        return words.length;
+    }
+
+    /**
+     * Gets a 64-bit digest of the key, to compare positions without keeping their keys
+     * (e.g. the checkpoints of an archived game).
+     *
+     * @return The digest (equal keys give equal digests).
+     */
+    public long fingerprint() {
+        long h = words.length;
+        for (long w : words) {
+            h = (h ^ w) * 0x9E3779B97F4A7C15L;
+            h ^= h >>> 29;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        return o instanceof PositionKey other && hash == other.hash && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("PositionKey[");
+        for (int i = 0; i < words.length; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(String.format("%016x", words[i]));
+        }
+        return sb.append(']').toString();
+    }
+
+    private static boolean isFixed(int r, int c) {
+        return r % 2 == 0 && c % 2 == 0;
+    }
+
+    private static void writeTile(BitWriter out, Board board, Tile tile, Layout layout) {
+        out.write(tile.getShape().ordinal(), 2);
+        // Tuile droite symétrique : 180° donne les mêmes ouvertures que 0°
+        int quarters = tile.getRotation() / 90;
+        out.write(tile.getShape() == Tile.Shape.I ? quarters & 1 : quarters, 2);
+        out.write(board.treasureId(tile.getTreasure()), layout.treasureBits);
+    }
+
+    /**
+     * Reads a tile and puts the shared tile of the board's deck on its cell (row -1: the extra tile).
+     */
+    private static void readTile(BitReader in, Board board, Layout layout, int row, int col) {
+        Tile.Shape shape = Tile.Shape.values()[in.read(2)];
+        int rotation = in.read(2) * 90;
+        String treasure = board.treasureName(in.read(layout.treasureBits));
+        if (row < 0) board.restoreExtraTile(shape, treasure, rotation);
+        else board.restoreTile(row, col, shape, treasure, rotation);
+    }
+
+    private static void writeTreasures(BitWriter out, Board board, List<String> names, Layout layout) {
+        out.write(names.size(), layout.treasureBits);
+        for (int i = 0; i < names.size(); i++) out.write(board.treasureId(names.get(i)), layout.treasureBits);
+    }
+
+    private static List<String> readTreasures(BitReader in, Board board, Layout layout) {
+        int count = in.read(layout.treasureBits);
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) names.add(board.treasureName(in.read(layout.treasureBits)));
+        return names;
+    }
+
+    /**
+     * Widths of the variable fields, which depend on the size of the board.
+     */
+    private static final class Layout {
+        final int lineBits;
+        final int cellBits;
+        final int treasureBits;
+
+        Layout(int size, int treasures) {
+            this.lineBits = bitsFor(size - 1);
+            this.cellBits = bitsFor(size * size - 1);
+            this.treasureBits = bitsFor(treasures); // Ids de 1 à n, 0 = aucun ; sert aussi aux longueurs
+        }
+
+        private static int bitsFor(int max) {
+            return Math.max(1, 32 - Integer.numberOfLeadingZeros(max));
+        }
+    }
+
+    /**
+     * Appends fields of a few bits to a growing array of longs (least significant bits first).
+     */
+    private static final class BitWriter {
+        private long[] words = new long[8];
+        private int bits = 0;
+
+        void write(int value, int width) {
+            int word = bits >>> 6;
+            int shift = bits & 63;
+            if (word + 1 >= words.length) words = Arrays.copyOf(words, words.length * 2);
+            long v = value & ((1L << width) - 1);
+            words[word] |= v << shift;
+            // Champ à cheval sur deux mots
+            if (shift + width > 64) words[word + 1] |= v >>> (64 - shift);
+            bits += width;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(words, (bits + 63) >>> 6);
+        }
+    }
+
+    /**
+     * Reads back the fields written by a {@link BitWriter}.
+     */
+    private static final class BitReader {
+        private final long[] words;
+        private int bits = 0;
+
+        BitReader(long[] words) {
+            this.words = words;
+        }
+
+        int read(int width) {
+            int word = bits >>> 6;
+            int shift = bits & 63;
+            long v = words[word] >>> shift;
+            if (shift + width > 64) v |= words[word + 1] << (64 - shift);
+            bits += width;
+            return (int) (v & ((1L << width) - 1));
+        }
+    }
+}
@@ -9,8 +9,14 @@ import java.util.List;
  * A tile is defined by its pathway shape (I, L, T), its current orientation (rotation),
  * and optionally a treasure. It acts as a node in the graph structure used for pathfinding.
  * </p>
+ * <p>
+ * Tiles are immutable flyweights: the four orientations of a tile are built together and shared, and
+ * rotating a tile gives its sibling instead of changing it ({@link #rotated()}). A tile can therefore be
+ * referenced by any number of boards; the {@link Board} itself only keeps the identity of each tile and a
+ * byte of orientation per cell.
+ * </p>
  */
-public class Tile {
+public final class Tile {
 
     /**
      * Enumeration of the three possible pathway shapes.
@@ -25,12 +31,14 @@ public class Tile {
     }
 
     private final Shape shape;
-    private int rotation; // 0, 90, 180, 270 degrees
+    private final int rotation; // 0, 90, 180, 270 degrees
     private final String treasure;
     private final boolean fixed;
+    private final List<Direction> connectors;
+    private final Tile[] orientations; // Les 4 orientations de la même tuile, partagées
 
     /**
-     * Constructs a new Tile.
+     * Constructs a new Tile (and its three other orientations).
      *
      * @param shape    The geometric shape of the path (I, L, or T).
      * @param rotation The initial rotation in degrees (0, 90, 180, 270).
@@ -38,39 +46,71 @@ public class Tile {
      * @param fixed    True if the tile is glued to the board (cannot be slid).
      */
     public Tile(Shape shape, int rotation, String treasure, boolean fixed) {
+        this(shape, Math.floorMod(rotation, 360), treasure, fixed, new Tile[4]);
+        for (int q = 0; q < 4; q++) {
+            if (orientations[q] == null) new Tile(shape, q * 90, treasure, fixed, orientations);
+        }
+    }
+
+    private Tile(Shape shape, int rotation, String treasure, boolean fixed, Tile[] orientations) {
         this.shape = shape;
         this.rotation = rotation;
         this.treasure = treasure;
         this.fixed = fixed;
+        this.connectors = computeConnectors();
+        this.orientations = orientations;
+        orientations[rotation / 90] = this;
     }
 
     /**
-     * Rotates the tile 90 degrees clockwise.
+     * Gets this tile rotated 90 degrees clockwise.
+     *
+     * @return The shared tile of the next orientation.
      */
-    public void rotate() {
+    public Tile rotated() {
         // Utilisation du modulo pour garder l'angle entre 0 et 360
-        this.rotation = (this.rotation + 90) % 360;
+        return orientations[(rotation / 90 + 1) % 4];
     }
 
     /**
-     * Rotates the tile 90 degrees counter-clockwise.
+     * Gets this tile rotated 90 degrees counter-clockwise.
+     *
+     * @return The shared tile of the previous orientation.
      */
-    public void rotateCounterClockwise() {
-        // Astuce mathématique : en Java, le modulo peut renvoyer un négatif.
-        // On ajoute 360 avant le modulo pour garantir un angle positif (ex: -90 + 360 = 270).
-        this.rotation = (this.rotation - 90 + 360) % 360;
+    public Tile rotatedCounterClockwise() {
+        // On ajoute 4 quarts de tour avant le modulo pour garantir un indice positif
+        return orientations[(rotation / 90 + 3) % 4];
+    }
+
+    /**
+     * Gets this tile in a given orientation.
+     *
+     * @param rotation The rotation in degrees (0, 90, 180, 270).
+     * @return The shared tile of that orientation.
+     */
+    public Tile withRotation(int rotation) {
+        return orientations[Math.floorMod(rotation, 360) / 90];
+    }
+
+    /**
+     * Gets the open directions of the tile, computed once from its shape and rotation.
+     *
+     * @return An unmodifiable list of the Directions where this tile has an opening.
+     */
+    public List<Direction> getConnectors() {
+        return connectors;
     }
 
     /**
      * Computes the open directions based on shape and current rotation.
      * <p>
      * This method calculates which sides of the tile are "open" by taking the base shape
-     * and applying the current rotation dynamically.
+     * and applying the current rotation.
      * </p>
      *
      * @return A list of Directions where this tile has an opening.
      */
-    public List<Direction> getConnectors() {
+    private List<Direction> computeConnectors() {
         List<Direction> baseConnectors = new ArrayList<>();
 
         // 1. Définition des connexions de base (comme si la rotation était 0°)
@@ -90,7 +130,7 @@ public class Tile {
             }
         }
 
-        // 2. Application de la rotation dynamique sur chaque connecteur
+        // 2. Application de la rotation sur chaque connecteur
         List<Direction> rotatedConnectors = new ArrayList<>();
         int steps = rotation / 90; // Nombre de quarts de tour à effectuer
 
@@ -102,7 +142,7 @@ public class Tile {
             }
             rotatedConnectors.add(newDir);
         }
-        return rotatedConnectors;
+        return List.copyOf(rotatedConnectors);
     }
 
     /**
@@ -111,7 +151,7 @@ public class Tile {
      * @param dir The original direction.
      * @return The new rotated direction.
      */
-    private Direction rotateDirection90(Direction dir) {
+    private static Direction rotateDirection90(Direction dir) {
         return switch (dir) {
             case UP -> Direction.RIGHT;
             case RIGHT -> Direction.DOWN;
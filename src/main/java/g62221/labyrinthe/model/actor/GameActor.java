@@ -0,0 +1,300 @@
+package g62221.labyrinthe.model.actor;
+
+import g62221.labyrinthe.model.Board;
+import g62221.labyrinthe.model.Direction;
+import g62221.labyrinthe.model.Position;
+import g62221.labyrinthe.model.Tile;
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Single-writer wrapper (actor) around one game.
+ * <p>
+ * {@code Game}, {@code Board} and {@code Player} are plain mutable objects without synchronization.
+ * The actor makes them safe to share between threads: every mutation is a message put in a mailbox,
+ * and the messages are applied one at a time, in order, by a single writer. After each message the
+ * writer publishes an immutable {@link GameSnapshot} through a volatile reference, so readers never
+ * lock and never block the writer.
+ * </p>
+ * <p>
+ * The actor owns no thread: its mailbox is drained on a shared executor, and at most one drain runs
+ * at a time. Thousands of actors can therefore share a small pool.
+ * </p>
+ */
+public class GameActor {
+
+    // Nombre de messages traités avant de rendre la main à l'exécuteur (équité entre acteurs)
+    private static final int BATCH = 64;
+
+    private final LabyrinthFacade facade; // Accédée uniquement par l'écrivain
+    private final Executor executor;
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    private volatile GameSnapshot snapshot;
+    private long version = 0;
+    private final List<Consumer<GameSnapshot>> listeners = new CopyOnWriteArrayList<>();
+
+    // Cache des cellules du dernier snapshot : une tuile inchangée réutilise sa cellule immuable
+    private Tile[] lastTiles = new Tile[0];
+    private int[] lastRotations = new int[0];
+    private GameSnapshot.Cell[] lastCells = new GameSnapshot.Cell[0];
+
+    /**
+     * Creates an actor whose messages run on the common fork-join pool.
+     */
+    public GameActor() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates an actor whose messages run on the given executor.
+     *
+     * @param executor The executor draining the mailbox.
+     */
+    public GameActor(Executor executor) {
+        this(executor, Board.DEFAULT_SIZE);
+    }
+
+    /**
+     * Creates an actor playing on a board of the given size.
+     *
+     * @param executor  The executor draining the mailbox.
+     * @param boardSize The size of the board (odd, at least 3).
+     */
+    public GameActor(Executor executor, int boardSize) {
+        this.facade = new LabyrinthFacade(boardSize);
+        this.executor = executor;
+        this.snapshot = buildSnapshot();
+    }
+
+    /**
+     * Gets the last published state. Never blocks.
+     *
+     * @return The most recent snapshot.
+     */
+    public GameSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Registers a listener called on the writer after each published snapshot.
+     * <p>
+     * Listeners see every snapshot, in order. They must be quick (they delay the next message)
+     * and must not wait for a message of this actor.
+     * </p>
+     *
+     * @param listener The action receiving each new snapshot.
+     */
+    public void addSnapshotListener(Consumer<GameSnapshot> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a snapshot listener.
+     *
+     * @param listener The listener to remove.
+     */
+    public void removeSnapshotListener(Consumer<GameSnapshot> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Sends a message computing a result on the game.
+     * <p>
+     * The function runs on the writer, with exclusive access to the facade. It must not wait for
+     * another message of the same actor (it would wait for itself).
+     * </p>
+     *
+     * @param message The action to apply.
+     * @param <T>     The type of the result.
+     * @return A future completed with the result once the new snapshot is published.
+     */
+    public <T> CompletableFuture<T> ask(Function<LabyrinthFacade, T> message) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        mailbox.add(() -> {
+            try {
+                T value = message.apply(facade);
+                publish();
+                result.complete(value);
+            } catch (Throwable t) {
+                publish(); // L'action a pu modifier l'état avant d'échouer
+                result.completeExceptionally(t);
+            }
+        });
+        schedule();
+        return result;
+    }
+
+    /**
+     * Sends a message without result.
+     *
+     * @param message The action to apply.
+     * @return A future completed once the new snapshot is published.
+     */
+    public CompletableFuture<Void> tell(Consumer<LabyrinthFacade> message) {
+        return ask(f -> {
+            message.accept(f);
+            return null;
+        });
+    }
+
+    // --- Messages usuels ---
+
+    /**
+     * Starts a new game.
+     *
+     * @param nbPlayers   The number of players.
+     * @param humanPlayer true if Player 0 is human.
+     * @return A future completed when the game is started.
+     */
+    public CompletableFuture<Void> startGame(int nbPlayers, boolean humanPlayer) {
+        return tell(f -> f.startGame(nbPlayers, humanPlayer));
+    }
+
+    /**
+     * Inserts the extra tile.
+     *
+     * @param dir   The direction of the slide.
+     * @param index The row or column index.
+     * @return A future completed with false if the insertion was forbidden.
+     */
+    public CompletableFuture<Boolean> insertTile(Direction dir, int index) {
+        return ask(f -> f.insertTile(dir, index));
+    }
+
+    /**
+     * Moves the current player.
+     *
+     * @param row The target row.
+     * @param col The target column.
+     * @return A future completed when the move is applied (or ignored if invalid).
+     */
+    public CompletableFuture<Void> movePlayer(int row, int col) {
+        return tell(f -> f.movePlayer(row, col));
+    }
+
+    /**
+     * Rotates the extra tile clockwise.
+     *
+     * @return A future completed when the rotation is applied.
+     */
+    public CompletableFuture<Void> rotateExtraTile() {
+        return tell(LabyrinthFacade::rotateExtraTile);
+    }
+
+    /**
+     * Plays the turn of the current bot.
+     *
+     * @return A future completed when the turn is played.
+     */
+    public CompletableFuture<Void> playBot() {
+        return tell(LabyrinthFacade::playBot);
+    }
+
+    /**
+     * Undoes the last action.
+     *
+     * @return A future completed when the state is restored.
+     */
+    public CompletableFuture<Void> undo() {
+        return tell(LabyrinthFacade::undo);
+    }
+
+    /**
+     * Redoes the last undone action.
+     *
+     * @return A future completed when the action is re-applied.
+     */
+    public CompletableFuture<Void> redo() {
+        return tell(LabyrinthFacade::redo);
+    }
+
+    // --- Boîte aux lettres ---
+
+    private void schedule() {
+        // Un seul drain à la fois : c'est ce qui garantit l'écrivain unique
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        int processed = 0;
+        Runnable message;
+        while (processed < BATCH && (message = mailbox.poll()) != null) {
+            message.run();
+            processed++;
+        }
+        scheduled.set(false);
+        // Des messages sont arrivés pendant le drain (ou le lot est plein) : on se replanifie
+        if (!mailbox.isEmpty()) schedule();
+    }
+
+    private void publish() {
+        version++;
+        GameSnapshot published = buildSnapshot();
+        snapshot = published;
+        for (Consumer<GameSnapshot> listener : listeners) {
+            listener.accept(published);
+        }
+    }
+
+    /**
+     * Copies the current state of the facade into a new immutable snapshot. Runs on the writer only.
+     *
+     * @return The snapshot.
+     */
+    private GameSnapshot buildSnapshot() {
+        int size = facade.getBoardSize();
+        int nbCells = size * size;
+        if (lastCells.length != nbCells) {
+            lastTiles = new Tile[nbCells];
+            lastRotations = new int[nbCells];
+            lastCells = new GameSnapshot.Cell[nbCells];
+            Arrays.fill(lastRotations, -1);
+        }
+
+        GameSnapshot.Cell[] cells = new GameSnapshot.Cell[nbCells];
+        for (int i = 0; i < nbCells; i++) {
+            cells[i] = cellOf(i, facade.getTile(i / size, i % size));
+        }
+        Tile extra = facade.getExtraTile();
+
+        int nbPlayers = facade.getNbPlayers();
+        List<GameSnapshot.PlayerView> players = new ArrayList<>(nbPlayers);
+        for (int i = 0; i < nbPlayers; i++) {
+            Position start = facade.getPlayerStartPosition(i);
+            players.add(new GameSnapshot.PlayerView(i, facade.getPlayerPosition(i), start,
+                    facade.getPlayerCurrentObjective(i), facade.getPlayerCardsCount(i),
+                    List.copyOf(facade.getPlayerFoundObjectives(i))));
+        }
+
+        return new GameSnapshot(version, facade.getGameState(), nbPlayers == 0 ? 0 : facade.getCurrentPlayerIndex(),
+                facade.getWinnerId(), facade.getForbiddenDirection(), facade.getForbiddenIndex(),
+                size, List.of(cells),
+                new GameSnapshot.Cell(extra.getShape(), extra.getRotation(), extra.getTreasure(), extra.isFixed()),
+                List.copyOf(players));
+    }
+
+    private GameSnapshot.Cell cellOf(int index, Tile tile) {
+        if (lastTiles[index] != tile || lastRotations[index] != tile.getRotation()) {
+            lastTiles[index] = tile;
+            lastRotations[index] = tile.getRotation();
+            lastCells[index] = new GameSnapshot.Cell(tile.getShape(), tile.getRotation(), tile.getTreasure(), tile.isFixed());
+        }
+        return lastCells[index];
+    }
+}
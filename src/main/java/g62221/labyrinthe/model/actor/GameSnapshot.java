@@ -0,0 +1,68 @@
+package g62221.labyrinthe.model.actor;
+
+import g62221.labyrinthe.model.Direction;
+import g62221.labyrinthe.model.Game;
+import g62221.labyrinthe.model.Position;
+import g62221.labyrinthe.model.Tile;
+
+import java.util.List;
+
+/**
+ * Immutable copy of the whole state of a game at a given moment.
+ * <p>
+ * Snapshots are produced by the writer thread of a {@link GameActor} after each message and published
+ * through a volatile reference. Any number of threads (renderers, spectators, bots thinking off-thread)
+ * can read them without locking and without ever seeing a half-applied move.
+ * </p>
+ *
+ * @param version            Number of messages applied since the creation of the actor.
+ * @param state              The phase of the turn.
+ * @param currentPlayer      Index of the player whose turn it is.
+ * @param winnerId           Id of the winner, or -1 while the game is running.
+ * @param forbiddenDirection Direction forbidden by the anti-return rule (null if none).
+ * @param forbiddenIndex     Index forbidden by the anti-return rule (-1 if none).
+ * @param boardSize          Number of rows (and columns) of the board.
+ * @param cells              The tiles of the board, row by row.
+ * @param extraTile          The tile in hand.
+ * @param players            The players, by index.
+ */
+public record GameSnapshot(long version, Game.State state, int currentPlayer, int winnerId,
+                           Direction forbiddenDirection, int forbiddenIndex,
+                           int boardSize, List<Cell> cells, Cell extraTile, List<PlayerView> players) {
+
+    /**
+     * Immutable description of a tile.
+     *
+     * @param shape    The shape of the tile.
+     * @param rotation The rotation in degrees.
+     * @param treasure The treasure drawn on the tile (null if none).
+     * @param fixed    true if the tile can never move.
+     */
+    public record Cell(Tile.Shape shape, int rotation, String treasure, boolean fixed) {
+    }
+
+    /**
+     * Immutable description of a player.
+     *
+     * @param id             The player id.
+     * @param position       The current position of the pawn.
+     * @param start          The starting corner (where the player must come back to win).
+     * @param objective      The treasure currently searched (null when all are found).
+     * @param cardsRemaining The number of cards left.
+     * @param found          The treasures already found, in order.
+     */
+    public record PlayerView(int id, Position position, Position start, String objective,
+                             int cardsRemaining, List<String> found) {
+    }
+
+    /**
+     * Gets the tile at the given coordinates.
+     *
+     * @param row The row index.
+     * @param col The column index.
+     * @return The tile description.
+     */
+    public Cell cell(int row, int col) {
+        return cells.get(row * boardSize + col);
+    }
+}
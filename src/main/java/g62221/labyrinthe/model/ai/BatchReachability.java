@@ -0,0 +1,102 @@
+package g62221.labyrinthe.model.ai;
+
+import java.util.Arrays;
+
+/**
+ * Reachable regions of many independent positions, for throughput-bound jobs (analysis, tuning, large
+ * searches).
+ * <p>
+ * Each board is explored by one {@link ReachabilityEngine}, which only visits the region, and the results
+ * are kept board after board (array-of-structs): the reached flags of a board are contiguous, so reading
+ * the region of a board after the batch stays in cache. The engine and the result arrays are reused from
+ * one batch to the next, so a batch allocates nothing.
+ * </p>
+ * <p>
+ * Sweeping every cell of a block of boards at once, one SIMD lane per board ({@code jdk.incubator.vector}),
+ * was measured slower than this loop: the sweeps visit the whole board whatever the size of the region
+ * and need several passes, while a breadth-first search touches each reached cell once.
+ * {@code ReachabilityBenchmark} (Maven profile {@code jmh}) compares the batch with a bare loop over the
+ * engine. A batch is not thread-safe.
+ * </p>
+ */
+public final class BatchReachability {
+
+    private final int capacity;
+    private final int maxCells;
+    private final ReachabilityEngine engine;
+    private final boolean[] reached;
+    private final int[] counts;
+    private int size;
+    private int count;
+
+    /**
+     * Creates a batch.
+     *
+     * @param maxSize  The largest board size.
+     * @param capacity The maximum number of boards of a batch.
+     */
+    public BatchReachability(int maxSize, int capacity) {
+        this.capacity = capacity;
+        this.maxCells = maxSize * maxSize;
+        this.engine = new ReachabilityEngine(maxSize);
+        this.reached = new boolean[capacity * maxCells];
+        this.counts = new int[capacity];
+    }
+
+    /**
+     * Computes the reachable region of each board from its start cell.
+     *
+     * @param boards The boards (all of the same size).
+     * @param count  The number of boards (the first ones of the array).
+     * @param starts The start cell of each board.
+     * @throws IllegalArgumentException if there are too many boards or their sizes differ.
+     */
+    public void compute(PackedBoard[] boards, int count, int[] starts) {
+        if (count > capacity) throw new IllegalArgumentException("Too many boards: " + count + " > " + capacity);
+        this.count = count;
+        if (count == 0) return;
+        size = boards[0].size();
+        if (size * size > maxCells) throw new IllegalArgumentException("Board too large: " + size);
+        for (int b = 0; b < count; b++) {
+            if (boards[b].size() != size) throw new IllegalArgumentException("Boards of different sizes in a batch");
+        }
+
+        for (int b = 0; b < count; b++) {
+            // Les drapeaux d'un plateau sont contigus : effacement et écriture restent dans quelques lignes de cache
+            int base = b * maxCells;
+            Arrays.fill(reached, base, base + size * size, false);
+            counts[b] = engine.explore(boards[b], starts[b]);
+            for (int i = 0; i < counts[b]; i++) reached[base + engine.reachedCell(i)] = true;
+        }
+    }
+
+    /**
+     * Checks if a cell of a board is reachable from its start.
+     *
+     * @param board The board rank in the last batch.
+     * @param cell  The cell.
+     * @return true if reachable.
+     */
+    public boolean isReached(int board, int cell) {
+        return reached[board * maxCells + cell];
+    }
+
+    /**
+     * Counts the reachable cells of a board (its start included).
+     *
+     * @param board The board rank in the last batch.
+     * @return The number of reachable cells.
+     */
+    public int reachedCount(int board) {
+        return counts[board];
+    }
+
+    /**
+     * Gets the number of boards of the last batch.
+     *
+     * @return The count.
+     */
+    public int count() {
+        return count;
+    }
+}
@@ -0,0 +1,229 @@
+package g62221.labyrinthe.model.ai;
+
+import g62221.labyrinthe.model.Direction;
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+
+/**
+ * Exact solver of the last phase of the game, when the player to move has found all its treasures
+ * and only has to go back to its start.
+ * <p>
+ * The question is much narrower than during the treasure hunt: "whatever the opponents insert, can I be
+ * home within {@code n} of my turns?". The solver answers it by iterative deepening over an AND-OR tree:
+ * the player chooses an insertion and a destination (OR), every opponent then chooses an insertion (AND),
+ * and so on. The first depth with a proof is the minimum number of turns, and its first move is played.
+ * </p>
+ * <p>
+ * Pruning keeps the tree small:
+ * </p>
+ * <ul>
+ *     <li>only the insertions matter for the opponents: their pawns never block a path, and the depth is
+ *     capped so that no opponent can win first (one with {@code c} cards left needs {@code c + 1} turns);</li>
+ *     <li>orientations that give the same extra tile (I tiles) are tried once;</li>
+ *     <li>destinations are tried closest to home first, and an opponent reply that breaks the plan
+ *     refutes a destination at once;</li>
+ *     <li>the number of reachability explorations is bounded: past the budget the position is
+ *     reported as not provable.</li>
+ * </ul>
+ * <p>
+ * Like the other search classes, a solver reuses its boards and is not thread-safe.
+ * </p>
+ */
+public final class EndgameSolver {
+
+    /** Default maximum number of turns of a proof. */
+    public static final int DEFAULT_MAX_TURNS = 2;
+
+    /** Default maximum number of reachability explorations per call. */
+    public static final long DEFAULT_BUDGET = 50_000;
+
+    // Plateaux par niveau : pour chaque tour du joueur, le plateau après insertion, après déplacement,
+    // puis un par insertion adverse
+    private static final int BOARDS_PER_TURN = PackedBoard.MAX_PLAYERS + 1;
+
+    /**
+     * A proven win.
+     *
+     * @param turns The minimum number of turns of the player to win (1: this turn).
+     * @param move  The first turn to play.
+     */
+    public record Result(int turns, HeuristicSearch.Move move) {
+    }
+
+    private final int maxTurns;
+    private final long budget;
+    private final ReachabilityEngine engine;
+    private final PackedBoard root;
+    private final PackedBoard[] boards;
+    private final int[][] destinations;
+    private final int[][] insertions; // Insertions énumérées à chaque niveau
+    private final int[] keys;
+
+    private int player;
+    private int home;
+    private long explorations;
+    private boolean exhausted;
+    private HeuristicSearch.Move firstMove;
+
+    /**
+     * Creates a solver with the default depth and budget.
+     *
+     * @param maxSize The largest board size solved.
+     */
+    public EndgameSolver(int maxSize) {
+        this(maxSize, DEFAULT_MAX_TURNS, DEFAULT_BUDGET);
+    }
+
+    /**
+     * Creates a solver.
+     *
+     * @param maxSize  The largest board size solved.
+     * @param maxTurns The maximum number of turns of a proof.
+     * @param budget   The maximum number of reachability explorations per call.
+     */
+    public EndgameSolver(int maxSize, int maxTurns, long budget) {
+        this.maxTurns = maxTurns;
+        this.budget = budget;
+        this.engine = new ReachabilityEngine(maxSize);
+        this.root = new PackedBoard(maxSize);
+        this.boards = new PackedBoard[maxTurns * BOARDS_PER_TURN];
+        for (int i = 0; i < boards.length; i++) boards[i] = new PackedBoard(maxSize);
+        this.destinations = new int[boards.length][maxSize * maxSize];
+        this.insertions = new int[boards.length][HeuristicSearch.maxInsertions(maxSize)];
+        this.keys = new int[maxSize * maxSize];
+    }
+
+    /**
+     * Tries to prove a win for the current player of a game.
+     *
+     * @param facade The game.
+     * @return The proven win, or null if the player still has treasures to find, or if no win can be
+     *         proven within the depth and the budget.
+     */
+    public Result solve(LabyrinthFacade facade) {
+        root.load(facade);
+        return solve(root);
+    }
+
+    /**
+     * Tries to prove a win for the current player of a position.
+     *
+     * @param board The position (left unchanged).
+     * @return The proven win, or null if the player still has treasures to find, or if no win can be
+     *         proven within the depth and the budget.
+     */
+    public Result solve(PackedBoard board) {
+        player = board.currentPlayer();
+        if (board.cards(player) != 0) return null;
+        home = board.targetCell(player);
+        explorations = 0;
+        exhausted = false;
+        firstMove = null;
+
+        // Au-delà, un adversaire pourrait gagner avant nous : la preuve ne vaudrait plus rien
+        int limit = maxTurns;
+        for (int p = 0; p < board.playerCount(); p++) {
+            if (p != player) limit = Math.min(limit, board.cards(p) + 1);
+        }
+
+        for (int turns = 1; turns <= limit && !exhausted; turns++) {
+            if (canWin(board, turns, 0)) return new Result(turns, firstMove);
+        }
+        return null;
+    }
+
+    /**
+     * Gets the number of reachability explorations of the last call.
+     *
+     * @return The count.
+     */
+    public long getExplorations() {
+        return explorations;
+    }
+
+    /**
+     * OR node: can the player, to move on this board, be home within the given number of its turns?
+     */
+    private boolean canWin(PackedBoard board, int turns, int level) {
+        int size = board.size();
+        PackedBoard slid = boards[level];
+        int[] dest = destinations[level];
+
+        int[] moves = insertions[level];
+        int count = HeuristicSearch.insertions(board, moves);
+        for (int m = 0; m < count; m++) {
+            HeuristicSearch.play(slid, board, moves[m]);
+            Direction dir = HeuristicSearch.directionOf(moves[m]);
+            int index = HeuristicSearch.indexOf(moves[m]);
+            int rotation = HeuristicSearch.rotationOf(moves[m]);
+
+            if (++explorations > budget) {
+                exhausted = true;
+                return false;
+            }
+            engine.explore(slid, slid.playerCell(player));
+            if (engine.isReached(home)) {
+                if (level == 0) firstMove = new HeuristicSearch.Move(dir, index, rotation, home / size, home % size, 0);
+                return true;
+            }
+            if (turns == 1) continue;
+
+            // Chaque destination doit résister à toutes les insertions adverses
+            int reached = sortedDestinations(slid, dest);
+            PackedBoard moved = boards[level + 1];
+            for (int i = 0; i < reached; i++) {
+                moved.copyFrom(slid);
+                moved.moveTo(player, dest[i]);
+                if (survivesReplies(moved, next(moved, player), turns - 1, level + 2)) {
+                    if (level == 0) firstMove = new HeuristicSearch.Move(dir, index, rotation, dest[i] / size, dest[i] % size, 0);
+                    return true;
+                }
+                if (exhausted) return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * AND node: does the plan hold whatever the opponents insert, from the given opponent to the last one?
+     * The opponents stay in place: their moves change nothing to the paths of the player.
+     */
+    private boolean survivesReplies(PackedBoard board, int opponent, int turns, int level) {
+        if (opponent == player) return canWin(board, turns, level);
+        PackedBoard reply = boards[level];
+
+        int[] moves = insertions[level];
+        int count = HeuristicSearch.insertions(board, moves);
+        for (int m = 0; m < count; m++) {
+            HeuristicSearch.play(reply, board, moves[m]);
+            // Une seule réponse qui casse le plan suffit à le réfuter
+            if (!survivesReplies(reply, next(reply, opponent), turns, level + 1)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Collects the cells reachable in the last exploration, closest to home first.
+     */
+    private int sortedDestinations(PackedBoard board, int[] out) {
+        int size = board.size();
+        int count = engine.reachedCount();
+        for (int i = 0; i < count; i++) {
+            int cell = engine.reachedCell(i);
+            int key = Math.abs(cell / size - home / size) + Math.abs(cell % size - home % size);
+            // Tri par insertion : quelques dizaines de cases au plus
+            int j = i;
+            while (j > 0 && keys[j - 1] > key) {
+                keys[j] = keys[j - 1];
+                out[j] = out[j - 1];
+                j--;
+            }
+            keys[j] = key;
+            out[j] = cell;
+        }
+        return count;
+    }
+
+    private static int next(PackedBoard board, int p) {
+        return (p + 1) % board.playerCount();
+    }
+}
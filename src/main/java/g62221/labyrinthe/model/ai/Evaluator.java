@@ -0,0 +1,132 @@
+package g62221.labyrinthe.model.ai;
+
+/**
+ * Scores positions for the bots by combining weighted {@link Feature}s.
+ * <p>
+ * "Can I reach my treasure right now?" is a yes/no question: two positions where the answer is no
+ * are not equal if, in one of them, the pawn stands next to its treasure in a large open region while
+ * the opponents are walled in. The evaluator measures these differences on a {@link PackedBoard}.
+ * </p>
+ * <p>
+ * Evaluation runs at every leaf of a search: it allocates nothing (the searches, the scratch board, the
+ * feature vector and the list of insertions are preallocated) and is therefore <b>not</b> thread-safe.
+ * Use one evaluator per thread.
+ * A feature whose weight is zero is not computed.
+ * </p>
+ */
+public final class Evaluator {
+
+    private final Weights weights;
+    private final double[] weightValues;
+    private final ReachabilityEngine engine;
+    private final PackedBoard scratch;
+    private final int[] insertions;
+    private final double[] features = new double[Feature.COUNT];
+
+    /**
+     * Creates an evaluator for boards up to the given size.
+     *
+     * @param weights The weight of each feature.
+     * @param maxSize The largest board size evaluated.
+     */
+    public Evaluator(Weights weights, int maxSize) {
+        this.weights = weights;
+        this.weightValues = weights.toArray();
+        this.engine = new ReachabilityEngine(maxSize);
+        this.scratch = new PackedBoard(maxSize);
+        this.insertions = new int[HeuristicSearch.maxInsertions(maxSize)];
+    }
+
+    /**
+     * Gets the weights of this evaluator.
+     *
+     * @return The weight vector.
+     */
+    public Weights getWeights() {
+        return weights;
+    }
+
+    /**
+     * Scores a position for a player (the higher, the better for that player).
+     *
+     * @param board  The position.
+     * @param player The player index.
+     * @return The weighted sum of the features.
+     */
+    public double evaluate(PackedBoard board, int player) {
+        features(board, player, features);
+        return weights.dot(features);
+    }
+
+    /**
+     * Scores several positions for the same player.
+     *
+     * @param boards The positions.
+     * @param count  The number of positions to score (the first ones of the array).
+     * @param player The player index.
+     * @param scores Receives the score of each position.
+     */
+    public void evaluateBatch(PackedBoard[] boards, int count, int player, double[] scores) {
+        for (int i = 0; i < count; i++) {
+            scores[i] = evaluate(boards[i], player);
+        }
+    }
+
+    /**
+     * Computes the feature vector of a position (features with a zero weight are left at 0).
+     *
+     * @param board  The position.
+     * @param player The player index.
+     * @param out    Receives the values, in the order of {@link Feature}.
+     */
+    public void features(PackedBoard board, int player, double[] out) {
+        // Région accessible et approche de l'objectif (une seule exploration pour les deux)
+        int reachable = engine.explore(board, board.playerCell(player));
+        int target = board.targetCell(player);
+        out[Feature.TARGET_DISTANCE.ordinal()] = (target < 0) ? board.size() / 2.0 : engine.closestApproach(target);
+        out[Feature.REACHABLE_AREA.ordinal()] = (double) reachable / board.cellCount();
+
+        out[Feature.OPPONENT_DISTANCE.ordinal()] = isUsed(Feature.OPPONENT_DISTANCE) ? opponentDistance(board, player) : 0;
+        out[Feature.BLOCKING_INSERTIONS.ordinal()] = isUsed(Feature.BLOCKING_INSERTIONS) ? blockingInsertions(board, player) : 0;
+        out[Feature.CARDS_REMAINING.ordinal()] = board.cards(player);
+    }
+
+    private boolean isUsed(Feature feature) {
+        return weightValues[feature.ordinal()] != 0;
+    }
+
+    /**
+     * Smallest closest approach of an opponent to its target.
+     */
+    private double opponentDistance(PackedBoard board, int player) {
+        int best = Integer.MAX_VALUE;
+        for (int p = 0; p < board.playerCount(); p++) {
+            int target = board.targetCell(p);
+            if (p == player || target < 0) continue;
+            engine.explore(board, board.playerCell(p));
+            best = Math.min(best, engine.closestApproach(target));
+        }
+        // Aucun adversaire avec un objectif connu : aussi rassurant qu'un adversaire très loin
+        return (best == Integer.MAX_VALUE) ? board.size() : best;
+    }
+
+    /**
+     * Share of the insertions of the next opponent (every line, direction and orientation of the extra tile)
+     * after which it cannot reach its target.
+     */
+    private double blockingInsertions(PackedBoard board, int player) {
+        int opponent = (player + 1) % board.playerCount();
+        if (opponent == player) return 0;
+
+        // Même énumération que la recherche (une tuile I n'a que deux orientations distinctes)
+        int total = HeuristicSearch.insertions(board, insertions);
+        int blocked = 0;
+        for (int i = 0; i < total; i++) {
+            HeuristicSearch.play(scratch, board, insertions[i]);
+            int target = scratch.targetCell(opponent);
+            engine.explore(scratch, scratch.playerCell(opponent));
+            if (!engine.isReached(target)) blocked++;
+        }
+        return (total == 0) ? 0 : (double) blocked / total;
+    }
+}
@@ -0,0 +1,23 @@
+package g62221.labyrinthe.model.ai;
+
+/**
+ * The features measured by the {@link Evaluator}, from the point of view of one player.
+ * <p>
+ * The order of the constants is the order of the values in a feature vector and in {@link Weights}.
+ * </p>
+ */
+public enum Feature {
+    /** 0 if the target is reachable, otherwise how close (Manhattan) the reachable region comes to it. */
+    TARGET_DISTANCE,
+    /** Share of the board reachable by the pawn (0 to 1). */
+    REACHABLE_AREA,
+    /** Smallest closest approach of an opponent to its own target (0 = an opponent can reach it). */
+    OPPONENT_DISTANCE,
+    /** Share of the insertions of the next opponent that leave it without a path to its target (0 to 1). */
+    BLOCKING_INSERTIONS,
+    /** Number of treasure cards the player still has to find. */
+    CARDS_REMAINING;
+
+    /** Number of features (length of a feature vector). */
+    public static final int COUNT = values().length;
+}
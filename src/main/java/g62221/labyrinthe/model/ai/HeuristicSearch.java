@@ -0,0 +1,200 @@
+package g62221.labyrinthe.model.ai;
+
+import g62221.labyrinthe.model.Direction;
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+
+/**
+ * One-turn search of the bots: tries every insertion (line, direction and orientation of the extra tile)
+ * and keeps the one whose resulting position the {@link Evaluator} likes best.
+ * <p>
+ * For each insertion the pawn moves to the reachable cell closest to its target: its treasure if a path
+ * opens, otherwise the best approach. A move that collects the objective gets a bonus that dominates any
+ * evaluation, and the first move that wins the game is chosen at once. Ties keep the first insertion in
+ * the order of {@link #insertions(PackedBoard, int[])}, which {@link ParallelSearch} relies on to give the
+ * same answer. Like the evaluator, a search reuses its boards and is not thread-safe.
+ * </p>
+ */
+public final class HeuristicSearch {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    // Bonus d'un coup qui atteint l'objectif : il domine toute différence d'évaluation
+    private static final double TARGET_BONUS = 1_000;
+
+    /**
+     * A complete turn chosen by the search.
+     *
+     * @param direction The direction of the slide.
+     * @param index     The line to slide.
+     * @param rotations The number of clockwise quarter turns to give the extra tile before inserting it.
+     * @param row       The destination row of the pawn.
+     * @param col       The destination column of the pawn.
+     * @param score     The evaluation of the resulting position.
+     */
+    public record Move(Direction direction, int index, int rotations, int row, int col, double score) {
+    }
+
+    private final Evaluator evaluator;
+    private final ReachabilityEngine engine;
+    private final PackedBoard root;
+    private final PackedBoard child;
+    private final int[] insertions;
+    private int candidates = 0; // Insertions évaluées par la dernière recherche
+    private boolean won = false; // La dernière insertion évaluée gagne la partie
+
+    /**
+     * Creates a search for boards up to the given size.
+     *
+     * @param weights The weights of the evaluation.
+     * @param maxSize The largest board size searched.
+     */
+    public HeuristicSearch(Weights weights, int maxSize) {
+        this.evaluator = new Evaluator(weights, maxSize);
+        this.engine = new ReachabilityEngine(maxSize);
+        this.root = new PackedBoard(maxSize);
+        this.child = new PackedBoard(maxSize);
+        this.insertions = new int[maxInsertions(maxSize)];
+    }
+
+    /**
+     * Finds the best turn for the current player of a game.
+     *
+     * @param facade The game.
+     * @return The best move, or null if no insertion is allowed.
+     */
+    public Move bestMove(LabyrinthFacade facade) {
+        root.load(facade);
+        return bestMove(root);
+    }
+
+    /**
+     * Finds the best turn for the current player of a position.
+     *
+     * @param board The position (left unchanged).
+     * @return The best move, or null if no insertion is allowed.
+     */
+    public Move bestMove(PackedBoard board) {
+        int count = insertions(board, insertions);
+        Move best = null;
+        candidates = 0;
+        for (int i = 0; i < count; i++) {
+            Move move = evaluate(board, insertions[i]);
+            candidates++;
+            if (won) return move; // Rien ne peut faire mieux
+            if (best == null || move.score() > best.score()) best = move;
+        }
+        return best;
+    }
+
+    /**
+     * Lists the allowed insertions of a position, in search order: orientations of the extra tile (those
+     * giving the same tile only once), then directions, then lines.
+     *
+     * @param board The position.
+     * @param out   Receives the encoded insertions (at least {@link #maxInsertions(int)} long).
+     * @return The number of insertions.
+     */
+    static int insertions(PackedBoard board, int[] out) {
+        int size = board.size();
+        int count = 0;
+        int seenMasks = 0;
+        int mask = board.extraMask();
+        for (int rotation = 0; rotation < 4; rotation++, mask = PackedBoard.rotate(mask)) {
+            if ((seenMasks & (1 << mask)) != 0) continue; // Orientation déjà essayée
+            seenMasks |= 1 << mask;
+
+            for (Direction dir : DIRECTIONS) {
+                for (int index = 1; index < size - 1; index += 2) {
+                    if (board.isForbidden(dir, index)) continue;
+                    out[count++] = (rotation << 16) | (dir.ordinal() << 8) | index;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Plays an insertion on a copy of a position.
+     *
+     * @param target    Receives the position after the slide.
+     * @param board     The position (left unchanged).
+     * @param insertion An insertion encoded by {@link #insertions(PackedBoard, int[])}.
+     */
+    static void play(PackedBoard target, PackedBoard board, int insertion) {
+        target.copyFrom(board);
+        for (int k = rotationOf(insertion); k > 0; k--) target.rotateExtra();
+        target.slide(directionOf(insertion), indexOf(insertion));
+    }
+
+    /** @return The clockwise quarter turns of the extra tile of an encoded insertion. */
+    static int rotationOf(int insertion) {
+        return insertion >>> 16;
+    }
+
+    /** @return The direction of an encoded insertion. */
+    static Direction directionOf(int insertion) {
+        return DIRECTIONS[(insertion >>> 8) & 0xFF];
+    }
+
+    /** @return The line of an encoded insertion. */
+    static int indexOf(int insertion) {
+        return insertion & 0xFF;
+    }
+
+    /**
+     * Gets the maximum number of insertions of a board size.
+     *
+     * @param size The board size.
+     * @return The bound.
+     */
+    static int maxInsertions(int size) {
+        return 4 * DIRECTIONS.length * Math.max(1, size / 2);
+    }
+
+    /**
+     * Plays an insertion and the best movement after it, and scores the result.
+     *
+     * @param board     The position (left unchanged).
+     * @param insertion An insertion encoded by {@link #insertions(PackedBoard, int[])}.
+     * @return The move, whose score includes the objective bonuses.
+     */
+    Move evaluate(PackedBoard board, int insertion) {
+        int player = board.currentPlayer();
+        int size = board.size();
+        int rotation = rotationOf(insertion);
+        Direction dir = directionOf(insertion);
+        int index = indexOf(insertion);
+
+        play(child, board, insertion);
+
+        // Destination : la case accessible la plus proche de la cible (sur place si inconnue)
+        engine.explore(child, child.playerCell(player));
+        int target = child.targetCell(player);
+        int destination = (target < 0) ? child.playerCell(player) : engine.closestCell(target);
+        boolean onTarget = destination == target;
+
+        child.moveTo(player, destination);
+        double score = evaluator.evaluate(child, player);
+        won = onTarget && child.hasWon(player);
+        if (onTarget) score += won ? 2 * TARGET_BONUS : TARGET_BONUS;
+        return new Move(dir, index, rotation, destination / size, destination % size, score);
+    }
+
+    /**
+     * Checks if the last insertion given to {@link #evaluate(PackedBoard, int)} wins the game.
+     *
+     * @return true for a winning move.
+     */
+    boolean lastWon() {
+        return won;
+    }
+
+    /**
+     * Gets the number of insertions evaluated by the last search.
+     *
+     * @return The count.
+     */
+    public int getCandidates() {
+        return candidates;
+    }
+}
@@ -0,0 +1,234 @@
+package g62221.labyrinthe.model.ai;
+
+import g62221.labyrinthe.model.Direction;
+import g62221.labyrinthe.model.Position;
+import g62221.labyrinthe.model.Tile;
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Background analysis of every insertion open to the current player, to preview them on hover.
+ * <p>
+ * {@link #analyze(LabyrinthFacade)} copies the position into a {@link PackedBoard} on the calling thread
+ * (the one that owns the game) and plays each allowed line, direction and orientation of the extra tile on
+ * that copy in the background: the live game and its command history are never touched. Each
+ * {@link Preview} gives the cells the pawn can reach after the slide and whether its objective is among
+ * them. The whole analysis takes well under a millisecond on the standard board.
+ * </p>
+ * <p>
+ * Results are cached for the position: analyzing the same position again (the extra tile may have been
+ * rotated meanwhile) returns the same future, and analyzing another position cancels the pending one,
+ * which stops at its next insertion. {@link #analyze(LabyrinthFacade)}, {@link #current()} and
+ * {@link #cancel()} are called from one thread; the analyses themselves are immutable.
+ * </p>
+ */
+public final class InsertionPreview {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * Result of one insertion.
+     */
+    public static final class Preview {
+        private final Direction direction;
+        private final int index;
+        private final int size;
+        private final long[] reachable;
+        private final int reachableCount;
+        private final int pawnCell;
+        private final boolean objectiveReachable;
+
+        private Preview(Direction direction, int index, int size, long[] reachable, int reachableCount,
+                        int pawnCell, boolean objectiveReachable) {
+            this.direction = direction;
+            this.index = index;
+            this.size = size;
+            this.reachable = reachable;
+            this.reachableCount = reachableCount;
+            this.pawnCell = pawnCell;
+            this.objectiveReachable = objectiveReachable;
+        }
+
+        /** @return The direction of the slide. */
+        public Direction getDirection() { return direction; }
+
+        /** @return The slid line. */
+        public int getIndex() { return index; }
+
+        /**
+         * Checks if the pawn can reach a cell after the slide.
+         *
+         * @param row The row index.
+         * @param col The column index.
+         * @return true if the cell is reachable.
+         */
+        public boolean isReachable(int row, int col) {
+            int cell = row * size + col;
+            return (reachable[cell >>> 6] & (1L << cell)) != 0;
+        }
+
+        /** @return The number of reachable cells (the pawn's included). */
+        public int getReachableCount() { return reachableCount; }
+
+        /** @return The cell of the pawn after the slide (it may have been pushed along the line). */
+        public Position getPawnPosition() { return new Position(pawnCell / size, pawnCell % size); }
+
+        /** @return true if the objective of the player (or its start, once all found) becomes reachable. */
+        public boolean isObjectiveReachable() { return objectiveReachable; }
+    }
+
+    /**
+     * Previews of every insertion of a position.
+     */
+    public static final class Analysis {
+        private final int size;
+        private final Preview[] previews; // Indexées par (masque de la tuile en main, direction, ligne)
+
+        private Analysis(int size) {
+            this.size = size;
+            this.previews = new Preview[16 * DIRECTIONS.length * size];
+        }
+
+        /**
+         * Gets the preview of an insertion.
+         *
+         * @param direction The direction of the slide.
+         * @param index     The line.
+         * @param extra     The extra tile, in the orientation it would be inserted.
+         * @return The preview, or null if the insertion is not allowed (or the tile is not the analyzed one).
+         */
+        public Preview preview(Direction direction, int index, Tile extra) {
+            if (index < 0 || index >= size) return null;
+            return previews[slot(PackedBoard.maskOf(extra), direction, index)];
+        }
+
+        private int slot(int mask, Direction direction, int index) {
+            return (mask * DIRECTIONS.length + direction.ordinal()) * size + index;
+        }
+    }
+
+    private final Executor executor;
+    private final PackedBoard root;
+    private byte[] key;
+    private byte[] lastKey;
+    private CompletableFuture<Analysis> pending;
+
+    /**
+     * Creates a previewer.
+     *
+     * @param maxSize  The largest board size analyzed.
+     * @param executor The executor running the analyses (typically a single background thread).
+     */
+    public InsertionPreview(int maxSize, Executor executor) {
+        this.executor = executor;
+        this.root = new PackedBoard(maxSize);
+        this.key = new byte[PackedBoard.recordSize(maxSize)];
+        this.lastKey = new byte[key.length];
+    }
+
+    /**
+     * Starts the analysis of the current position, unless it is already analyzed or in progress.
+     *
+     * @param facade The game (read on the calling thread only).
+     * @return The future analysis.
+     */
+    public CompletableFuture<Analysis> analyze(LabyrinthFacade facade) {
+        root.load(facade);
+        // Clé indépendante de l'orientation de la tuile en main : toutes sont analysées
+        int best = root.extraMask();
+        int turns = 0;
+        for (int k = 1, mask = PackedBoard.rotate(best); k < 4; k++, mask = PackedBoard.rotate(mask)) {
+            if (mask < best) {
+                best = mask;
+                turns = k;
+            }
+        }
+        for (int k = 0; k < turns; k++) root.rotateExtra();
+        Arrays.fill(key, (byte) 0);
+        root.writeTo(key, 0);
+
+        if (pending != null && !pending.isCancelled() && Arrays.equals(key, lastKey)) return pending;
+        cancel();
+        byte[] swap = lastKey;
+        lastKey = key;
+        key = swap;
+
+        PackedBoard copy = new PackedBoard(root.size());
+        copy.copyFrom(root);
+        CompletableFuture<Analysis> future = new CompletableFuture<>();
+        pending = future;
+        executor.execute(() -> {
+            try {
+                Analysis analysis = analyze(copy, future::isDone);
+                if (analysis != null) future.complete(analysis);
+            } catch (RuntimeException | Error e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Gets the analysis of the last position, if it is ready.
+     *
+     * @return The analysis, or null while it is computed (or after {@link #cancel()}).
+     */
+    public Analysis current() {
+        return (pending != null && pending.isDone() && !pending.isCompletedExceptionally()) ? pending.join() : null;
+    }
+
+    /**
+     * Drops the pending analysis (e.g. when the player has slid a line).
+     */
+    public void cancel() {
+        if (pending != null) pending.cancel(false);
+        pending = null;
+        Arrays.fill(lastKey, (byte) 0);
+    }
+
+    /**
+     * Analyzes every insertion of a position.
+     *
+     * @param board     The position (left unchanged).
+     * @param cancelled Checked before each insertion.
+     * @return The analysis, or null if cancelled.
+     */
+    static Analysis analyze(PackedBoard board, BooleanSupplier cancelled) {
+        int size = board.size();
+        int player = board.currentPlayer();
+        Analysis analysis = new Analysis(size);
+        PackedBoard child = new PackedBoard(size);
+        ReachabilityEngine engine = new ReachabilityEngine(size);
+        int words = (size * size + 63) >>> 6;
+
+        // Même énumération que la recherche des bots (une orientation par tuile distincte)
+        int[] insertions = new int[HeuristicSearch.maxInsertions(size)];
+        int count = HeuristicSearch.insertions(board, insertions);
+        for (int i = 0; i < count; i++) {
+            if (cancelled.getAsBoolean()) return null;
+            int insertion = insertions[i];
+            Direction dir = HeuristicSearch.directionOf(insertion);
+            int index = HeuristicSearch.indexOf(insertion);
+            int mask = board.extraMask();
+            for (int k = HeuristicSearch.rotationOf(insertion); k > 0; k--) mask = PackedBoard.rotate(mask);
+
+            HeuristicSearch.play(child, board, insertion);
+            int pawn = child.playerCell(player);
+            engine.explore(child, pawn);
+
+            long[] reachable = new long[words];
+            for (int c = 0; c < engine.reachedCount(); c++) {
+                int cell = engine.reachedCell(c);
+                reachable[cell >>> 6] |= 1L << cell;
+            }
+            int target = child.targetCell(player);
+            analysis.previews[analysis.slot(mask, dir, index)] = new Preview(dir, index, size, reachable,
+                    engine.reachedCount(), pawn, target >= 0 && engine.isReached(target));
+        }
+        return analysis;
+    }
+}
@@ -0,0 +1,26 @@
+package g62221.labyrinthe.model.ai;
+
+/**
+ * Read-only view of the opening masks of a board, as explored by {@link ReachabilityEngine}.
+ * <p>
+ * Implemented by {@link PackedBoard}, and by views that read a stored position in place (without
+ * restoring it into a board first).
+ * </p>
+ */
+public interface MaskGrid {
+
+    /**
+     * Gets the size of the board.
+     *
+     * @return The number of rows (and columns).
+     */
+    int size();
+
+    /**
+     * Gets the openings of a cell.
+     *
+     * @param cell The cell index ({@code row * size + col}).
+     * @return The opening mask ({@link PackedBoard#UP}, {@link PackedBoard#RIGHT}...).
+     */
+    int mask(int cell);
+}
@@ -0,0 +1,433 @@
+package g62221.labyrinthe.model.ai;
+
+import g62221.labyrinthe.model.Direction;
+import g62221.labyrinthe.model.Position;
+import g62221.labyrinthe.model.Tile;
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+
+/**
+ * Compact, mutable copy of a game position for the AI.
+ * <p>
+ * Each cell is a 4-bit mask of its openings ({@link #UP}, {@link #RIGHT}, {@link #DOWN}, {@link #LEFT})
+ * and a treasure id, in flat arrays indexed by {@code row * size + col}. Treasure ids are the canonical ones
+ * of the board ({@link LabyrinthFacade#getTreasureId(String)}): a treasure keeps its id wherever it slides,
+ * so ids can be compared between positions, and between records of a store. Sliding a line, rotating the
+ * extra tile or moving a pawn only shifts a few integers: no {@link Tile} or {@link Position} is created,
+ * so a search can play and evaluate thousands of positions without allocating.
+ * </p>
+ * <p>
+ * A board is sized once for the largest game it will hold; {@link #load(LabyrinthFacade)} and
+ * {@link #copyFrom(PackedBoard)} then reuse its arrays. A position can also be saved as a fixed-width
+ * record of bytes ({@link #writeTo(byte[], int)}), for example to store millions of them off-heap.
+ * </p>
+ */
+public final class PackedBoard implements MaskGrid {
+
+    /** Opening towards the top. */
+    public static final int UP = 1;
+    /** Opening towards the right. */
+    public static final int RIGHT = 2;
+    /** Opening towards the bottom. */
+    public static final int DOWN = 4;
+    /** Opening towards the left. */
+    public static final int LEFT = 8;
+
+    /** Objective of a player who found all its treasures: going back to its start. */
+    public static final int HOME = 0;
+    /** Objective not known yet (the next card of the player has not been revealed). */
+    public static final int UNKNOWN = -1;
+
+    /** Maximum number of players. */
+    public static final int MAX_PLAYERS = 4;
+
+    /** Offset of the opening masks in a record (two cells per byte, the first one in the low nibble). */
+    public static final int RECORD_MASKS = 8 + 6 * MAX_PLAYERS;
+
+    private final int capacity;
+    private int size;
+    private final byte[] masks;
+    private final int[] treasures;      // Id canonique du trésor de chaque case (0 = aucun)
+    private final int[] treasureCells;  // Case de chaque trésor (-1 = sur la tuile en main)
+    private int treasureCount;          // Plus grand id présent : tous les trésors sont sur le plateau ou en main
+    private int extraMask;
+    private int extraTreasure;
+
+    private int nbPlayers;
+    private int currentPlayer;
+    private final int[] playerCells = new int[MAX_PLAYERS];
+    private final int[] startCells = new int[MAX_PLAYERS];
+    private final int[] objectives = new int[MAX_PLAYERS];
+    private final int[] cards = new int[MAX_PLAYERS];
+    private int forbiddenDirection = -1; // Ordinal de la direction interdite (-1 = aucune)
+    private int forbiddenIndex = -1;
+
+    /**
+     * Creates an empty board able to hold games up to the given size.
+     *
+     * @param maxSize The largest board size this instance will hold.
+     */
+    public PackedBoard(int maxSize) {
+        this.capacity = maxSize;
+        int cells = maxSize * maxSize;
+        this.masks = new byte[cells];
+        this.treasures = new int[cells];
+        this.treasureCells = new int[cells + 2]; // Tous les trésors possibles + la tuile en main, id 0 inclus
+    }
+
+    /**
+     * Computes the opening mask of a tile in its current orientation.
+     *
+     * @param tile The tile.
+     * @return The mask of its openings.
+     */
+    public static int maskOf(Tile tile) {
+        int mask = 0;
+        for (Direction d : tile.getConnectors()) mask |= bit(d);
+        return mask;
+    }
+
+    /**
+     * Gets the opening bit of a direction.
+     *
+     * @param d The direction.
+     * @return One of {@link #UP}, {@link #RIGHT}, {@link #DOWN}, {@link #LEFT}.
+     */
+    public static int bit(Direction d) {
+        return switch (d) {
+            case UP -> UP;
+            case RIGHT -> RIGHT;
+            case DOWN -> DOWN;
+            case LEFT -> LEFT;
+        };
+    }
+
+    /**
+     * Rotates a mask a quarter turn clockwise (UP becomes RIGHT, RIGHT becomes DOWN...).
+     *
+     * @param mask The mask.
+     * @return The rotated mask.
+     */
+    public static int rotate(int mask) {
+        return ((mask << 1) | (mask >> 3)) & 0xF;
+    }
+
+    /**
+     * Copies the current position of a game.
+     *
+     * @param facade The game to copy.
+     * @throws IllegalArgumentException if the board is larger than the capacity of this instance.
+     */
+    public void load(LabyrinthFacade facade) {
+        int n = facade.getBoardSize();
+        if (n > capacity) throw new IllegalArgumentException("Board too large: " + n + " > " + capacity);
+        size = n;
+        treasureCount = 0;
+
+        for (int r = 0; r < n; r++) {
+            for (int c = 0; c < n; c++) {
+                Tile t = facade.getTile(r, c);
+                int cell = r * n + c;
+                masks[cell] = (byte) maskOf(t);
+                treasures[cell] = idOf(facade, t);
+                if (treasures[cell] != 0) treasureCells[treasures[cell]] = cell;
+            }
+        }
+        Tile extra = facade.getExtraTile();
+        extraMask = maskOf(extra);
+        extraTreasure = idOf(facade, extra);
+        if (extraTreasure != 0) treasureCells[extraTreasure] = -1;
+
+        nbPlayers = facade.getNbPlayers();
+        currentPlayer = (nbPlayers == 0) ? 0 : facade.getCurrentPlayerIndex();
+        for (int p = 0; p < nbPlayers; p++) {
+            playerCells[p] = cellOf(facade.getPlayerPosition(p));
+            startCells[p] = cellOf(facade.getPlayerStartPosition(p));
+            cards[p] = facade.getPlayerCardsCount(p);
+            String objective = facade.getPlayerCurrentObjective(p);
+            int id = facade.getTreasureId(objective);
+            // Objectif absent du plateau (cas impossible) : traité comme inconnu
+            objectives[p] = (objective == null) ? HOME : (id == 0 ? UNKNOWN : id);
+        }
+        Direction forbidden = facade.getForbiddenDirection();
+        forbiddenDirection = (forbidden == null) ? -1 : forbidden.ordinal();
+        forbiddenIndex = facade.getForbiddenIndex();
+    }
+
+    /**
+     * Copies another board into this one, without allocating.
+     *
+     * @param other The board to copy.
+     */
+    public void copyFrom(PackedBoard other) {
+        if (other.size > capacity) throw new IllegalArgumentException("Board too large: " + other.size);
+        size = other.size;
+        int cells = size * size;
+        System.arraycopy(other.masks, 0, masks, 0, cells);
+        System.arraycopy(other.treasures, 0, treasures, 0, cells);
+        treasureCount = other.treasureCount;
+        System.arraycopy(other.treasureCells, 0, treasureCells, 0, treasureCount + 1);
+        extraMask = other.extraMask;
+        extraTreasure = other.extraTreasure;
+        nbPlayers = other.nbPlayers;
+        currentPlayer = other.currentPlayer;
+        System.arraycopy(other.playerCells, 0, playerCells, 0, MAX_PLAYERS);
+        System.arraycopy(other.startCells, 0, startCells, 0, MAX_PLAYERS);
+        System.arraycopy(other.objectives, 0, objectives, 0, MAX_PLAYERS);
+        System.arraycopy(other.cards, 0, cards, 0, MAX_PLAYERS);
+        forbiddenDirection = other.forbiddenDirection;
+        forbiddenIndex = other.forbiddenIndex;
+    }
+
+    /**
+     * Gets the number of bytes of a record, for boards up to the given size (a multiple of 8).
+     *
+     * @param maxSize The largest board size recorded.
+     * @return The record width.
+     */
+    public static int recordSize(int maxSize) {
+        int cells = maxSize * maxSize;
+        return (RECORD_MASKS + (cells + 1) / 2 + cells + 7) & ~7;
+    }
+
+    /**
+     * Saves the position as a record of {@link #recordSize(int)} bytes.
+     * <p>
+     * Layout: size, number of players, current player, forbidden direction (ordinal + 1, 0 if none),
+     * forbidden line (0xFF if none), extra tile mask, extra tile treasure, number of treasures; then for
+     * each player its cell and start cell (2 bytes each, big-endian), objective and cards (1 byte each);
+     * then the masks from {@link #RECORD_MASKS} and the treasure of each cell (1 byte each). Objectives and
+     * treasures are canonical ids (objective + 1, so that {@link #UNKNOWN} is 0), comparable between records
+     * of the same board size.
+     * </p>
+     *
+     * @param out    The destination.
+     * @param offset The start of the record in {@code out}.
+     * @throws IllegalArgumentException if the board has more than 254 treasures.
+     */
+    public void writeTo(byte[] out, int offset) {
+        if (treasureCount >= 0xFF) throw new IllegalArgumentException("Too many treasures: " + treasureCount);
+        int cells = size * size;
+        out[offset] = (byte) size;
+        out[offset + 1] = (byte) nbPlayers;
+        out[offset + 2] = (byte) currentPlayer;
+        out[offset + 3] = (byte) (forbiddenDirection + 1);
+        out[offset + 4] = (byte) forbiddenIndex;
+        out[offset + 5] = (byte) extraMask;
+        out[offset + 6] = (byte) extraTreasure;
+        out[offset + 7] = (byte) treasureCount;
+        for (int p = 0, i = offset + 8; p < MAX_PLAYERS; p++, i += 6) {
+            writeShort(out, i, playerCells[p]);
+            writeShort(out, i + 2, startCells[p]);
+            out[i + 4] = (byte) (objectives[p] + 1);
+            out[i + 5] = (byte) cards[p];
+        }
+        int masksAt = offset + RECORD_MASKS;
+        for (int c = 0; c < cells; c += 2) {
+            int high = (c + 1 < cells) ? masks[c + 1] : 0;
+            out[masksAt + c / 2] = (byte) (masks[c] | (high << 4));
+        }
+        int treasuresAt = masksAt + (cells + 1) / 2;
+        for (int c = 0; c < cells; c++) out[treasuresAt + c] = (byte) treasures[c];
+    }
+
+    /**
+     * Restores a position saved by {@link #writeTo(byte[], int)}.
+     *
+     * @param in     The source.
+     * @param offset The start of the record in {@code in}.
+     * @throws IllegalArgumentException if the board is larger than the capacity of this instance.
+     */
+    public void readFrom(byte[] in, int offset) {
+        int n = in[offset] & 0xFF;
+        if (n > capacity) throw new IllegalArgumentException("Board too large: " + n + " > " + capacity);
+        size = n;
+        int cells = n * n;
+        nbPlayers = in[offset + 1];
+        currentPlayer = in[offset + 2];
+        forbiddenDirection = in[offset + 3] - 1;
+        forbiddenIndex = (forbiddenDirection < 0) ? -1 : in[offset + 4] & 0xFF;
+        extraMask = in[offset + 5];
+        extraTreasure = in[offset + 6] & 0xFF;
+        treasureCount = in[offset + 7] & 0xFF;
+        for (int p = 0, i = offset + 8; p < MAX_PLAYERS; p++, i += 6) {
+            playerCells[p] = readShort(in, i);
+            startCells[p] = readShort(in, i + 2);
+            objectives[p] = (in[i + 4] & 0xFF) - 1;
+            cards[p] = in[i + 5] & 0xFF;
+        }
+        int masksAt = offset + RECORD_MASKS;
+        for (int c = 0; c < cells; c++) masks[c] = (byte) ((in[masksAt + c / 2] >> ((c & 1) << 2)) & 0xF);
+
+        // Les cases des trésors se déduisent du plateau ; ceux qu'on ne trouve pas sont sur la tuile en main
+        int treasuresAt = masksAt + (cells + 1) / 2;
+        java.util.Arrays.fill(treasureCells, 0, treasureCount + 1, -1);
+        for (int c = 0; c < cells; c++) {
+            treasures[c] = in[treasuresAt + c] & 0xFF;
+            if (treasures[c] != 0) treasureCells[treasures[c]] = c;
+        }
+    }
+
+    private static void writeShort(byte[] out, int i, int value) {
+        out[i] = (byte) (value >> 8);
+        out[i + 1] = (byte) value;
+    }
+
+    private static int readShort(byte[] in, int i) {
+        return ((in[i] & 0xFF) << 8) | (in[i + 1] & 0xFF);
+    }
+
+    /**
+     * Rotates the extra tile a quarter turn clockwise.
+     */
+    public void rotateExtra() {
+        extraMask = rotate(extraMask);
+    }
+
+    /**
+     * Checks if an insertion is forbidden by the anti-return rule.
+     *
+     * @param dir   The direction of the slide.
+     * @param index The line index.
+     * @return true if the insertion would undo the previous one.
+     */
+    public boolean isForbidden(Direction dir, int index) {
+        return dir.ordinal() == forbiddenDirection && index == forbiddenIndex;
+    }
+
+    /**
+     * Slides a line exactly like {@link g62221.labyrinthe.model.Board#slide(Direction, int)},
+     * carrying the treasures and the pawns of the line (pawns pushed out reappear on the other side).
+     *
+     * @param dir   The direction of the slide.
+     * @param index The index of the row or column (odd).
+     */
+    public void slide(Direction dir, int index) {
+        int last = size - 1;
+        // Case d'entrée, pas entre deux cases successives de la ligne
+        int first;
+        int step;
+        switch (dir) {
+            case RIGHT -> { first = index * size; step = 1; }
+            case LEFT -> { first = index * size + last; step = -1; }
+            case DOWN -> { first = index; step = size; }
+            default -> { first = last * size + index; step = -size; }
+        }
+
+        // La tuile de sortie devient la tuile en main, les autres avancent d'une case
+        int exit = first + last * step;
+        int outMask = masks[exit];
+        int outTreasure = treasures[exit];
+        for (int k = last; k > 0; k--) {
+            int cell = first + k * step;
+            masks[cell] = masks[cell - step];
+            treasures[cell] = treasures[cell - step];
+            if (treasures[cell] != 0) treasureCells[treasures[cell]] = cell;
+        }
+        masks[first] = (byte) extraMask;
+        treasures[first] = extraTreasure;
+        if (extraTreasure != 0) treasureCells[extraTreasure] = first;
+        extraMask = outMask;
+        extraTreasure = outTreasure;
+        if (outTreasure != 0) treasureCells[outTreasure] = -1;
+
+        // Les pions de la ligne sont emportés (effet Pac-Man)
+        for (int p = 0; p < nbPlayers; p++) {
+            int cell = playerCells[p];
+            playerCells[p] = (cell == exit) ? first : (onLine(cell, dir, index) ? cell + step : cell);
+        }
+
+        forbiddenDirection = dir.opposite().ordinal();
+        forbiddenIndex = index;
+    }
+
+    /**
+     * Moves a pawn. Reaching the objective collects it: the next objective is not known by the AI.
+     *
+     * @param player The player index.
+     * @param cell   The destination cell.
+     */
+    public void moveTo(int player, int cell) {
+        playerCells[player] = cell;
+        int objective = objectives[player];
+        if (objective > 0 && treasureCells[objective] == cell) {
+            cards[player]--;
+            objectives[player] = (cards[player] == 0) ? HOME : UNKNOWN;
+        }
+    }
+
+    /**
+     * Gets the cell the player is heading to.
+     *
+     * @param player The player index.
+     * @return The cell of its objective (its start once all treasures are found),
+     *         or -1 if unknown or on the extra tile.
+     */
+    public int targetCell(int player) {
+        int objective = objectives[player];
+        if (objective == HOME) return startCells[player];
+        if (objective == UNKNOWN) return -1;
+        return treasureCells[objective];
+    }
+
+    /**
+     * Checks if a player has won on this board (all treasures found and back on its start).
+     *
+     * @param player The player index.
+     * @return true if the player has won.
+     */
+    public boolean hasWon(int player) {
+        return objectives[player] == HOME && playerCells[player] == startCells[player];
+    }
+
+    private boolean onLine(int cell, Direction dir, int index) {
+        return (dir == Direction.LEFT || dir == Direction.RIGHT) ? cell / size == index : cell % size == index;
+    }
+
+    private int cellOf(Position p) {
+        return p.row() * size + p.col();
+    }
+
+    private int idOf(LabyrinthFacade facade, Tile t) {
+        // Les coins n'ont pas de trésor à ramasser : hors de la liste du plateau, leur id est 0
+        int id = facade.getTreasureId(t.getTreasure());
+        treasureCount = Math.max(treasureCount, id);
+        return id;
+    }
+
+    // --- Accesseurs (sans allocation) ---
+
+    /** @return The size of the board. */
+    @Override
+    public int size() { return size; }
+
+    /** @return The number of cells. */
+    public int cellCount() { return size * size; }
+
+    /**
+     * @param cell The cell index.
+     * @return The opening mask of the cell.
+     */
+    @Override
+    public int mask(int cell) { return masks[cell]; }
+
+    /** @return The opening mask of the extra tile. */
+    public int extraMask() { return extraMask; }
+
+    /** @return The number of players. */
+    public int playerCount() { return nbPlayers; }
+
+    /** @return The index of the player to play. */
+    public int currentPlayer() { return currentPlayer; }
+
+    /**
+     * @param player The player index.
+     * @return The cell of the pawn.
+     */
+    public int playerCell(int player) { return playerCells[player]; }
+
+    /**
+     * @param player The player index.
+     * @return The number of cards the player still has to find.
+     */
+    public int cards(int player) { return cards[player]; }
+}
@@ -0,0 +1,199 @@
+package g62221.labyrinthe.model.ai;
+
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link HeuristicSearch} whose root insertions are evaluated in parallel.
+ * <p>
+ * The insertions of the position are dealt round-robin to {@code parallelism} subtasks; each one owns a
+ * search (its own boards, engine and evaluator) and works on its own copy of the position, so nothing is
+ * shared but a cutoff rank. The subtasks are forked on a pool and always joined before returning, even on
+ * failure or interruption: no evaluation outlives the call.
+ * </p>
+ * <ul>
+ *     <li>a winning move at rank {@code r} lowers the cutoff to {@code r}: the siblings skip every later
+ *     insertion, but still finish the earlier ones, so the first winning move is always found;</li>
+ *     <li>a deadline is shared by all the subtasks, which stop at the next insertion once it has passed;</li>
+ *     <li>a failing subtask lowers the cutoff below every rank, and its exception is rethrown;</li>
+ *     <li>results are merged by score, ties going to the lowest rank.</li>
+ * </ul>
+ * <p>
+ * Without deadline, the move is therefore exactly the one of a sequential {@link HeuristicSearch}, whatever
+ * the scheduling. An instance serves one search at a time.
+ * </p>
+ */
+public final class ParallelSearch {
+
+    /** No deadline. */
+    public static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    /**
+     * Best moves found by a subtask.
+     */
+    private record Partial(HeuristicSearch.Move best, int bestRank, HeuristicSearch.Move win, int winRank,
+                           int candidates) {
+    }
+
+    private final ExecutorService pool;
+    private final HeuristicSearch[] workers;
+    private final PackedBoard[] copies;
+    private final PackedBoard root;
+    private final int[] insertions;
+    private int candidates = 0;
+
+    /**
+     * Creates a search.
+     *
+     * @param weights     The weights of the evaluation.
+     * @param maxSize     The largest board size searched.
+     * @param pool        The pool running the subtasks.
+     * @param parallelism The number of subtasks (typically the number of threads of the pool).
+     */
+    public ParallelSearch(Weights weights, int maxSize, ExecutorService pool, int parallelism) {
+        this.pool = pool;
+        this.workers = new HeuristicSearch[Math.max(1, parallelism)];
+        this.copies = new PackedBoard[workers.length];
+        for (int w = 0; w < workers.length; w++) {
+            workers[w] = new HeuristicSearch(weights, maxSize);
+            copies[w] = new PackedBoard(maxSize);
+        }
+        this.root = new PackedBoard(maxSize);
+        this.insertions = new int[HeuristicSearch.maxInsertions(maxSize)];
+    }
+
+    /**
+     * Finds the best turn for the current player of a game.
+     *
+     * @param facade The game.
+     * @return The best move, or null if no insertion is allowed.
+     */
+    public HeuristicSearch.Move bestMove(LabyrinthFacade facade) {
+        root.load(facade);
+        return bestMove(root, NO_DEADLINE);
+    }
+
+    /**
+     * Finds the best turn for the current player of a position.
+     *
+     * @param board    The position (left unchanged).
+     * @param deadline The {@link System#nanoTime()} after which no insertion is started, or {@link #NO_DEADLINE}.
+     * @return The best move among the evaluated insertions, or null if none was evaluated.
+     * @throws IllegalStateException if an evaluation failed.
+     */
+    public HeuristicSearch.Move bestMove(PackedBoard board, long deadline) {
+        int count = HeuristicSearch.insertions(board, insertions);
+        AtomicInteger cutoff = new AtomicInteger(count);
+        List<Callable<Partial>> tasks = new ArrayList<>(workers.length);
+        for (int w = 0; w < Math.min(workers.length, count); w++) {
+            copies[w].copyFrom(board);
+            int first = w;
+            tasks.add(() -> evaluate(first, count, cutoff, deadline));
+        }
+
+        List<Future<Partial>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (Callable<Partial> task : tasks) futures.add(pool.submit(task));
+            return merge(futures);
+        } finally {
+            // Jamais de sous-tâche orpheline : on annonce l'arrêt et on attend la fin de chacune
+            cutoff.set(-1);
+            join(futures);
+        }
+    }
+
+    /**
+     * Gets the number of insertions evaluated by the last search.
+     *
+     * @return The count.
+     */
+    public int getCandidates() {
+        return candidates;
+    }
+
+    /**
+     * Subtask: evaluates the ranks {@code first}, {@code first + parallelism}, ... below the cutoff.
+     */
+    private Partial evaluate(int first, int count, AtomicInteger cutoff, long deadline) {
+        HeuristicSearch search = workers[first];
+        PackedBoard board = copies[first];
+        HeuristicSearch.Move best = null;
+        int bestRank = -1;
+        int evaluated = 0;
+        try {
+            for (int rank = first; rank < count && rank < cutoff.get(); rank += workers.length) {
+                if (deadline != NO_DEADLINE && System.nanoTime() - deadline > 0) break;
+                HeuristicSearch.Move move = search.evaluate(board, insertions[rank]);
+                evaluated++;
+                if (search.lastWon()) {
+                    cutoff.accumulateAndGet(rank, Math::min); // Les rangs suivants sont inutiles
+                    return new Partial(best, bestRank, move, rank, evaluated);
+                }
+                if (best == null || move.score() > best.score()) {
+                    best = move;
+                    bestRank = rank;
+                }
+            }
+            return new Partial(best, bestRank, null, -1, evaluated);
+        } catch (RuntimeException | Error e) {
+            cutoff.set(-1); // Échec : les autres sous-tâches s'arrêtent au plus vite
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for the subtasks and merges their results (first win, else best score then lowest rank).
+     */
+    private HeuristicSearch.Move merge(List<Future<Partial>> futures) {
+        HeuristicSearch.Move best = null;
+        int bestRank = Integer.MAX_VALUE;
+        HeuristicSearch.Move win = null;
+        int winRank = Integer.MAX_VALUE;
+        candidates = 0;
+        try {
+            for (Future<Partial> future : futures) {
+                Partial p = future.get();
+                candidates += p.candidates();
+                if (p.win() != null && p.winRank() < winRank) {
+                    win = p.win();
+                    winRank = p.winRank();
+                }
+                if (p.best() != null && (best == null || p.best().score() > best.score()
+                        || (p.best().score() == best.score() && p.bestRank() < bestRank))) {
+                    best = p.best();
+                    bestRank = p.bestRank();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A subtask of the search failed", e.getCause());
+        }
+        return (win != null) ? win : best;
+    }
+
+    private static void join(List<Future<Partial>> futures) {
+        boolean interrupted = false;
+        for (Future<Partial> future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true; // On attend quand même : les sous-tâches utilisent nos plateaux
+                } catch (ExecutionException e) {
+                    break; // Déjà signalée par merge
+                }
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+}
@@ -0,0 +1,177 @@
+package g62221.labyrinthe.model.ai;
+
+import g62221.labyrinthe.metrics.Counter;
+import g62221.labyrinthe.metrics.MetricsRegistry;
+import g62221.labyrinthe.metrics.ReachabilityEvent;
+
+/**
+ * Breadth-first search over the opening masks of a {@link PackedBoard} (or any {@link MaskGrid}).
+ * <p>
+ * Same rule as {@link g62221.labyrinthe.model.Board#getReachablePositions}: two neighbouring cells are
+ * connected when each one opens towards the other. The queue and the distances are preallocated and a
+ * generation stamp replaces the "visited" set, so an exploration allocates nothing and needs no clearing.
+ * </p>
+ * <p>
+ * An engine keeps the result of its last exploration: it is not thread-safe, each thread uses its own.
+ * </p>
+ */
+public final class ReachabilityEngine {
+
+    private static final Counter QUERIES = MetricsRegistry.global().counter("ai.reachability.queries");
+
+    private final int[] queue;
+    private final int[] distances;
+    private final int[] stamps;
+    private int stamp = 0;
+    private int count = 0;
+    private int size;
+
+    /**
+     * Creates an engine for boards up to the given size.
+     *
+     * @param maxSize The largest board size explored.
+     */
+    public ReachabilityEngine(int maxSize) {
+        int cells = maxSize * maxSize;
+        this.queue = new int[cells];
+        this.distances = new int[cells];
+        this.stamps = new int[cells];
+    }
+
+    /**
+     * Explores every cell reachable from a starting cell.
+     *
+     * @param board The board.
+     * @param from  The starting cell.
+     * @return The number of reachable cells (the start included).
+     */
+    public int explore(MaskGrid board, int from) {
+        // Pas d'événement alloué tant qu'aucun enregistrement ne le demande
+        ReachabilityEvent event = ReachabilityEvent.isRecorded() ? new ReachabilityEvent() : null;
+        if (event != null) event.begin();
+        QUERIES.increment();
+        nextStamp();
+        size = board.size();
+        int last = size - 1;
+        int head = 0;
+        count = 0;
+        visit(from, 0);
+
+        while (head < count) {
+            int cell = queue[head++];
+            int mask = board.mask(cell);
+            int row = cell / size;
+            int col = cell - row * size;
+            int d = distances[cell] + 1;
+
+            // Connexion mutuelle : le voisin doit s'ouvrir vers la case courante
+            if ((mask & PackedBoard.UP) != 0 && row > 0 && (board.mask(cell - size) & PackedBoard.DOWN) != 0) {
+                visit(cell - size, d);
+            }
+            if ((mask & PackedBoard.DOWN) != 0 && row < last && (board.mask(cell + size) & PackedBoard.UP) != 0) {
+                visit(cell + size, d);
+            }
+            if ((mask & PackedBoard.LEFT) != 0 && col > 0 && (board.mask(cell - 1) & PackedBoard.RIGHT) != 0) {
+                visit(cell - 1, d);
+            }
+            if ((mask & PackedBoard.RIGHT) != 0 && col < last && (board.mask(cell + 1) & PackedBoard.LEFT) != 0) {
+                visit(cell + 1, d);
+            }
+        }
+
+        if (event != null && event.shouldCommit()) {
+            event.start = from;
+            event.reached = count;
+            event.engine = "Packed";
+            event.commit();
+        }
+        return count;
+    }
+
+    /**
+     * Checks if a cell was reached by the last exploration.
+     *
+     * @param cell The cell.
+     * @return true if reachable.
+     */
+    public boolean isReached(int cell) {
+        return cell >= 0 && stamps[cell] == stamp;
+    }
+
+    /**
+     * Gets the number of steps to a cell in the last exploration.
+     *
+     * @param cell The cell.
+     * @return The distance, or -1 if the cell was not reached.
+     */
+    public int distance(int cell) {
+        return isReached(cell) ? distances[cell] : -1;
+    }
+
+    /**
+     * Gets the number of cells reached by the last exploration.
+     *
+     * @return The count.
+     */
+    public int reachedCount() {
+        return count;
+    }
+
+    /**
+     * Gets a cell reached by the last exploration, in breadth-first order.
+     *
+     * @param i The rank, between 0 and {@link #reachedCount()} - 1.
+     * @return The cell.
+     */
+    public int reachedCell(int i) {
+        return queue[i];
+    }
+
+    /**
+     * Gets the reached cell closest (Manhattan distance) to a target.
+     *
+     * @param target The target cell.
+     * @return The closest reached cell (the target itself if it is reachable).
+     */
+    public int closestCell(int target) {
+        int best = queue[0];
+        int bestDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < count && bestDistance > 0; i++) {
+            int d = manhattan(queue[i], target);
+            if (d < bestDistance) {
+                bestDistance = d;
+                best = queue[i];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Gets how close the last exploration came to a target.
+     *
+     * @param target The target cell.
+     * @return 0 if the target is reachable, otherwise the Manhattan distance from the closest reached cell.
+     */
+    public int closestApproach(int target) {
+        return isReached(target) ? 0 : manhattan(closestCell(target), target);
+    }
+
+    private int manhattan(int a, int b) {
+        return Math.abs(a / size - b / size) + Math.abs(a % size - b % size);
+    }
+
+    private void visit(int cell, int distance) {
+        if (stamps[cell] == stamp) return;
+        stamps[cell] = stamp;
+        distances[cell] = distance;
+        queue[count++] = cell;
+    }
+
+    private void nextStamp() {
+        // Débordement après 2^31 explorations : on repart d'un tableau propre
+        if (++stamp == Integer.MAX_VALUE) {
+            java.util.Arrays.fill(stamps, 0);
+            stamp = 1;
+        }
+    }
+}
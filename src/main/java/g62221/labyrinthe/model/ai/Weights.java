@@ -0,0 +1,95 @@
+package g62221.labyrinthe.model.ai;
+
+import java.util.Arrays;
+
+/**
+ * Immutable weight vector combining the {@link Feature}s into a single score.
+ * <p>
+ * The score of a position is the dot product of its feature vector and the weights: a positive weight
+ * rewards a feature, a negative one penalizes it.
+ * </p>
+ */
+public final class Weights {
+
+    /** Hand-tuned weights used by the bots. */
+    public static final Weights DEFAULT = new Weights(new double[]{-1.0, 2.0, 0.5, 1.0, -3.0});
+
+    private final double[] values;
+
+    /**
+     * Creates a weight vector.
+     *
+     * @param values One weight per feature, in the order of {@link Feature}.
+     * @throws IllegalArgumentException if the number of weights is wrong.
+     */
+    public Weights(double[] values) {
+        if (values.length != Feature.COUNT) {
+            throw new IllegalArgumentException("Expected " + Feature.COUNT + " weights, got " + values.length);
+        }
+        this.values = values.clone();
+    }
+
+    /**
+     * Gets the weight of a feature.
+     *
+     * @param feature The feature.
+     * @return Its weight.
+     */
+    public double get(Feature feature) {
+        return values[feature.ordinal()];
+    }
+
+    /**
+     * Creates a copy with one weight changed.
+     *
+     * @param feature The feature.
+     * @param weight  Its new weight.
+     * @return The new weight vector.
+     */
+    public Weights with(Feature feature, double weight) {
+        double[] copy = values.clone();
+        copy[feature.ordinal()] = weight;
+        return new Weights(copy);
+    }
+
+    /**
+     * Computes the score of a feature vector.
+     *
+     * @param features The values of the features, in the order of {@link Feature}.
+     * @return The weighted sum.
+     */
+    public double dot(double[] features) {
+        double score = 0;
+        for (int i = 0; i < values.length; i++) score += values[i] * features[i];
+        return score;
+    }
+
+    /**
+     * Gets a copy of the weights.
+     *
+     * @return One weight per feature.
+     */
+    public double[] toArray() {
+        return values.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Weights w && Arrays.equals(values, w.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Weights[");
+        for (Feature f : Feature.values()) {
+            if (f.ordinal() > 0) sb.append(", ");
+            sb.append(f).append('=').append(values[f.ordinal()]);
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -1,5 +1,9 @@
 package g62221.labyrinthe.model.command;
 
+import g62221.labyrinthe.metrics.CommandEvent;
+import g62221.labyrinthe.metrics.Counter;
+import g62221.labyrinthe.metrics.MetricsRegistry;
+
 import java.util.Stack;
 
 /**
@@ -11,6 +15,10 @@ import java.util.Stack;
  * </p>
  */
 public class CommandManager {
+    private static final Counter EXECUTED = MetricsRegistry.global().counter("command.execute");
+    private static final Counter UNDONE = MetricsRegistry.global().counter("command.undo");
+    private static final Counter REDONE = MetricsRegistry.global().counter("command.redo");
+
     // Stack to store executed commands that can be undone
     private final Stack<Command> undoStack = new Stack<>();
     // Stack to store undone commands that can be redone
@@ -26,6 +34,9 @@ public class CommandManager {
      * @param cmd The command to execute.
      */
     public void execute(Command cmd) {
+        CommandEvent event = new CommandEvent();
+        event.begin();
+
         // Exécute l'action encapsulée dans la commande (ex: insérer une tuile)
         cmd.execute();
 
@@ -34,6 +45,9 @@ public class CommandManager {
 
         // Vide la pile de rétablissement car une nouvelle action "écrase" le futur possible
         redoStack.clear();
+
+        EXECUTED.increment();
+        commit(event, "execute", cmd);
     }
 
     /**
@@ -46,6 +60,9 @@ public class CommandManager {
     public void undo() {
         // Vérifie s'il y a des actions dans l'historique à annuler
         if (!undoStack.isEmpty()) {
+            CommandEvent event = new CommandEvent();
+            event.begin();
+
             // Récupère la dernière commande jouée
             Command cmd = undoStack.pop();
 
@@ -54,6 +71,9 @@ public class CommandManager {
 
             // Place la commande dans la pile "Redo" au cas où on voudrait la refaire
             redoStack.push(cmd);
+
+            UNDONE.increment();
+            commit(event, "undo", cmd);
         }
     }
 
@@ -67,6 +87,9 @@ public class CommandManager {
     public void redo() {
         // Vérifie s'il y a des actions annulées qui peuvent être rétablies
         if (!redoStack.isEmpty()) {
+            CommandEvent event = new CommandEvent();
+            event.begin();
+
             // Récupère la dernière commande annulée
             Command cmd = redoStack.pop();
 
@@ -75,9 +98,30 @@ public class CommandManager {
 
             // Remet la commande dans l'historique principal
             undoStack.push(cmd);
+
+            REDONE.increment();
+            commit(event, "redo", cmd);
         }
     }
 
+    /**
+     * Gets the last executed command, without removing it from the history.
+     *
+     * @return The command on top of the undo stack, or null if the history is empty.
+     */
+    public Command peek() {
+        return undoStack.isEmpty() ? null : undoStack.peek();
+    }
+
+    /**
+     * Gets the number of commands that can be undone.
+     *
+     * @return The size of the undo history.
+     */
+    public int size() {
+        return undoStack.size();
+    }
+
     /**
      * Clears the entire command history.
      * <p>
@@ -89,4 +133,16 @@ public class CommandManager {
         undoStack.clear();
         redoStack.clear();
     }
-}
\ No newline at end of file
+
+    /**
+     * Completes the Flight Recorder event of a history action (only if a recording wants it).
+     */
+    private void commit(CommandEvent event, String action, Command cmd) {
+        if (event.shouldCommit()) {
+            event.action = action;
+            event.command = cmd.getClass().getSimpleName();
+            event.historySize = undoStack.size();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package g62221.labyrinthe.model.command;
+
+import g62221.labyrinthe.model.Direction;
+import g62221.labyrinthe.model.Game;
+import g62221.labyrinthe.model.Position;
+
+/**
+ * Command recording a whole turn (insertion of the extra tile, then movement of the pawn) as a single
+ * entry of the history.
+ * <p>
+ * The turn is played in two steps: {@link #execute()} inserts the tile (the entry is then pushed on the
+ * history), and {@link #completeMove(Position)} moves the pawn within the same entry. Undoing a completed
+ * turn reverts both at once; undoing a turn still waiting for its move only reverts the insertion.
+ * </p>
+ * <p>
+ * Instead of snapshots of every pawn and of the player's cards, the command keeps the minimal delta:
+ * the previous anti-return rule, the orientation of the tile pushed out of the board (the next player may
+ * rotate it before undoing), the start cell of the move, and whether the move found a treasure or won.
+ * Pawns pushed by the slide are pushed back by the opposite slide (the wrap-around is a bijection), and a
+ * found treasure is given back with {@link Game#undoObjectiveFound(int)}. The whole command, delta
+ * included, fits in one {@code long} ({@link #encode()}, {@link #decode(Game, long)}), for boards of up to
+ * 63 rows.
+ * </p>
+ */
+public class TurnCommand implements Command {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int NONE = 0x3F; // Ligne ou case absente dans l'encodage (6 bits à 1)
+
+    private final Game game;
+    private final int player;
+    private final Direction dir;
+    private final int index;
+    private final int extraRotation; // Orientation de la tuile insérée, en degrés
+
+    /** Destination of the pawn, null while the turn waits for its move. */
+    private Position target;
+
+    // --- Delta capturé à l'exécution ---
+    private Direction prevForbiddenDir;
+    private int prevForbiddenIndex;
+    private int ejectedRotation; // Orientation de la tuile sortie du plateau, en degrés
+    private Position moveStart;
+    private boolean foundObjective;
+    private boolean won;
+
+    /**
+     * Constructs the turn of the current player, starting with an insertion of the extra tile in its
+     * current orientation.
+     *
+     * @param game  The game instance.
+     * @param dir   The direction to slide.
+     * @param index The row or column index.
+     */
+    public TurnCommand(Game game, Direction dir, int index) {
+        this(game, game.getCurrentPlayerIndex(), dir, index, game.getBoard().getExtraTile().getRotation());
+    }
+
+    private TurnCommand(Game game, int player, Direction dir, int index, int extraRotation) {
+        this.game = game;
+        this.player = player;
+        this.dir = dir;
+        this.index = index;
+        this.extraRotation = extraRotation;
+    }
+
+    /**
+     * Plays the turn: the insertion, and the move if it is known (redo of a completed turn).
+     *
+     * @throws IllegalStateException if the game is not waiting for an insertion (nothing is changed, so no
+     *                               entry is added to the history).
+     * @throws IllegalArgumentException if the insertion is forbidden by the anti-return rule.
+     */
+    @Override
+    public void execute() {
+        // 0. Hors de la phase d'insertion (double clic, bot en avance sur l'interface), Game.insertTile
+        //    ne ferait rien : le tour ne doit ni toucher la tuile en main ni entrer dans l'historique
+        if (game.getState() != Game.State.WAITING_FOR_SLIDE) {
+            throw new IllegalStateException("Not the insertion phase: " + game.getState());
+        }
+
+        // 1. Sauvegarde de la règle "Anti-Retour" avant qu'elle ne soit remplacée
+        this.prevForbiddenDir = game.getForbiddenDirection();
+        this.prevForbiddenIndex = game.getForbiddenIndex();
+
+        // 2. Orientation de la tuile en main telle qu'elle a été insérée (utile au Redo et au rejeu)
+        while (game.getBoard().getExtraTile().getRotation() != extraRotation) {
+            game.getBoard().rotateExtraTile(true);
+        }
+        game.insertTile(dir, index);
+        this.ejectedRotation = game.getBoard().getExtraTile().getRotation();
+
+        // 3. Redo d'un tour complet : le déplacement est rejoué dans la même entrée
+        if (target != null) move(target);
+    }
+
+    /**
+     * Moves the pawn, completing the turn without adding an entry to the history.
+     *
+     * @param destination The destination of the pawn.
+     * @throws IllegalArgumentException if the path to the destination is blocked (the turn is unchanged).
+     * @throws IllegalStateException if the move of this turn is already played.
+     */
+    public void completeMove(Position destination) {
+        if (target != null) throw new IllegalStateException("The move of this turn is already played");
+        move(destination);
+        this.target = destination;
+    }
+
+    /**
+     * Checks if the insertion is played but not the move.
+     *
+     * @return true if the turn waits for {@link #completeMove(Position)}.
+     */
+    public boolean isAwaitingMove() {
+        return target == null && game.getState() == Game.State.WAITING_FOR_MOVE
+                && game.getCurrentPlayerIndex() == player;
+    }
+
+    private void move(Position destination) {
+        Position start = game.getPlayerPosition(player);
+        int cards = game.getPlayerCardsCount(player);
+        game.movePlayer(destination); // Lève une exception si le chemin est bloqué : rien n'a changé
+        this.moveStart = start;
+        this.foundObjective = game.getPlayerCardsCount(player) < cards;
+        this.won = game.getWinner() != null;
+    }
+
+    /**
+     * Reverts the whole turn (or only the insertion if the move was not played).
+     */
+    @Override
+    public void undo() {
+        // 1. Annulation du déplacement : position, trésor trouvé, victoire et joueur courant
+        if (target != null) {
+            game.teleportPlayer(player, moveStart);
+            if (foundObjective) game.undoObjectiveFound(player);
+            if (won) game.resetWinner();
+            else game.previousPlayer(); // Le tour était passé au joueur suivant
+        }
+
+        // 2. Annulation de l'insertion : la tuile sortie (que le joueur suivant a pu tourner) reprend
+        //    son orientation, puis glissement inverse et pions repoussés dans l'autre sens
+        while (game.getBoard().getExtraTile().getRotation() != ejectedRotation) {
+            game.getBoard().rotateExtraTile(true);
+        }
+        game.getBoard().slide(dir.opposite(), index);
+        int size = game.getBoard().getSize();
+        for (int i = 0; i < game.getPlayersCount(); i++) {
+            Position pos = game.getPlayerPosition(i);
+            if (dir == Direction.RIGHT && pos.row() == index) {
+                game.teleportPlayer(i, new Position(pos.row(), (pos.col() - 1 + size) % size));
+            } else if (dir == Direction.LEFT && pos.row() == index) {
+                game.teleportPlayer(i, new Position(pos.row(), (pos.col() + 1) % size));
+            } else if (dir == Direction.DOWN && pos.col() == index) {
+                game.teleportPlayer(i, new Position((pos.row() - 1 + size) % size, pos.col()));
+            } else if (dir == Direction.UP && pos.col() == index) {
+                game.teleportPlayer(i, new Position((pos.row() + 1) % size, pos.col()));
+            }
+        }
+
+        // 3. Restauration de la règle "Anti-Retour" et retour à la phase d'insertion
+        game.setForbiddenState(prevForbiddenDir, prevForbiddenIndex);
+        game.forceState(Game.State.WAITING_FOR_SLIDE);
+    }
+
+    /**
+     * Encodes the turn and its delta into a {@code long}.
+     * <p>
+     * Bits, from the lowest: direction (2), line (6), orientation of the tile in quarter turns (2),
+     * player (2), target row and column (6 each, all ones if the move is not played), previous forbidden
+     * direction (3, 0 if none) and line (6), start row and column of the move (6 each), treasure found (1),
+     * victory (1), orientation of the tile pushed out in quarter turns (2): 49 bits in all.
+     * </p>
+     *
+     * @return The encoded turn.
+     */
+    public long encode() {
+        long bits = dir.ordinal();
+        bits |= (long) index << 2;
+        bits |= (long) (extraRotation / 90) << 8;
+        bits |= (long) player << 10;
+        bits |= (long) ((target == null) ? NONE : target.row()) << 12;
+        bits |= (long) ((target == null) ? NONE : target.col()) << 18;
+        bits |= (long) ((prevForbiddenDir == null) ? 0 : prevForbiddenDir.ordinal() + 1) << 24;
+        bits |= (long) ((prevForbiddenDir == null) ? NONE : prevForbiddenIndex) << 27;
+        bits |= (long) ((moveStart == null) ? NONE : moveStart.row()) << 33;
+        bits |= (long) ((moveStart == null) ? NONE : moveStart.col()) << 39;
+        bits |= (foundObjective ? 1L : 0L) << 45;
+        bits |= (won ? 1L : 0L) << 46;
+        bits |= (long) (ejectedRotation / 90) << 47;
+        return bits;
+    }
+
+    /**
+     * Rebuilds a turn encoded by {@link #encode()}.
+     * <p>
+     * The command can be executed on the position before the turn, or undone on the position after it.
+     * </p>
+     *
+     * @param game The game the turn belongs to.
+     * @param bits The encoded turn.
+     * @return The command.
+     */
+    public static TurnCommand decode(Game game, long bits) {
+        TurnCommand turn = new TurnCommand(game, field(bits, 10, 2), DIRECTIONS[field(bits, 0, 2)],
+                field(bits, 2, 6), field(bits, 8, 2) * 90);
+        if (field(bits, 12, 6) != NONE) turn.target = new Position(field(bits, 12, 6), field(bits, 18, 6));
+        int forbidden = field(bits, 24, 3);
+        turn.prevForbiddenDir = (forbidden == 0) ? null : DIRECTIONS[forbidden - 1];
+        turn.prevForbiddenIndex = (forbidden == 0) ? -1 : field(bits, 27, 6);
+        if (field(bits, 33, 6) != NONE) turn.moveStart = new Position(field(bits, 33, 6), field(bits, 39, 6));
+        turn.foundObjective = field(bits, 45, 1) == 1;
+        turn.won = field(bits, 46, 1) == 1;
+        turn.ejectedRotation = field(bits, 47, 2) * 90;
+        return turn;
+    }
+
+    private static int field(long bits, int shift, int width) {
+        return (int) ((bits >>> shift) & ((1L << width) - 1));
+    }
+
+    /** @return The player of the turn. */
+    public int getPlayer() { return player; }
+
+    /** @return The direction of the insertion. */
+    public Direction getDirection() { return dir; }
+
+    /** @return The slid line. */
+    public int getIndex() { return index; }
+
+    /** @return The rotation of the inserted tile, in degrees. */
+    public int getExtraRotation() { return extraRotation; }
+
+    /** @return The destination of the pawn, or null if the move is not played. */
+    public Position getTarget() { return target; }
+}
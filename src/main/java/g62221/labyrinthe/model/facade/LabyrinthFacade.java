@@ -1,13 +1,20 @@
 package g62221.labyrinthe.model.facade;
 
+import g62221.labyrinthe.metrics.BotDecisionEvent;
+import g62221.labyrinthe.metrics.Counter;
+import g62221.labyrinthe.metrics.MetricsRegistry;
+import g62221.labyrinthe.metrics.Timer;
+import g62221.labyrinthe.model.Board;
 import g62221.labyrinthe.model.Direction;
 import g62221.labyrinthe.model.Game;
 import g62221.labyrinthe.model.Position;
 import g62221.labyrinthe.model.Tile;
+import g62221.labyrinthe.model.strategy.HeuristicStrategy;
+import g62221.labyrinthe.model.strategy.Strategy;
 import g62221.labyrinthe.model.command.Command;
 import g62221.labyrinthe.model.command.CommandManager;
-import g62221.labyrinthe.model.command.InsertTileCommand;
-import g62221.labyrinthe.model.command.MovePlayerCommand;
+import g62221.labyrinthe.model.command.TurnCommand;
+import g62221.labyrinthe.model.observer.GameEvent;
 import g62221.labyrinthe.model.observer.Observable;
 import g62221.labyrinthe.model.observer.Observer;
 
@@ -26,16 +33,45 @@ import java.util.*;
  * </p>
  */
 public class LabyrinthFacade extends Observable implements Observer {
+    // Instrumentation des tours de bot (sans effet tant que l'enregistrement est désactivé)
+    private static final Timer BOT_TIMER = MetricsRegistry.global().timer("bot.decision");
+    private static final Counter BOT_CANDIDATES = MetricsRegistry.global().counter("bot.candidates");
+
     private final Game game;
     private final CommandManager commandManager;
-    private boolean isSimulating = false;
+    private final Random random;
+    private final Strategy[] strategies = new Strategy[4]; // Stratégie propre à chaque siège (null = défaut)
+    private Strategy defaultStrategy; // Créée au premier tour de bot
 
     /**
-     * Constructs a new LabyrinthFacade.
+     * Constructs a new LabyrinthFacade on the standard 7x7 board.
      * Initializes the game and command manager, and sets up the observer relationship.
      */
     public LabyrinthFacade() {
-        this.game = new Game();
+        this(Board.DEFAULT_SIZE);
+    }
+
+    /**
+     * Constructs a new LabyrinthFacade on a board of the given size (e.g. 21x21 for stress tests).
+     *
+     * @param boardSize The size of the board (odd, at least 3).
+     * @throws IllegalArgumentException if the size is invalid.
+     */
+    public LabyrinthFacade(int boardSize) {
+        this(boardSize, new Random());
+    }
+
+    /**
+     * Constructs a new LabyrinthFacade whose game is drawn from the given random generator.
+     * With the same seed and deterministic bots, two games are identical (self-play tuning, replays).
+     *
+     * @param boardSize The size of the board (odd, at least 3).
+     * @param random    The source of randomness of the game and of the random fallback moves.
+     * @throws IllegalArgumentException if the size is invalid.
+     */
+    public LabyrinthFacade(int boardSize, Random random) {
+        this.random = random;
+        this.game = new Game(boardSize, random);
         this.commandManager = new CommandManager();
         // La façade écoute les changements du jeu pour les relayer à la vue
         this.game.addObserver(this);
@@ -48,27 +84,39 @@ public class LabyrinthFacade extends Observable implements Observer {
      * @param nbPlayers The number of players participating.
      */
     public void startGame(int nbPlayers) {
+        startGame(nbPlayers, true);
+    }
+
+    /**
+     * Starts a new game, optionally with bots on every seat (spectator mode).
+     * Clears the command history.
+     *
+     * @param nbPlayers   The number of players participating.
+     * @param humanPlayer true if Player 0 is the human user, false for a bot-only game.
+     */
+    public void startGame(int nbPlayers, boolean humanPlayer) {
         // On vide l'historique (Undo/Redo) au début d'une nouvelle partie
         commandManager.clear();
-        game.start(nbPlayers);
+        game.start(nbPlayers, humanPlayer);
     }
 
     /**
      * Attempts to insert the extra tile into the board.
-     * Executes the action via a command to support Undo/Redo.
+     * Starts a {@link TurnCommand}: the insertion and the following move make up one entry of the Undo/Redo history.
      *
      * @param direction The direction of the slide.
      * @param index     The index of the row or column.
-     * @return true if the move was successful, false if it was forbidden (anti-return rule).
+     * @return true if the move was successful, false if it was forbidden (anti-return rule) or if the game
+     *         is not waiting for an insertion (nothing is then recorded).
      */
     public boolean insertTile(Direction direction, int index) {
         try {
-            // On encapsule l'action dans une commande pour permettre l'annulation
-            Command cmd = new InsertTileCommand(game, direction, index);
+            // On encapsule l'action dans une commande pour permettre l'annulation (le tour entier)
+            Command cmd = new TurnCommand(game, direction, index);
             commandManager.execute(cmd);
             return true; // L'action a réussi
         } catch (Exception e) {
-            // Si le coup est interdit (règle anti-retour), on retourne false
+            // Si le coup est interdit (règle anti-retour) ou hors de la phase d'insertion, on retourne false
             // Cela permet à l'IA de savoir que ce coup n'est pas jouable
             return false;
         }
@@ -76,7 +124,9 @@ public class LabyrinthFacade extends Observable implements Observer {
 
     /**
      * Moves the current player to the specified coordinates.
-     * Executes the action via a command to support Undo/Redo.
+     * Completes the {@link TurnCommand} of the insertion, so that the whole turn is undone at once.
+     * A move without a turn waiting for it (before the insertion, or once the move is played) is ignored
+     * and leaves the history unchanged.
      *
      * @param row The target row index.
      * @param col The target column index.
@@ -84,8 +134,11 @@ public class LabyrinthFacade extends Observable implements Observer {
     public void movePlayer(int row, int col) {
         try {
             Position target = new Position(row, col);
-            Command cmd = new MovePlayerCommand(game, target);
-            commandManager.execute(cmd);
+            // Toute insertion passe par un TurnCommand : hors de ce cas, on n'est pas en phase de déplacement
+            if (commandManager.peek() instanceof TurnCommand turn && turn.isAwaitingMove()) {
+                // Même entrée d'historique que l'insertion : un seul Undo annule le tour complet
+                turn.completeMove(target);
+            }
         } catch (Exception e) {
             // On ignore silencieusement les erreurs ici (ex: clic sur un mur)
             // La vue gère généralement l'affichage des erreurs via le contrôleur
@@ -98,23 +151,23 @@ public class LabyrinthFacade extends Observable implements Observer {
      */
     public void rotateExtraTile() {
         // Rotation simple de la tuile en main
-        game.getBoard().getExtraTile().rotate();
-        notifyObservers();
+        game.getBoard().rotateExtraTile(true);
+        notifyObservers(new GameEvent.ExtraTileRotated(game.getBoard().getExtraTile().getRotation()));
     }
     /**
      * Rotates the extra tile currently in hand counter-clockwise.
      */
     public void rotateExtraTileCCW() {
-        game.getBoard().getExtraTile().rotateCounterClockwise();
-        notifyObservers();
+        game.getBoard().rotateExtraTile(false);
+        notifyObservers(new GameEvent.ExtraTileRotated(game.getBoard().getExtraTile().getRotation()));
     }
 
     /**
-     * Undoes the last executed command.
+     * Undoes the last executed command: a whole turn, or only its insertion if the pawn has not moved yet.
      */
     public void undo() {
         commandManager.undo();
-        notifyObservers();
+        notifyObservers(new GameEvent.StateRestored());
     }
 
     /**
@@ -122,112 +175,129 @@ public class LabyrinthFacade extends Observable implements Observer {
      */
     public void redo() {
         commandManager.redo();
-        notifyObservers();
+        notifyObservers(new GameEvent.StateRestored());
+    }
+
+    /**
+     * Gets the number of entries of the Undo history (one per turn).
+     *
+     * @return The number of commands that can be undone.
+     */
+    public int getHistorySize() {
+        return commandManager.size();
     }
 
     /**
      * Updates the facade when the observed Game model changes.
      * <p>
-     * This method filters notifications: if the AI is currently simulating moves (`isSimulating` is true),
-     * the notification is suppressed to prevent the UI from flickering. Otherwise, it propagates the notification.
+     * The events of the game are relayed unchanged to the observers of the facade (the View).
+     * During AI simulations the facade is detached from the game, so simulated moves never reach this method.
      * </p>
+     *
+     * @param events The batch of changes published by the game.
      */
     @Override
-    public void update() {
-        // "Mode Silencieux" : Si l'IA réfléchit, on ne prévient pas la vue
-        // pour éviter que l'interface ne clignote à chaque simulation de coup.
-        if (!isSimulating) {
-            notifyObservers();
+    public void update(List<GameEvent> events) {
+        // Relais des événements du jeu vers la vue
+        for (GameEvent event : events) {
+            notifyObservers(event);
         }
     }
 
+    /**
+     * Sets the strategy of a bot seat.
+     * <p>
+     * Seats without a strategy use a {@link HeuristicStrategy} with the default weights. Giving two seats
+     * strategies with different parameters makes them play against each other (self-play tuning).
+     * </p>
+     *
+     * @param player   The player index.
+     * @param strategy The strategy of that player, or null for the default one.
+     */
+    public void setStrategy(int player, Strategy strategy) {
+        strategies[player] = strategy;
+    }
+
     /**
      * Executes the AI logic for the current bot player.
      * <p>
-     * The AI strategy is "Greedy" (Level 1):
-     * 1. Identify the target (current objective or start position if finished).
-     * 2. Simulate all possible tile insertions (12 combinations).
-     * 3. For each valid insertion, check if a path exists to the target.
-     * 4. If a winning move is found, execute it for real and end turn.
-     * 5. If no winning move is found, perform a random move to avoid stalling.
+     * The turn is delegated to the {@link Strategy} of the seat (see {@link #setStrategy(int, Strategy)}):
+     * the default {@link HeuristicStrategy} scores every insertion with weighted features
+     * (closest approach, open region, blocked opponents...) and plays the best one.
+     * </p>
+     * <p>
+     * The strategies search on their own copy of the position: no event is produced during the search,
+     * and only the move actually chosen is notified to the View. If the strategy fails to complete the turn,
+     * the bot falls back to a random insertion or stays in place.
+     * </p>
+     * <p>
+     * Each turn is timed in the {@link MetricsRegistry} ({@code bot.decision}) and reported to Flight Recorder
+     * as a {@link BotDecisionEvent} with the number of candidates evaluated and the move played.
      * </p>
      */
     public void playBot() {
         // Vérification de sécurité : si c'est à l'humain, le bot ne fait rien
         if (!game.isCurrentPlayerBot()) return;
 
-        // 1. Activation du mode silencieux pour les simulations
-        isSimulating = true;
+        BotDecisionEvent event = new BotDecisionEvent();
+        event.begin();
+        long start = BOT_TIMER.start();
 
-        String objective = getCurrentPlayerObjective();
-        // Si le joueur a un objectif, il le vise. Sinon, il vise sa case de départ pour gagner.
-        Position targetPos = (objective != null)
-                ? findTreasurePosition(objective)
-                : game.getPlayerStartPosition(game.getCurrentPlayerIndex());
+        int player = game.getCurrentPlayerIndex();
+        Strategy strategy = strategies[player];
+        if (strategy == null) {
+            if (defaultStrategy == null) defaultStrategy = new HeuristicStrategy();
+            strategy = defaultStrategy;
+        }
+        playBotTurn(player, strategy);
+
+        BOT_TIMER.stop(start);
+        BOT_CANDIDATES.add(strategy.getCandidatesEvaluated());
+        if (event.shouldCommit()) {
+            event.player = player;
+            event.strategy = strategy.getClass().getSimpleName();
+            event.candidates = strategy.getCandidatesEvaluated();
+            // L'insertion jouée se lit dans l'interdit qu'elle vient de poser
+            Direction forbidden = game.getForbiddenDirection();
+            event.direction = (forbidden == null) ? null : forbidden.opposite().name();
+            event.index = game.getForbiddenIndex();
+            Position destination = game.getPlayerPosition(player);
+            event.row = destination.row();
+            event.col = destination.col();
+            event.commit();
+        }
+    }
 
-        // Cas rare : l'objectif est sur la tuile en main (hors plateau), on ne peut pas l'atteindre
-        if (targetPos == null) {
-            isSimulating = false; // On réactive l'affichage
+    /**
+     * Plays the two phases of a bot turn with its strategy.
+     */
+    private void playBotTurn(int player, Strategy strategy) {
+        // Phase 1 : insertion (coup aléatoire si la stratégie n'a rien pu insérer)
+        strategy.playInsert(this);
+        if (game.getState() == Game.State.WAITING_FOR_SLIDE && game.getCurrentPlayerIndex() == player) {
             playRandomMove();
             return;
         }
 
-        int[] indices = {1, 3, 5};
-        Direction[] dirs = Direction.values();
-
-        // 2. Boucle de simulation : On teste TOUTES les insertions possibles
-        for (int idx : indices) {
-            for (Direction dir : dirs) {
-                // A. On joue le coup "pour de faux" (simulation)
-                boolean success = insertTile(dir, idx);
-
-                if (success) {
-                    // B. Si l'insertion est valide, on vérifie si le chemin est ouvert
-                    Position botPos = game.getPlayerPosition(game.getCurrentPlayerIndex());
-                    Set<Position> reachable = game.getBoard().getReachablePositions(botPos);
-
-                    // Attention : l'insertion a peut-être déplacé la cible, on la recalcule
-                    Position currentTarget = (objective != null)
-                            ? findTreasurePosition(objective)
-                            : game.getPlayerStartPosition(game.getCurrentPlayerIndex());
-
-                    // C. VICTOIRE ? Si la cible est dans les cases accessibles
-                    if (currentTarget != null && reachable.contains(currentTarget)) {
-                        // 1. On annule le coup simulé (Undo silencieux)
-                        undo();
-
-                        // 2. On désactive le mode silencieux pour que le joueur voie l'action
-                        isSimulating = false;
-
-                        // 3. On joue le coup "pour de vrai"
-                        insertTile(dir, idx);
-                        movePlayer(currentTarget.row(), currentTarget.col());
-                        return; // Fin du tour
-                    }
-
-                    // D. Échec de la simulation : On annule pour tester la suivante
-                    undo();
-                }
-            }
+        // Phase 2 : déplacement (le bot reste sur place si la destination est refusée)
+        strategy.playMove(this);
+        if (game.getState() == Game.State.WAITING_FOR_MOVE) {
+            Position botPos = game.getPlayerPosition(player);
+            movePlayer(botPos.row(), botPos.col());
         }
-
-        // 3. Aucune solution immédiate trouvée : Fallback sur un coup aléatoire
-        isSimulating = false; // On réactive l'affichage
-        playRandomMove();
     }
 
     /**
      * Executes a random move (insertion + movement).
-     * Used as a fallback strategy when the AI cannot reach its objective immediately.
+     * Last-resort fallback when the strategy of the bot cannot insert the tile.
      */
     private void playRandomMove() {
-        Random rand = new Random();
-        int[] indices = {1, 3, 5};
+        int[] indices = game.getBoard().getMobileIndices();
 
         boolean inserted = false;
         // On essaie d'insérer au hasard jusqu'à trouver un coup autorisé (non interdit)
         while (!inserted) {
-            inserted = insertTile(Direction.values()[rand.nextInt(4)], indices[rand.nextInt(3)]);
+            inserted = insertTile(Direction.values()[random.nextInt(4)], indices[random.nextInt(indices.length)]);
         }
 
         // Une fois inséré, on déplace le pion sur une case accessible au hasard
@@ -235,7 +305,7 @@ public class LabyrinthFacade extends Observable implements Observer {
         List<Position> reachable = new ArrayList<>(game.getBoard().getReachablePositions(botPos));
 
         if (!reachable.isEmpty()) {
-            Position dest = reachable.get(rand.nextInt(reachable.size()));
+            Position dest = reachable.get(random.nextInt(reachable.size()));
             movePlayer(dest.row(), dest.col());
         } else {
             // Si bloqué, on reste sur place
@@ -243,31 +313,18 @@ public class LabyrinthFacade extends Observable implements Observer {
         }
     }
 
-    /**
-     * Locates the position of a specific treasure on the board.
-     *
-     * @param treasureName The name of the treasure to find.
-     * @return The Position of the tile containing the treasure, or null if not found (e.g., if on extra tile).
-     */
-    private Position findTreasurePosition(String treasureName) {
-        // Parcours complet du plateau pour trouver la tuile
-        for (int r = 0; r < 7; r++) {
-            for (int c = 0; c < 7; c++) {
-                Tile t = game.getBoard().getTile(r, c);
-                if (t.hasTreasure() && t.getTreasure().equals(treasureName)) {
-                    return new Position(r, c);
-                }
-            }
-        }
-        return null;
-    }
-
     /**
      * Checks if the current player is a bot.
      * @return true if bot.
      */
     public boolean isCurrentPlayerBot() { return game.isCurrentPlayerBot(); }
 
+    /**
+     * Checks if a human user takes part in the game.
+     * @return false in a bot-only game.
+     */
+    public boolean hasHumanPlayer() { return game.hasHumanPlayer(); }
+
     /**
      * Gets the tile at specific coordinates.
      * @param r Row index.
@@ -276,6 +333,18 @@ public class LabyrinthFacade extends Observable implements Observer {
      */
     public Tile getTile(int r, int c) { return game.getBoard().getTile(r, c); }
 
+    /**
+     * Gets the size of the board.
+     * @return The number of rows (and columns).
+     */
+    public int getBoardSize() { return game.getBoard().getSize(); }
+
+    /**
+     * Gets the indices of the rows and columns that can be slid.
+     * @return The odd indices {1, 3, ..., size - 2}.
+     */
+    public int[] getMobileIndices() { return game.getBoard().getMobileIndices(); }
+
     /**
      * Gets the extra tile.
      * @return The extra tile.
@@ -364,4 +433,11 @@ public class LabyrinthFacade extends Observable implements Observer {
      * @return The start position.
      */
     public Position getPlayerStartPosition(int index) { return game.getPlayerStartPosition(index); }
+
+    /**
+     * Gets the canonical id of a treasure, the same wherever the treasure is on the board.
+     * @param name The treasure name, or null.
+     * @return The id (1 and more), or 0 for no treasure.
+     */
+    public int getTreasureId(String name) { return game.getBoard().treasureId(name); }
 }
\ No newline at end of file
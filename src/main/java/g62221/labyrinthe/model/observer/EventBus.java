@@ -0,0 +1,98 @@
+package g62221.labyrinthe.model.observer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Delivers {@link GameEvent}s to the registered {@link Observer}s in batches.
+ * <p>
+ * Published events are accumulated in a pending list. The first event of a burst schedules
+ * a single flush on the configured dispatcher; every event published before that flush runs
+ * is delivered in the same batch. With the default synchronous dispatcher, each event is
+ * delivered immediately (batch of one). With a frame-aligned dispatcher (e.g. a JavaFX pulse),
+ * a whole bot turn is coalesced into one batch and rendered in one frame.
+ * </p>
+ */
+public class EventBus {
+
+    private final List<Observer> observers = new ArrayList<>();
+    private final List<GameEvent> pending = new ArrayList<>();
+    private Executor dispatcher = Runnable::run;
+    private boolean flushScheduled = false;
+
+    /**
+     * Registers a new observer. Duplicates are ignored.
+     *
+     * @param observer The observer to add.
+     */
+    public synchronized void subscribe(Observer observer) {
+        if (!observers.contains(observer)) {
+            observers.add(observer);
+        }
+    }
+
+    /**
+     * Unregisters an observer.
+     *
+     * @param observer The observer to remove.
+     */
+    public synchronized void unsubscribe(Observer observer) {
+        observers.remove(observer);
+    }
+
+    /**
+     * Sets the executor used to run the flushes.
+     * <p>
+     * {@code Runnable::run} (default) delivers synchronously. Any deferred executor
+     * makes the bus coalesce all events published until the flush actually runs.
+     * </p>
+     *
+     * @param dispatcher The executor that will run the flushes.
+     */
+    public synchronized void setDispatcher(Executor dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Queues an event and schedules a flush if none is pending.
+     * <p>
+     * Without any observer (and no flush pending), the event is dropped at once.
+     * </p>
+     *
+     * @param event The event to deliver.
+     */
+    public void publish(GameEvent event) {
+        Executor target;
+        synchronized (this) {
+            // Personne à l'écoute (partie headless, rejeu) : l'événement n'a pas de destinataire
+            if (observers.isEmpty() && !flushScheduled) return;
+            pending.add(event);
+            // Un seul flush planifié par rafale : les événements suivants rejoignent le même lot
+            if (flushScheduled) return;
+            flushScheduled = true;
+            target = dispatcher;
+        }
+        target.execute(this::flush);
+    }
+
+    /**
+     * Delivers all pending events as one batch to every observer.
+     * Does nothing if no event is pending.
+     */
+    public void flush() {
+        List<GameEvent> batch;
+        List<Observer> targets;
+        synchronized (this) {
+            flushScheduled = false;
+            if (pending.isEmpty()) return;
+            batch = List.copyOf(pending);
+            pending.clear();
+            // Copie : un observateur peut se désabonner pendant la notification
+            targets = List.copyOf(observers);
+        }
+        for (Observer observer : targets) {
+            observer.update(batch);
+        }
+    }
+}
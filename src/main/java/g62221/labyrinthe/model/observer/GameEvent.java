@@ -0,0 +1,76 @@
+package g62221.labyrinthe.model.observer;
+
+import g62221.labyrinthe.model.Direction;
+import g62221.labyrinthe.model.Game;
+import g62221.labyrinthe.model.Position;
+
+/**
+ * Typed notification sent by the Model to its observers.
+ * <p>
+ * Each event describes precisely what changed (a slid line, a moved pawn, a new turn...),
+ * so that observers can limit their work to the affected parts instead of redrawing everything.
+ * Events are grouped into batches by the {@link EventBus} before being delivered.
+ * </p>
+ */
+public sealed interface GameEvent {
+
+    /**
+     * A new game has been started: every element of the board must be refreshed.
+     *
+     * @param nbPlayers The number of players in the new game.
+     */
+    record GameStarted(int nbPlayers) implements GameEvent {}
+
+    /**
+     * The extra tile has been inserted and a row or column has been shifted.
+     *
+     * @param dir   The direction of the slide.
+     * @param index The index of the shifted row or column.
+     */
+    record TileSlid(Direction dir, int index) implements GameEvent {}
+
+    /**
+     * The extra tile (in hand) has been rotated.
+     *
+     * @param rotation The new rotation in degrees (0, 90, 180, 270).
+     */
+    record ExtraTileRotated(int rotation) implements GameEvent {}
+
+    /**
+     * A pawn has changed position (regular move or expulsion by a slide).
+     *
+     * @param playerId The index of the player.
+     * @param from     The previous position.
+     * @param to       The new position.
+     */
+    record PlayerMoved(int playerId, Position from, Position to) implements GameEvent {}
+
+    /**
+     * A player has reached their current objective.
+     *
+     * @param playerId The index of the player.
+     * @param treasure The name of the collected treasure.
+     */
+    record ObjectiveFound(int playerId, String treasure) implements GameEvent {}
+
+    /**
+     * The active player or the phase of the turn has changed.
+     *
+     * @param playerIndex The index of the player who must play.
+     * @param state       The new phase of the turn.
+     */
+    record TurnChanged(int playerIndex, Game.State state) implements GameEvent {}
+
+    /**
+     * The game is over.
+     *
+     * @param winnerId The index of the winning player.
+     */
+    record GameOver(int winnerId) implements GameEvent {}
+
+    /**
+     * The state has been restored from the history (Undo/Redo).
+     * The exact changes are not tracked, observers must resynchronize completely.
+     */
+    record StateRestored() implements GameEvent {}
+}
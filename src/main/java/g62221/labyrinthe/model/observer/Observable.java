@@ -1,7 +1,6 @@
 package g62221.labyrinthe.model.observer;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Base class for the Subject component of the Observer Design Pattern.
@@ -9,12 +8,13 @@ import java.util.List;
  * This class maintains a registry of {@link Observer} objects and provides
  * methods to attach, detach, and notify them. Any class that wants to be
  * watched by the View (like {@code Game} or {@code LabyrinthFacade}) should extend this class.
+ * Notifications are typed {@link GameEvent}s delivered through an {@link EventBus}.
  * </p>
  */
 public class Observable {
 
-    // Liste de tous les observateurs abonnés (ex: La Vue, le Contrôleur)
-    private final List<Observer> observers = new ArrayList<>();
+    // Bus d'événements : abonnés (ex: La Vue, le Contrôleur) + événements en attente
+    private final EventBus bus = new EventBus();
 
     /**
      * Registers a new observer to receive notifications.
@@ -22,11 +22,8 @@ public class Observable {
      * @param observer The observer to add.
      */
     public void addObserver(Observer observer) {
-        // Ajoute un observateur à la liste (Abonnement).
-        // On vérifie s'il n'est pas déjà présent pour éviter les doublons de notification.
-        if (!observers.contains(observer)) {
-            observers.add(observer);
-        }
+        // Ajoute un observateur à la liste (Abonnement), sans doublon.
+        bus.subscribe(observer);
     }
 
     /**
@@ -36,21 +33,40 @@ public class Observable {
      */
     public void removeObserver(Observer observer) {
         // Retire un observateur de la liste (Désabonnement).
-        observers.remove(observer);
+        bus.unsubscribe(observer);
     }
 
     /**
-     * Triggers the update method on all registered observers.
+     * Sets the executor on which notifications are delivered.
+     * <p>
+     * By default notifications are synchronous. A deferred executor (e.g. one running once per frame)
+     * coalesces every event published in between into a single batch.
+     * </p>
+     *
+     * @param dispatcher The executor running the deliveries.
+     */
+    public void setEventDispatcher(Executor dispatcher) {
+        bus.setDispatcher(dispatcher);
+    }
+
+    /**
+     * Immediately delivers the events waiting for a deferred dispatch.
+     */
+    public void flushEvents() {
+        bus.flush();
+    }
+
+    /**
+     * Publishes an event to all registered observers.
      * <p>
      * This method should be called whenever the state of the observable object changes
      * (e.g., after a player moves or a tile is inserted).
      * </p>
+     *
+     * @param event The description of the change.
      */
-    protected void notifyObservers() {
-        // Notifie tous les observateurs enregistrés.
-        // C'est ici qu'on dit à la Vue : "Hé, le modèle a changé, mets-toi à jour !".
-        for (Observer observer : observers) {
-            observer.update();
-        }
+    protected void notifyObservers(GameEvent event) {
+        // C'est ici qu'on dit à la Vue : "Hé, le modèle a changé, voici quoi !".
+        bus.publish(event);
     }
-}
\ No newline at end of file
+}
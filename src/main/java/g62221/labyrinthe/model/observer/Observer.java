@@ -1,5 +1,7 @@
 package g62221.labyrinthe.model.observer;
 
+import java.util.List;
+
 /**
  * Interface defining the Observer component of the Observer Design Pattern.
  * <p>
@@ -13,9 +15,11 @@ public interface Observer {
     /**
      * Called automatically when the observed subject notifies a change.
      * <p>
-     * This is the signal for the View to refresh its display based on the
-     * new state of the Model.
+     * The batch lists, in order, every change that happened since the previous notification.
+     * Observers can use it to refresh only the affected parts of their display.
      * </p>
+     *
+     * @param events The events of the batch (never empty).
      */
-    void update(); // Méthode appelée par le Modèle pour dire : "J'ai changé, redessine-toi !"
-}
\ No newline at end of file
+    void update(List<GameEvent> events); // Méthode appelée par le Modèle : "Voici ce qui a changé, redessine-le !"
+}
@@ -0,0 +1,200 @@
+package g62221.labyrinthe.model.store;
+
+import g62221.labyrinthe.model.ai.MaskGrid;
+import g62221.labyrinthe.model.ai.PackedBoard;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only store of positions, kept off-heap for analysis jobs handling millions of them.
+ * <p>
+ * Each position is a fixed-width record written by {@link PackedBoard#writeTo(byte[], int)} (112 bytes on
+ * the standard board, instead of a graph of {@code Tile}, {@code Stack} and {@code ArrayList} objects).
+ * Records live in native memory segments of {@value #CHUNK_RECORDS} records, allocated on demand from one
+ * {@link Arena}: the garbage collector never scans them, and {@link #close()} frees them all at once.
+ * Fifty million positions of the standard board take about 5.6 GB.
+ * </p>
+ * <p>
+ * A position is read back either by restoring it into a {@link PackedBoard} ({@link #load(long, PackedBoard)}),
+ * or in place through a {@link View}, a {@link MaskGrid} that the {@code ReachabilityEngine} explores
+ * without copying anything.
+ * </p>
+ * <p>
+ * Appends and loads go through an internal buffer: a store is used by one thread at a time. The segments
+ * themselves are shared, so views of an immutable store can be read from several threads.
+ * </p>
+ */
+public final class PositionStore implements AutoCloseable {
+
+    private static final int CHUNK_SHIFT = 16;
+
+    /** Number of records of each memory segment. */
+    public static final int CHUNK_RECORDS = 1 << CHUNK_SHIFT;
+
+    /**
+     * Position of a store read in place. A view can be moved from record to record with
+     * {@link PositionStore#view(long, View)}, so that iterating allocates nothing.
+     */
+    public static final class View implements MaskGrid {
+        private MemorySegment chunk;
+        private long base;
+
+        private View() {
+        }
+
+        private View at(MemorySegment chunk, long base) {
+            this.chunk = chunk;
+            this.base = base;
+            return this;
+        }
+
+        private int read(long offset) {
+            return chunk.get(ValueLayout.JAVA_BYTE, base + offset) & 0xFF;
+        }
+
+        @Override
+        public int size() {
+            return read(0);
+        }
+
+        @Override
+        public int mask(int cell) {
+            // Deux cases par octet, la première dans les 4 bits de poids faible
+            return (read(PackedBoard.RECORD_MASKS + (cell >> 1)) >> ((cell & 1) << 2)) & 0xF;
+        }
+
+        /** @return The number of players. */
+        public int playerCount() {
+            return read(1);
+        }
+
+        /** @return The index of the player to play. */
+        public int currentPlayer() {
+            return read(2);
+        }
+
+        /**
+         * @param player The player index.
+         * @return The cell of the pawn.
+         */
+        public int playerCell(int player) {
+            long at = 8 + 6L * player;
+            return (read(at) << 8) | read(at + 1);
+        }
+    }
+
+    private final Arena arena = Arena.ofShared();
+    private final List<MemorySegment> chunks = new ArrayList<>();
+    private final int maxSize;
+    private final int recordSize;
+    private final byte[] buffer;
+    private long count = 0;
+
+    /**
+     * Creates an empty store.
+     *
+     * @param maxSize The largest board size stored.
+     */
+    public PositionStore(int maxSize) {
+        this.maxSize = maxSize;
+        this.recordSize = PackedBoard.recordSize(maxSize);
+        this.buffer = new byte[recordSize];
+    }
+
+    /**
+     * Adds a position at the end of the store.
+     *
+     * @param board The position.
+     * @return Its index.
+     * @throws IllegalArgumentException if the board is larger than the store allows.
+     * @throws IllegalStateException if the store is closed.
+     */
+    public long append(PackedBoard board) {
+        if (board.size() > maxSize) throw new IllegalArgumentException("Board too large: " + board.size() + " > " + maxSize);
+        int slot = (int) (count & (CHUNK_RECORDS - 1));
+        if (slot == 0) chunks.add(arena.allocate((long) recordSize * CHUNK_RECORDS, Long.BYTES));
+
+        board.writeTo(buffer, 0);
+        MemorySegment.copy(buffer, 0, chunks.get(chunks.size() - 1), ValueLayout.JAVA_BYTE,
+                (long) slot * recordSize, recordSize);
+        return count++;
+    }
+
+    /**
+     * Restores a position into a board.
+     *
+     * @param index The index of the position.
+     * @param board The board receiving it (of capacity at least the size of the stored board).
+     */
+    public void load(long index, PackedBoard board) {
+        checkIndex(index);
+        MemorySegment.copy(chunkOf(index), ValueLayout.JAVA_BYTE, offsetOf(index), buffer, 0, recordSize);
+        board.readFrom(buffer, 0);
+    }
+
+    /**
+     * Gets a view of a position, read in place.
+     *
+     * @param index The index of the position.
+     * @return A new view.
+     */
+    public View view(long index) {
+        return view(index, new View());
+    }
+
+    /**
+     * Moves a view to a position.
+     *
+     * @param index The index of the position.
+     * @param view  The view to reuse.
+     * @return The view.
+     */
+    public View view(long index, View view) {
+        checkIndex(index);
+        return view.at(chunkOf(index), offsetOf(index));
+    }
+
+    /**
+     * Gets the number of positions.
+     *
+     * @return The count.
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * Gets the native memory reserved by the store.
+     *
+     * @return The number of bytes.
+     */
+    public long byteSize() {
+        return (long) chunks.size() * recordSize * CHUNK_RECORDS;
+    }
+
+    /**
+     * Frees the native memory. The views of the store must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        arena.close();
+        chunks.clear();
+        count = 0;
+    }
+
+    private MemorySegment chunkOf(long index) {
+        return chunks.get((int) (index >>> CHUNK_SHIFT));
+    }
+
+    private long offsetOf(long index) {
+        return (index & (CHUNK_RECORDS - 1)) * recordSize;
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= count) throw new IndexOutOfBoundsException("No position " + index + " (" + count + " stored)");
+    }
+}
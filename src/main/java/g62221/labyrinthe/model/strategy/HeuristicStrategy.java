@@ -0,0 +1,138 @@
+package g62221.labyrinthe.model.strategy;
+
+import g62221.labyrinthe.model.Position;
+import g62221.labyrinthe.model.ai.EndgameSolver;
+import g62221.labyrinthe.model.ai.HeuristicSearch;
+import g62221.labyrinthe.model.ai.ParallelSearch;
+import g62221.labyrinthe.model.ai.Weights;
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Strategy driven by numeric parameters: each turn is chosen by a {@link HeuristicSearch}
+ * scoring positions with a {@link Weights} vector.
+ * <p>
+ * The behaviour of the bot only depends on its weights, so bots can be tuned automatically
+ * (see {@code g62221.labyrinthe.tools.WeightTuner}) instead of by hand. The strategy is deterministic:
+ * the same position always gives the same turn.
+ * </p>
+ * <p>
+ * The insertion and the movement are decided together: {@link #playInsert(LabyrinthFacade)} remembers
+ * the destination that {@link #playMove(LabyrinthFacade)} then plays. An instance is not thread-safe.
+ * </p>
+ * <p>
+ * Once all its treasures are found, the bot first asks an {@link EndgameSolver} for a forced way home,
+ * so that a won endgame is never fumbled; the heuristic search only plays when no win can be proven.
+ * </p>
+ * <p>
+ * Given a pool, the strategy evaluates the insertions in parallel with a {@link ParallelSearch}; the turns
+ * played are the same, only faster.
+ * </p>
+ */
+public class HeuristicStrategy implements Strategy {
+
+    private final Weights weights;
+    private final ExecutorService pool; // null : recherche séquentielle
+    private final int parallelism;
+    private HeuristicSearch search; // Dimensionnée sur le premier plateau rencontré
+    private ParallelSearch parallelSearch;
+    private EndgameSolver solver;
+    private int searchSize = 0;
+    private HeuristicSearch.Move pending; // Coup décidé à l'insertion, joué au déplacement
+
+    /**
+     * Creates a strategy with the default weights.
+     */
+    public HeuristicStrategy() {
+        this(Weights.DEFAULT);
+    }
+
+    /**
+     * Creates a strategy with the given weights.
+     *
+     * @param weights The weights of the evaluation.
+     */
+    public HeuristicStrategy(Weights weights) {
+        this(weights, null, 1);
+    }
+
+    /**
+     * Creates a strategy evaluating its insertions in parallel.
+     *
+     * @param weights     The weights of the evaluation.
+     * @param pool        The pool running the evaluations, or null to search sequentially.
+     * @param parallelism The number of subtasks of a search (typically the number of threads of the pool).
+     */
+    public HeuristicStrategy(Weights weights, ExecutorService pool, int parallelism) {
+        this.weights = weights;
+        this.pool = pool;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Gets the weights driving this strategy.
+     *
+     * @return The weight vector.
+     */
+    public Weights getWeights() {
+        return weights;
+    }
+
+    /**
+     * Searches the best turn, orients the extra tile and inserts it.
+     *
+     * @param facade The interface to interact with the game model.
+     */
+    @Override
+    public void playInsert(LabyrinthFacade facade) {
+        if (search == null || searchSize < facade.getBoardSize()) {
+            searchSize = facade.getBoardSize();
+            search = new HeuristicSearch(weights, searchSize);
+            solver = new EndgameSolver(searchSize);
+            if (pool != null) parallelSearch = new ParallelSearch(weights, searchSize, pool, parallelism);
+        }
+
+        // Retour au départ : une victoire prouvée passe avant l'heuristique
+        EndgameSolver.Result proof = null;
+        if (facade.getCurrentPlayerCardsCount() == 0) proof = solver.solve(facade);
+        if (proof != null) pending = proof.move();
+        else pending = (parallelSearch != null) ? parallelSearch.bestMove(facade) : search.bestMove(facade);
+        if (pending == null) return;
+
+        // Orientation de la tuile en main, puis insertion
+        for (int i = 0; i < pending.rotations(); i++) {
+            facade.rotateExtraTile();
+        }
+        if (!facade.insertTile(pending.direction(), pending.index())) {
+            pending = null;
+        }
+    }
+
+    /**
+     * Moves the pawn to the destination chosen with the insertion (stays in place if there is none).
+     *
+     * @param facade The interface to interact with the game model.
+     */
+    @Override
+    public void playMove(LabyrinthFacade facade) {
+        if (pending != null) {
+            facade.movePlayer(pending.row(), pending.col());
+            pending = null;
+        } else {
+            Position current = facade.getPlayerPosition(facade.getCurrentPlayerIndex());
+            facade.movePlayer(current.row(), current.col());
+        }
+    }
+
+    /**
+     * Gets the number of insertions evaluated by the last search.
+     *
+     * @return The count.
+     */
+    @Override
+    public int getCandidatesEvaluated() {
+        if (parallelSearch != null) return parallelSearch.getCandidates();
+        return (search == null) ? 0 : search.getCandidates();
+    }
+}
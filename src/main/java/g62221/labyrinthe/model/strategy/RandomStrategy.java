@@ -20,7 +20,7 @@ public class RandomStrategy implements Strategy {
     /**
      * Executes a random tile insertion.
      * <p>
-     * Chooses a random direction and a random moveable row/column index (1, 3, or 5).
+     * Chooses a random direction and a random moveable row/column index (1, 3, or 5 on the standard board).
      * </p>
      *
      * @param facade The interface to interact with the game model.
@@ -31,8 +31,8 @@ public class RandomStrategy implements Strategy {
         // Choix d'une direction au hasard (Haut, Bas, Gauche, Droite)
         Direction d = dirs[random.nextInt(dirs.length)];
 
-        // Choix d'une ligne ou colonne mobile (indices impairs uniquement : 1, 3, 5)
-        int[] indices = {1, 3, 5};
+        // Choix d'une ligne ou colonne mobile (indices impairs uniquement : 1, 3, 5...)
+        int[] indices = facade.getMobileIndices();
         int idx = indices[random.nextInt(indices.length)];
 
         // Exécution de l'insertion via la façade
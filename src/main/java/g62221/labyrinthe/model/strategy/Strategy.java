@@ -37,4 +37,14 @@ public interface Strategy {
     // Phase 2 du tour : L'IA calcule et joue le déplacement de son pion.
     // On peut avoir ici une IA aléatoire ou une IA intelligente (BFS) selon la classe qui implémente cette interface.
     void playMove(LabyrinthFacade facade);
+
+    /**
+     * Gets the number of candidate turns examined by the last decision, for diagnostics
+     * (see {@link g62221.labyrinthe.metrics.BotDecisionEvent}).
+     *
+     * @return The count, or 0 if the strategy does not examine candidates.
+     */
+    default int getCandidatesEvaluated() {
+        return 0;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+package g62221.labyrinthe.server;
+
+import g62221.labyrinthe.model.Direction;
+import g62221.labyrinthe.model.Game;
+import g62221.labyrinthe.model.Position;
+import g62221.labyrinthe.model.Tile;
+import g62221.labyrinthe.model.actor.GameSnapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Client side of {@link DeltaEncoder}: rebuilds the state of a game from its frames.
+ * <p>
+ * Deltas received before the first keyframe are ignored. The lists of found treasures are not
+ * transmitted, so the snapshots produced here always have empty {@code found} lists.
+ * </p>
+ */
+public class DeltaDecoder {
+
+    private boolean synced = false;
+    private long version;
+    private Game.State state;
+    private int currentPlayer;
+    private int winnerId;
+    private Direction forbiddenDirection;
+    private int forbiddenIndex;
+    private int boardSize;
+    private GameSnapshot.Cell[] cells = new GameSnapshot.Cell[0];
+    private GameSnapshot.Cell extraTile;
+    private final List<String> names = new ArrayList<>();
+    private Position[] positions = new Position[0];
+    private Position[] starts = new Position[0];
+    private int[] cards = new int[0];
+    private String[] objectives = new String[0];
+
+    /**
+     * Applies one frame.
+     *
+     * @param frame The frame, positioned at its first byte.
+     * @return true if the state is now known (a keyframe has been received).
+     */
+    public boolean apply(ByteBuffer frame) {
+        byte type = frame.get();
+        if (type == DeltaEncoder.KEYFRAME) {
+            readKeyframe(frame);
+            synced = true;
+        } else if (type == DeltaEncoder.DELTA) {
+            if (synced) readDelta(frame);
+        } else {
+            throw new IllegalArgumentException("Unknown frame type: " + type);
+        }
+        return synced;
+    }
+
+    /**
+     * Builds the snapshot of the state rebuilt so far.
+     *
+     * @return The current state, or null before the first keyframe.
+     */
+    public GameSnapshot snapshot() {
+        if (!synced) return null;
+        List<GameSnapshot.PlayerView> players = new ArrayList<>(positions.length);
+        for (int i = 0; i < positions.length; i++) {
+            players.add(new GameSnapshot.PlayerView(i, positions[i], starts[i], objectives[i], cards[i], List.of()));
+        }
+        return new GameSnapshot(version, state, currentPlayer, winnerId, forbiddenDirection, forbiddenIndex,
+                boardSize, List.of(cells), extraTile, List.copyOf(players));
+    }
+
+    private void readKeyframe(ByteBuffer in) {
+        version = in.getLong();
+        readHeader(in);
+        boardSize = in.get();
+        names.clear();
+        int nbNames = in.getShort();
+        for (int i = 0; i < nbNames; i++) {
+            byte[] utf = new byte[in.getShort()];
+            in.get(utf);
+            names.add(new String(utf, StandardCharsets.UTF_8));
+        }
+        cells = new GameSnapshot.Cell[boardSize * boardSize];
+        for (int i = 0; i < cells.length; i++) cells[i] = readCell(in);
+        extraTile = readCell(in);
+
+        int nbPlayers = in.get();
+        positions = new Position[nbPlayers];
+        starts = new Position[nbPlayers];
+        cards = new int[nbPlayers];
+        objectives = new String[nbPlayers];
+        for (int i = 0; i < nbPlayers; i++) {
+            positions[i] = new Position(in.get(), in.get());
+            starts[i] = new Position(in.get(), in.get());
+            cards[i] = in.getShort();
+            objectives[i] = nameOf(in.getShort());
+        }
+    }
+
+    private void readDelta(ByteBuffer in) {
+        version = in.getLong();
+        int flags = in.get();
+        if ((flags & DeltaEncoder.FLAG_HEADER) != 0) readHeader(in);
+
+        cells = Arrays.copyOf(cells, cells.length); // Les snapshots déjà rendus restent immuables
+        int changed = in.getShort();
+        for (int i = 0; i < changed; i++) {
+            int index = in.getShort();
+            cells[index] = readCell(in);
+        }
+        if ((flags & DeltaEncoder.FLAG_EXTRA) != 0) extraTile = readCell(in);
+
+        int moved = in.get();
+        for (int i = 0; i < moved; i++) {
+            int id = in.get();
+            positions[id] = new Position(in.get(), in.get());
+            cards[id] = in.getShort();
+            objectives[id] = nameOf(in.getShort());
+        }
+    }
+
+    private void readHeader(ByteBuffer in) {
+        state = Game.State.values()[in.get()];
+        currentPlayer = in.get();
+        winnerId = in.get() - 1;
+        int dir = in.get();
+        forbiddenDirection = (dir == 0) ? null : Direction.values()[dir - 1];
+        forbiddenIndex = in.get() - 1;
+    }
+
+    private GameSnapshot.Cell readCell(ByteBuffer in) {
+        int packed = in.get();
+        String treasure = nameOf(in.getShort());
+        return new GameSnapshot.Cell(Tile.Shape.values()[packed >> 3], ((packed >> 1) & 3) * 90, treasure, (packed & 1) != 0);
+    }
+
+    private String nameOf(int id) {
+        return (id == 0) ? null : names.get((id & 0xFFFF) - 1);
+    }
+}
@@ -0,0 +1,233 @@
+package g62221.labyrinthe.server;
+
+import g62221.labyrinthe.model.actor.GameSnapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Encodes the successive snapshots of one game into compact binary frames for spectators.
+ * <p>
+ * A <b>keyframe</b> ({@code 'K'}) describes the whole game and is self-sufficient. A <b>delta</b> ({@code 'D'})
+ * only contains what changed since the previous frame: the header when the phase or the turn changes,
+ * the cells of the slid line, the new extra tile and the players that moved or found a treasure.
+ * A keyframe is emitted every {@value #KEYFRAME_INTERVAL} frames so that a client that missed frames
+ * can resynchronize. {@link DeltaDecoder} reads the frames back.
+ * </p>
+ * <p>
+ * Changed cells are detected by reference: {@link g62221.labyrinthe.model.actor.GameActor} reuses the
+ * cell objects of the tiles that did not move, so comparing two snapshots costs one pointer test per cell.
+ * </p>
+ * <pre>
+ * Keyframe : 'K' version(8) header(5) size(1) nbNames(2) names(UTF: 2 + n)... cells(3 x size²) extra(3) nbPlayers(1) players(8 x p)
+ * Delta    : 'D' version(8) flags(1) [header(5)] nbCells(2) (index(2) cell(3))... [extra(3)] nbPlayers(1) (id(1) row col cards(2) objective(2))...
+ * header   : state, current player, winner + 1, forbidden direction + 1, forbidden index + 1
+ * cell     : (shape &lt;&lt; 3 | rotation / 90 &lt;&lt; 1 | fixed), treasure id(2) (0 = none)
+ * </pre>
+ */
+public class DeltaEncoder {
+
+    /** Number of frames between two keyframes. */
+    public static final int KEYFRAME_INTERVAL = 32;
+
+    static final byte KEYFRAME = 'K';
+    static final byte DELTA = 'D';
+    static final int FLAG_HEADER = 1;
+    static final int FLAG_EXTRA = 2;
+
+    // Tampon de travail réutilisé d'une trame à l'autre (l'encodeur n'est utilisé que par l'écrivain)
+    private ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+    private GameSnapshot previous;
+    private int framesSinceKeyframe = 0;
+    private final Map<String, Integer> treasureIds = new HashMap<>();
+    private final List<String> treasureNames = new ArrayList<>();
+
+    /**
+     * Encodes the next snapshot of the game.
+     *
+     * @param snapshot The new state.
+     * @return A keyframe (first frame, or every {@value #KEYFRAME_INTERVAL} frames) or a delta.
+     */
+    public byte[] encode(GameSnapshot snapshot) {
+        boolean key = previous == null || framesSinceKeyframe >= KEYFRAME_INTERVAL - 1
+                || previous.boardSize() != snapshot.boardSize()
+                || previous.players().size() != snapshot.players().size()
+                || !allTreasuresKnown(snapshot);
+        byte[] frame = key ? encodeKeyframe(snapshot) : encodeDelta(previous, snapshot);
+        framesSinceKeyframe = key ? 0 : framesSinceKeyframe + 1;
+        previous = snapshot;
+        return frame;
+    }
+
+    /**
+     * Restarts the delta chain: the next call to {@link #encode(GameSnapshot)} produces a keyframe.
+     */
+    public void reset() {
+        previous = null;
+    }
+
+    /**
+     * Encodes a keyframe without changing the delta chain (used for spectators joining mid-game).
+     *
+     * @param snapshot The state to describe.
+     * @return The keyframe.
+     */
+    public byte[] encodeKeyframe(GameSnapshot snapshot) {
+        // La table des trésors ne fait que grandir (les identifiants des deltas restent valables)
+        // et chaque keyframe la transmet en entier : elle se suffit à elle-même
+        for (GameSnapshot.Cell c : snapshot.cells()) register(c.treasure());
+        register(snapshot.extraTile().treasure());
+        for (GameSnapshot.PlayerView p : snapshot.players()) register(p.objective());
+
+        buffer.clear();
+        put(KEYFRAME);
+        putLong(snapshot.version());
+        putHeader(snapshot);
+        put(snapshot.boardSize());
+        putShort(treasureNames.size());
+        for (String name : treasureNames) {
+            byte[] utf = name.getBytes(StandardCharsets.UTF_8);
+            putShort(utf.length);
+            ensure(utf.length);
+            buffer.put(utf);
+        }
+        for (GameSnapshot.Cell c : snapshot.cells()) putCell(c);
+        putCell(snapshot.extraTile());
+        put(snapshot.players().size());
+        for (GameSnapshot.PlayerView p : snapshot.players()) {
+            put(p.position().row());
+            put(p.position().col());
+            put(p.start().row());
+            put(p.start().col());
+            putShort(p.cardsRemaining());
+            putShort(idOf(p.objective()));
+        }
+        return toArray();
+    }
+
+    private byte[] encodeDelta(GameSnapshot before, GameSnapshot after) {
+        boolean headerChanged = before.state() != after.state() || before.currentPlayer() != after.currentPlayer()
+                || before.winnerId() != after.winnerId() || before.forbiddenDirection() != after.forbiddenDirection()
+                || before.forbiddenIndex() != after.forbiddenIndex();
+        boolean extraChanged = !before.extraTile().equals(after.extraTile());
+
+        buffer.clear();
+        put(DELTA);
+        putLong(after.version());
+        put((headerChanged ? FLAG_HEADER : 0) | (extraChanged ? FLAG_EXTRA : 0));
+        if (headerChanged) putHeader(after);
+
+        // Cellules modifiées : comparaison par référence (les cellules inchangées sont partagées)
+        int countPosition = buffer.position();
+        putShort(0);
+        int changed = 0;
+        for (int i = 0; i < after.cells().size(); i++) {
+            GameSnapshot.Cell c = after.cells().get(i);
+            if (c != before.cells().get(i) && !c.equals(before.cells().get(i))) {
+                putShort(i);
+                putCell(c);
+                changed++;
+            }
+        }
+        buffer.putShort(countPosition, (short) changed);
+
+        if (extraChanged) putCell(after.extraTile());
+
+        // Joueurs déplacés ou ayant trouvé un trésor
+        countPosition = buffer.position();
+        put(0);
+        int moved = 0;
+        for (int i = 0; i < after.players().size(); i++) {
+            GameSnapshot.PlayerView a = after.players().get(i);
+            GameSnapshot.PlayerView b = before.players().get(i);
+            if (!a.position().equals(b.position()) || a.cardsRemaining() != b.cardsRemaining()
+                    || !Objects.equals(a.objective(), b.objective())) {
+                put(i);
+                put(a.position().row());
+                put(a.position().col());
+                putShort(a.cardsRemaining());
+                putShort(idOf(a.objective()));
+                moved++;
+            }
+        }
+        buffer.put(countPosition, (byte) moved);
+        return toArray();
+    }
+
+    private void putHeader(GameSnapshot s) {
+        put(s.state().ordinal());
+        put(s.currentPlayer());
+        put(s.winnerId() + 1);
+        put(s.forbiddenDirection() == null ? 0 : s.forbiddenDirection().ordinal() + 1);
+        put(s.forbiddenIndex() + 1);
+    }
+
+    private void putCell(GameSnapshot.Cell c) {
+        put((c.shape().ordinal() << 3) | ((c.rotation() / 90) << 1) | (c.fixed() ? 1 : 0));
+        putShort(idOf(c.treasure())); // Sur 2 octets : les grands plateaux ont des centaines de trésors
+    }
+
+    private boolean allTreasuresKnown(GameSnapshot s) {
+        for (GameSnapshot.Cell c : s.cells()) {
+            if (c.treasure() != null && !treasureIds.containsKey(c.treasure())) return false;
+        }
+        if (s.extraTile().treasure() != null && !treasureIds.containsKey(s.extraTile().treasure())) return false;
+        for (GameSnapshot.PlayerView p : s.players()) {
+            if (p.objective() != null && !treasureIds.containsKey(p.objective())) return false;
+        }
+        return true;
+    }
+
+    private void register(String treasure) {
+        if (treasure != null && !treasureIds.containsKey(treasure)) {
+            treasureNames.add(treasure);
+            treasureIds.put(treasure, treasureNames.size()); // 0 est réservé à "aucun"
+        }
+    }
+
+    private int idOf(String treasure) {
+        if (treasure == null) return 0;
+        Integer id = treasureIds.get(treasure);
+        if (id == null) throw new IllegalStateException("Unknown treasure (missing keyframe): " + treasure);
+        return id;
+    }
+
+    // --- Écriture avec agrandissement automatique du tampon ---
+
+    private void ensure(int bytes) {
+        if (buffer.remaining() < bytes) {
+            ByteBuffer bigger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes));
+            buffer.flip();
+            bigger.put(buffer);
+            buffer = bigger;
+        }
+    }
+
+    private void put(int value) {
+        ensure(1);
+        buffer.put((byte) value);
+    }
+
+    private void putShort(int value) {
+        ensure(2);
+        buffer.putShort((short) value);
+    }
+
+    private void putLong(long value) {
+        ensure(8);
+        buffer.putLong(value);
+    }
+
+    private byte[] toArray() {
+        byte[] frame = new byte[buffer.position()];
+        buffer.flip();
+        buffer.get(frame);
+        return frame;
+    }
+}
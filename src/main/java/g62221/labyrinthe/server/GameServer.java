@@ -0,0 +1,190 @@
+package g62221.labyrinthe.server;
+
+import java.io.BufferedReader;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Headless multi-session game server (no JavaFX).
+ * <p>
+ * Clients connect to a local TCP socket and speak the line protocol of {@link ProtocolHandler}.
+ * Each connection is served by its own virtual thread, so thousands of mostly idle clients cost
+ * almost nothing. Game actions (bot turns included) are CPU-bound: each session is a
+ * {@link g62221.labyrinthe.model.actor.GameActor} drained on a fixed pool sized to the number of cores,
+ * and the virtual thread of the client simply waits for them.
+ * </p>
+ * <p>
+ * Usage: {@code java g62221.labyrinthe.server.GameServer [port]} (default port {@value #DEFAULT_PORT}).
+ * The server prints sessions/s, moves/s and the p99 move latency every {@value #STATS_PERIOD_SECONDS} seconds.
+ * </p>
+ */
+public class GameServer implements AutoCloseable {
+
+    /** Port used when none is given on the command line. */
+    public static final int DEFAULT_PORT = 7777;
+
+    /** Period of the statistics printed on the console. */
+    public static final int STATS_PERIOD_SECONDS = 5;
+
+    private final SessionRegistry registry;
+    private final ServerMetrics metrics = new ServerMetrics();
+    private final ServerSocket serverSocket;
+    private final ExecutorService connections = Executors.newVirtualThreadPerTaskExecutor();
+    private final ExecutorService botPool;
+    private final ScheduledExecutorService statsPrinter = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "server-stats");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * Opens the server socket on the loopback interface.
+     *
+     * @param port The TCP port (0 = any free port).
+     * @throws IOException if the port cannot be opened.
+     */
+    public GameServer(int port) throws IOException {
+        this.serverSocket = new ServerSocket(port, 512, InetAddress.getLoopbackAddress());
+        AtomicInteger counter = new AtomicInteger();
+        this.botPool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+            Thread t = new Thread(r, "bot-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.registry = new SessionRegistry(botPool);
+    }
+
+    /**
+     * Gets the port the server listens on.
+     *
+     * @return The local port.
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Gets the counters of the server.
+     *
+     * @return The metrics.
+     */
+    public ServerMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Accepts connections until the server is closed. Blocks the calling thread.
+     */
+    public void serve() {
+        statsPrinter.scheduleAtFixedRate(
+                () -> System.out.println("[Serveur] " + metrics.snapshot(registry.size())),
+                STATS_PERIOD_SECONDS, STATS_PERIOD_SECONDS, TimeUnit.SECONDS);
+
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.submit(() -> serveClient(socket)); // Un thread virtuel par connexion
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) System.err.println("Erreur d'acceptation : " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Reads the requests of one client and writes the answers, until QUIT or disconnection.
+     *
+     * @param socket The client connection.
+     */
+    private void serveClient(Socket socket) {
+        ProtocolHandler handler = new ProtocolHandler(registry, metrics);
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while (!handler.isClosed() && (line = in.readLine()) != null) {
+                if (line.isBlank()) continue;
+                out.write(handler.handle(line));
+                out.newLine();
+                out.flush();
+
+                // WATCH : la connexion devient un flux de trames binaires
+                SpectatorBroadcaster.Subscription watch = handler.takeWatch();
+                if (watch != null) {
+                    streamFrames(socket, watch);
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            // Client déconnecté brutalement : on libère simplement sa partie
+        } finally {
+            handler.close();
+        }
+    }
+
+    /**
+     * Sends the frames of a watched game, each prefixed by its length (4 bytes), until the spectator leaves.
+     *
+     * @param socket The spectator connection.
+     * @param watch  The subscription of the spectator.
+     * @throws IOException if the spectator disconnects.
+     */
+    private void streamFrames(Socket socket, SpectatorBroadcaster.Subscription watch) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        try {
+            while (!socket.isClosed()) {
+                ByteBuffer frame = watch.take(); // Attente bon marché : thread virtuel
+                out.writeInt(frame.remaining());
+                byte[] chunk = new byte[frame.remaining()];
+                frame.get(chunk);
+                out.write(chunk);
+                // On vide le tampon seulement quand aucune autre trame n'attend
+                if (watch.peekEmpty()) out.flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            watch.cancel();
+        }
+    }
+
+    /**
+     * Stops accepting clients and shuts the thread pools down.
+     *
+     * @throws IOException if the server socket cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        statsPrinter.shutdownNow();
+        connections.shutdownNow();
+        botPool.shutdownNow();
+    }
+
+    /**
+     * Starts a server from the command line.
+     *
+     * @param args Optional port number.
+     * @throws IOException if the port cannot be opened.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        try (GameServer server = new GameServer(port)) {
+            System.out.println("[Serveur] En écoute sur le port " + server.getPort());
+            server.serve();
+        }
+    }
+}
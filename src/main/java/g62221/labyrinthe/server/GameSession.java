@@ -0,0 +1,220 @@
+package g62221.labyrinthe.server;
+
+import g62221.labyrinthe.model.Direction;
+import g62221.labyrinthe.model.Game;
+import g62221.labyrinthe.model.Position;
+import g62221.labyrinthe.model.actor.GameActor;
+import g62221.labyrinthe.model.actor.GameSnapshot;
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * One game hosted by the server.
+ * <p>
+ * A session owns its own {@link LabyrinthFacade} (a {@code Game} and its {@code CommandManager}),
+ * so thousands of sessions can live in the same JVM without sharing any state.
+ * The facade is wrapped in a {@link GameActor}: the commands of the player and the bot turns are
+ * messages applied one after the other by a single writer on the server pool, and reads
+ * ({@link #describe()}, {@link #isOver()}) use the last published snapshot without any lock.
+ * </p>
+ */
+public class GameSession {
+
+    /** Upper bound of consecutive bot turns played in one go (safety against endless bot-only games). */
+    public static final int MAX_BOT_TURNS = 10_000;
+
+    private final long id;
+    private final GameActor actor;
+    private SpectatorBroadcaster spectators; // Créé au premier spectateur seulement
+
+    /**
+     * Creates and starts a new game.
+     *
+     * @param id          The unique identifier of the session.
+     * @param nbPlayers   The number of players (between 2 and 4).
+     * @param humanPlayer true if Player 0 is controlled by the client, false for a bot-only game.
+     * @param executor    The pool running the messages of the game (bot turns included).
+     */
+    public GameSession(long id, int nbPlayers, boolean humanPlayer, Executor executor) {
+        if (nbPlayers < 2 || nbPlayers > 4) {
+            throw new IllegalArgumentException("The number of players must be between 2 and 4.");
+        }
+        this.id = id;
+        this.actor = new GameActor(executor);
+        await(actor.startGame(nbPlayers, humanPlayer));
+    }
+
+    /**
+     * Gets the identifier of the session.
+     *
+     * @return The session id.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Inserts the extra tile for the human player.
+     *
+     * @param dir   The direction of the slide.
+     * @param index The row or column index.
+     * @throws IllegalStateException    if it is not the player's turn to insert.
+     * @throws IllegalArgumentException if the insertion is forbidden.
+     */
+    public void insert(Direction dir, int index) {
+        await(actor.tell(f -> {
+            requireHumanTurn(f, Game.State.WAITING_FOR_SLIDE);
+            if (!f.insertTile(dir, index)) {
+                throw new IllegalArgumentException("Forbidden insertion.");
+            }
+        }));
+    }
+
+    /**
+     * Moves the pawn of the human player.
+     *
+     * @param row The target row.
+     * @param col The target column.
+     * @throws IllegalStateException    if it is not the player's turn to move.
+     * @throws IllegalArgumentException if the target cannot be reached.
+     */
+    public void move(int row, int col) {
+        await(actor.tell(f -> {
+            requireHumanTurn(f, Game.State.WAITING_FOR_MOVE);
+            f.movePlayer(row, col);
+            // La façade ignore les coups invalides : on le détecte au changement de phase
+            if (f.getGameState() == Game.State.WAITING_FOR_MOVE) {
+                throw new IllegalArgumentException("Path is blocked!");
+            }
+        }));
+    }
+
+    /**
+     * Rotates the extra tile (clockwise or counter-clockwise).
+     *
+     * @param clockwise true for a clockwise quarter turn.
+     */
+    public void rotate(boolean clockwise) {
+        await(actor.tell(f -> {
+            requireHumanTurn(f, Game.State.WAITING_FOR_SLIDE);
+            if (clockwise) f.rotateExtraTile();
+            else f.rotateExtraTileCCW();
+        }));
+    }
+
+    /**
+     * Undoes the last action.
+     */
+    public void undo() {
+        await(actor.undo());
+    }
+
+    /**
+     * Redoes the last undone action.
+     */
+    public void redo() {
+        await(actor.redo());
+    }
+
+    /**
+     * Plays the bot turns until the human player must play or the game is over.
+     * <p>
+     * The turns run on the server pool; the calling (virtual) thread only waits. Each turn is a
+     * separate message, so a snapshot (and a spectator frame) is published after every bot turn.
+     * </p>
+     *
+     * @return The number of bot turns played.
+     */
+    public int playBots() {
+        int turns = 0;
+        while (turns < MAX_BOT_TURNS && await(actor.ask(GameSession::playOneBotTurn))) {
+            turns++;
+        }
+        return turns;
+    }
+
+    /**
+     * Gets the broadcaster of this game, attaching it to the game on first use.
+     * Games nobody watches therefore never encode any frame.
+     *
+     * @return The spectator broadcaster.
+     */
+    public synchronized SpectatorBroadcaster spectators() {
+        if (spectators == null) {
+            spectators = new SpectatorBroadcaster();
+            actor.addSnapshotListener(spectators);
+            spectators.prime(actor.snapshot());
+        }
+        return spectators;
+    }
+
+    /**
+     * Checks if the game is over. Never blocks.
+     *
+     * @return true once a player has won.
+     */
+    public boolean isOver() {
+        return actor.snapshot().state() == Game.State.GAME_OVER;
+    }
+
+    /**
+     * Gets the last published state of the game. Never blocks.
+     *
+     * @return The snapshot.
+     */
+    public GameSnapshot snapshot() {
+        return actor.snapshot();
+    }
+
+    /**
+     * Describes the state of the game on one line (protocol format). Never blocks.
+     * <p>
+     * Example: {@code state=WAITING_FOR_SLIDE current=0 winner=-1 extra=L/90 objective=goal_bat players=6:0,6:6}
+     * </p>
+     *
+     * @return The description.
+     */
+    public String describe() {
+        GameSnapshot snap = actor.snapshot();
+        StringBuilder sb = new StringBuilder(96);
+        sb.append("state=").append(snap.state())
+                .append(" current=").append(snap.currentPlayer())
+                .append(" winner=").append(snap.winnerId())
+                .append(" extra=").append(snap.extraTile().shape()).append('/').append(snap.extraTile().rotation())
+                .append(" objective=").append(snap.players().get(snap.currentPlayer()).objective())
+                .append(" players=");
+        for (int i = 0; i < snap.players().size(); i++) {
+            Position p = snap.players().get(i).position();
+            if (i > 0) sb.append(',');
+            sb.append(p.row()).append(':').append(p.col());
+        }
+        return sb.toString();
+    }
+
+    private static boolean playOneBotTurn(LabyrinthFacade facade) {
+        if (facade.getGameState() == Game.State.GAME_OVER || !facade.isCurrentPlayerBot()) return false;
+        facade.playBot();
+        return true;
+    }
+
+    private static void requireHumanTurn(LabyrinthFacade facade, Game.State expected) {
+        if (facade.isCurrentPlayerBot() || facade.getGameState() != expected) {
+            throw new IllegalStateException("Not your turn to do that (" + facade.getGameState() + ").");
+        }
+    }
+
+    /**
+     * Waits for a message of the actor and rethrows its failure as is.
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package g62221.labyrinthe.server;
+
+import g62221.labyrinthe.metrics.MetricsRegistry;
+import g62221.labyrinthe.model.Direction;
+
+import java.util.Locale;
+
+/**
+ * Line protocol of the game server, for one client connection.
+ * <p>
+ * Each request is one line of text, and each answer is one line starting with {@code OK} or {@code ERR}:
+ * </p>
+ * <pre>
+ * NEW &lt;players&gt; [BOTS]   -&gt; OK &lt;session id&gt;     (BOTS: every seat is a bot, the game is played at once)
+ * ROTATE [CCW]            -&gt; OK
+ * INSERT &lt;dir&gt; &lt;index&gt;   -&gt; OK
+ * MOVE &lt;row&gt; &lt;col&gt;       -&gt; OK &lt;bot turns played&gt;
+ * UNDO | REDO             -&gt; OK
+ * STATE                   -&gt; OK state=... current=... winner=... extra=... objective=... players=...
+ * STATS                   -&gt; OK sessions/s=... moves/s=... p99=...ms active=...
+ * METRICS                 -&gt; OK &lt;name&gt; &lt;value&gt; | ...  (engine metrics, see {@link MetricsRegistry})
+ * WATCH &lt;session id&gt;      -&gt; OK WATCH, then binary frames (see {@link DeltaEncoder}) until disconnection
+ * QUIT                    -&gt; BYE
+ * </pre>
+ * <p>
+ * The handler does no I/O, so it can be driven by a socket or directly by tests.
+ * Every game action runs on the pool of its session; the calling (virtual) thread just waits for it.
+ * </p>
+ */
+public class ProtocolHandler {
+
+    private final SessionRegistry registry;
+    private final ServerMetrics metrics;
+
+    private GameSession session; // Partie de cette connexion (null avant NEW)
+    private boolean closed = false;
+    private SpectatorBroadcaster.Subscription watch; // Abonnement demandé par WATCH (pas encore servi)
+
+    /**
+     * Creates the handler of one connection.
+     *
+     * @param registry The sessions of the server.
+     * @param metrics  The server counters.
+     */
+    public ProtocolHandler(SessionRegistry registry, ServerMetrics metrics) {
+        this.registry = registry;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Processes one request line.
+     *
+     * @param line The request.
+     * @return The answer line.
+     */
+    public String handle(String line) {
+        String[] args = line.trim().split("\\s+");
+        String command = args[0].toUpperCase(Locale.ROOT);
+        try {
+            return switch (command) {
+                case "NEW" -> newSession(args);
+                case "ROTATE" -> {
+                    current().rotate(args.length < 2 || !args[1].equalsIgnoreCase("CCW"));
+                    yield "OK";
+                }
+                case "INSERT" -> {
+                    long start = System.nanoTime();
+                    current().insert(Direction.valueOf(args[1].toUpperCase(Locale.ROOT)), Integer.parseInt(args[2]));
+                    metrics.recordMoveLatency(System.nanoTime() - start);
+                    yield "OK";
+                }
+                case "MOVE" -> move(args);
+                case "UNDO" -> {
+                    current().undo();
+                    yield "OK";
+                }
+                case "REDO" -> {
+                    current().redo();
+                    yield "OK";
+                }
+                case "STATE" -> "OK " + current().describe();
+                case "STATS" -> "OK " + metrics.snapshot(registry.size());
+                case "METRICS" -> "OK " + String.join(" | ", MetricsRegistry.global().dump());
+                case "WATCH" -> {
+                    GameSession watched = registry.get(Long.parseLong(args[1]));
+                    if (watched == null) yield "ERR No such session: " + args[1];
+                    watch = watched.spectators().subscribe();
+                    yield "OK WATCH";
+                }
+                case "QUIT" -> {
+                    close();
+                    yield "BYE";
+                }
+                default -> "ERR Unknown command: " + args[0];
+            };
+        } catch (ArrayIndexOutOfBoundsException e) {
+            return "ERR Missing argument for " + command;
+        } catch (NumberFormatException e) {
+            return "ERR Invalid number: " + e.getMessage();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return "ERR " + e.getMessage();
+        }
+    }
+
+    /**
+     * Checks if the client asked to close the connection.
+     *
+     * @return true after QUIT.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Takes the spectator subscription requested by the last WATCH command.
+     * The connection must then switch to streaming binary frames.
+     *
+     * @return The subscription, or null if the client did not ask to watch a game.
+     */
+    public SpectatorBroadcaster.Subscription takeWatch() {
+        SpectatorBroadcaster.Subscription taken = watch;
+        watch = null;
+        return taken;
+    }
+
+    /**
+     * Releases the session of this connection. Called on QUIT or when the socket is closed.
+     */
+    public void close() {
+        closed = true;
+        if (session != null) {
+            registry.remove(session.getId());
+            session = null;
+        }
+    }
+
+    private String newSession(String[] args) {
+        int nbPlayers = Integer.parseInt(args[1]);
+        boolean humanPlayer = args.length < 3 || !args[2].equalsIgnoreCase("BOTS");
+
+        // Une connexion = une partie : l'ancienne est libérée
+        if (session != null) registry.remove(session.getId());
+        session = registry.create(nbPlayers, humanPlayer);
+        metrics.sessionCreated();
+
+        // Partie sans humain : elle est jouée entièrement sur le pool des bots
+        if (!humanPlayer) runBots(session);
+        return "OK " + session.getId();
+    }
+
+    private String move(String[] args) {
+        GameSession current = current();
+        long start = System.nanoTime();
+        current.move(Integer.parseInt(args[1]), Integer.parseInt(args[2]));
+        metrics.movesPlayed(1);
+
+        // Réponse des bots, calculée sur le pool CPU borné (file de messages de la partie)
+        int botTurns = current.isOver() ? 0 : runBots(current);
+        metrics.recordMoveLatency(System.nanoTime() - start);
+        return "OK " + botTurns;
+    }
+
+    private int runBots(GameSession target) {
+        int turns = target.playBots();
+        metrics.movesPlayed(turns);
+        return turns;
+    }
+
+    private GameSession current() {
+        if (session == null) throw new IllegalStateException("No game: send NEW first.");
+        return session;
+    }
+}
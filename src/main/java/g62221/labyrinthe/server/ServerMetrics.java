@@ -0,0 +1,123 @@
+package g62221.labyrinthe.server;
+
+import g62221.labyrinthe.metrics.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput and latency counters of the game server.
+ * <p>
+ * Counters are {@link LongAdder}s, so the connection threads and the bot pool update them without
+ * contention. {@link #snapshot(int)} turns them into rates (per second since the previous snapshot), and
+ * gives the p99 latency of the same window: the latencies are also recorded into a histogram of the
+ * window, replaced by an empty one at each snapshot, so that a recent spike is not diluted in the lifetime
+ * histogram.
+ * </p>
+ */
+public class ServerMetrics {
+
+    private final LongAdder sessionsCreated = new LongAdder();
+    private final LongAdder moves = new LongAdder();
+    private final LatencyHistogram moveLatency = new LatencyHistogram();
+    private volatile LatencyHistogram windowLatency = new LatencyHistogram(); // Depuis le snapshot précédent
+
+    // Valeurs du snapshot précédent (pour calculer des débits)
+    private long lastNanos = System.nanoTime();
+    private long lastSessions;
+    private long lastMoves;
+
+    /**
+     * Summary of the server activity since the previous snapshot.
+     *
+     * @param sessionsPerSecond New sessions per second.
+     * @param movesPerSecond    Complete turns played per second (players and bots).
+     * @param p99MoveMillis     99th percentile of the time to process a player command since the previous
+     *                          snapshot, in milliseconds (0 if no command was processed).
+     * @param activeSessions    Number of sessions currently open.
+     */
+    public record Snapshot(double sessionsPerSecond, double movesPerSecond, double p99MoveMillis, int activeSessions) {
+        @Override
+        public String toString() {
+            return String.format(java.util.Locale.ROOT, "sessions/s=%.1f moves/s=%.1f p99=%.3fms active=%d",
+                    sessionsPerSecond, movesPerSecond, p99MoveMillis, activeSessions);
+        }
+    }
+
+    /** Records the creation of a session. */
+    public void sessionCreated() {
+        sessionsCreated.increment();
+    }
+
+    /**
+     * Records complete turns.
+     *
+     * @param count The number of turns played.
+     */
+    public void movesPlayed(int count) {
+        moves.add(count);
+    }
+
+    /**
+     * Records the processing time of a player command (bot replies included).
+     *
+     * @param nanos The duration in nanoseconds.
+     */
+    public void recordMoveLatency(long nanos) {
+        moveLatency.record(nanos);
+        windowLatency.record(nanos);
+    }
+
+    /**
+     * Computes the rates and the p99 latency since the previous snapshot.
+     *
+     * @param activeSessions The number of sessions currently open.
+     * @return The activity summary.
+     */
+    public synchronized Snapshot snapshot(int activeSessions) {
+        long now = System.nanoTime();
+        long sessions = sessionsCreated.sum();
+        long played = moves.sum();
+        double seconds = Math.max(1e-9, (now - lastNanos) / 1e9);
+        // Nouvelle fenêtre : les mesures suivantes vont dans un histogramme vide
+        LatencyHistogram window = windowLatency;
+        windowLatency = new LatencyHistogram();
+
+        Snapshot snap = new Snapshot(
+                (sessions - lastSessions) / seconds,
+                (played - lastMoves) / seconds,
+                window.percentile(99) / 1e6,
+                activeSessions);
+
+        lastNanos = now;
+        lastSessions = sessions;
+        lastMoves = played;
+        return snap;
+    }
+
+    /**
+     * Gets the total number of sessions created since the start of the server.
+     *
+     * @return The count.
+     */
+    public long getSessionsCreated() {
+        return sessionsCreated.sum();
+    }
+
+    /**
+     * Gets the total number of turns played since the start of the server.
+     *
+     * @return The count.
+     */
+    public long getMovesPlayed() {
+        return moves.sum();
+    }
+
+    /**
+     * Gets the histogram of the player command latencies since the start of the server.
+     *
+     * @return The histogram (in nanoseconds).
+     */
+    public LatencyHistogram getMoveLatency() {
+        return moveLatency;
+    }
+}
@@ -0,0 +1,66 @@
+package g62221.labyrinthe.server;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe directory of the sessions hosted by the server.
+ */
+public class SessionRegistry {
+
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final Executor executor;
+
+    /**
+     * Creates an empty registry.
+     *
+     * @param executor The pool running the games (player commands and bot turns).
+     */
+    public SessionRegistry(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Creates, starts and registers a new session.
+     *
+     * @param nbPlayers   The number of players.
+     * @param humanPlayer true if Player 0 is controlled by a client.
+     * @return The new session.
+     */
+    public GameSession create(int nbPlayers, boolean humanPlayer) {
+        GameSession session = new GameSession(nextId.getAndIncrement(), nbPlayers, humanPlayer, executor);
+        sessions.put(session.getId(), session);
+        return session;
+    }
+
+    /**
+     * Finds a session by its identifier.
+     *
+     * @param id The session id.
+     * @return The session, or null if it does not exist (anymore).
+     */
+    public GameSession get(long id) {
+        return sessions.get(id);
+    }
+
+    /**
+     * Closes a session.
+     *
+     * @param id The session id.
+     */
+    public void remove(long id) {
+        sessions.remove(id);
+    }
+
+    /**
+     * Gets the number of open sessions.
+     *
+     * @return The count.
+     */
+    public int size() {
+        return sessions.size();
+    }
+}
@@ -0,0 +1,162 @@
+package g62221.labyrinthe.server;
+
+import g62221.labyrinthe.model.actor.GameSnapshot;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts the frames of one game to its spectators.
+ * <p>
+ * Each snapshot is encoded <b>once</b> by a {@link DeltaEncoder}; the same immutable byte array is then
+ * handed to every subscriber (as a read-only view), so the cost of a turn barely depends on the number
+ * of spectators. A spectator joining mid-game first receives a keyframe of the current state.
+ * </p>
+ * <p>
+ * A slow spectator never slows the game down: its frames wait in a bounded queue, and when the queue
+ * is full it is emptied and the spectator skips deltas until the next periodic keyframe.
+ * </p>
+ */
+public class SpectatorBroadcaster implements Consumer<GameSnapshot> {
+
+    /** Number of frames a spectator may have pending before it is considered lagging. */
+    public static final int QUEUE_CAPACITY = 256;
+
+    private final DeltaEncoder encoder = new DeltaEncoder();
+    private final List<Subscription> subscribers = new CopyOnWriteArrayList<>();
+    private GameSnapshot last;
+    private long framesEncoded = 0;
+
+    /**
+     * A spectator: a bounded queue of frames, read by the connection of the spectator.
+     */
+    public static class Subscription {
+        private final SpectatorBroadcaster owner;
+        private final BlockingQueue<ByteBuffer> frames = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private boolean lagging = false;
+
+        private Subscription(SpectatorBroadcaster owner) {
+            this.owner = owner;
+        }
+
+        /**
+         * Waits for the next frame.
+         *
+         * @return A read-only view of the frame.
+         * @throws InterruptedException if the waiting thread is interrupted.
+         */
+        public ByteBuffer take() throws InterruptedException {
+            return frames.take();
+        }
+
+        /**
+         * Gets the next frame if one is waiting.
+         *
+         * @return A read-only view of the frame, or null.
+         */
+        public ByteBuffer poll() {
+            return frames.poll();
+        }
+
+        /**
+         * Checks if no frame is waiting.
+         *
+         * @return true if the queue is empty.
+         */
+        public boolean peekEmpty() {
+            return frames.isEmpty();
+        }
+
+        /**
+         * Stops receiving the frames of the game.
+         */
+        public void cancel() {
+            owner.unsubscribe(this);
+        }
+
+        private void offer(byte[] frame, boolean keyframe) {
+            // En retard : on attend une keyframe pour repartir d'un état complet
+            if (lagging && !keyframe) return;
+            lagging = false;
+            if (!frames.offer(ByteBuffer.wrap(frame).asReadOnlyBuffer())) {
+                frames.clear();
+                lagging = true;
+            }
+        }
+    }
+
+    /**
+     * Sets the current state if no snapshot has been received yet (broadcaster attached mid-game).
+     *
+     * @param snapshot The state of the game when the broadcaster was attached.
+     */
+    synchronized void prime(GameSnapshot snapshot) {
+        if (last == null) last = snapshot;
+    }
+
+    /**
+     * Registers a spectator. It immediately receives a keyframe of the current state (if any).
+     *
+     * @return The subscription to read the frames from.
+     */
+    public synchronized Subscription subscribe() {
+        Subscription sub = new Subscription(this);
+        if (last != null) sub.offer(encoder.encodeKeyframe(last), true);
+        subscribers.add(sub);
+        return sub;
+    }
+
+    /**
+     * Unregisters a spectator.
+     *
+     * @param sub The subscription to cancel.
+     */
+    public void unsubscribe(Subscription sub) {
+        subscribers.remove(sub);
+    }
+
+    /**
+     * Encodes a new snapshot once and fans the frame out to every spectator.
+     * Called by the writer of the game after each message.
+     *
+     * @param snapshot The new state.
+     */
+    @Override
+    public synchronized void accept(GameSnapshot snapshot) {
+        last = snapshot;
+        if (subscribers.isEmpty()) {
+            // Personne ne regarde : aucun encodage, et la chaîne de deltas repartira d'une keyframe
+            encoder.reset();
+            return;
+        }
+
+        byte[] frame = encoder.encode(snapshot);
+        framesEncoded++;
+        boolean keyframe = frame[0] == DeltaEncoder.KEYFRAME;
+        for (Subscription sub : subscribers) {
+            sub.offer(frame, keyframe);
+        }
+    }
+
+    /**
+     * Gets the number of frames encoded so far (independent of the number of spectators).
+     *
+     * @return The count.
+     */
+    public synchronized long getFramesEncoded() {
+        return framesEncoded;
+    }
+
+    /**
+     * Gets the number of spectators.
+     *
+     * @return The count.
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+}
@@ -0,0 +1,372 @@
+package g62221.labyrinthe.tools;
+
+import g62221.labyrinthe.model.Board;
+import g62221.labyrinthe.model.Direction;
+import g62221.labyrinthe.model.Game;
+import g62221.labyrinthe.model.Position;
+import g62221.labyrinthe.model.PositionKey;
+import g62221.labyrinthe.model.command.TurnCommand;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Deterministic replay of recorded games, to prove that an optimization of the engine did not change its
+ * behaviour.
+ * <p>
+ * A {@link Recording} is a seed (which fixes the board and the card deal), the turns played, each
+ * encoded in a {@code long} by {@link TurnCommand#encode()}, and the {@link PositionKey#fingerprint()}
+ * of the position every few turns and at the end. {@link #verify(Recording)} replays the turns through
+ * {@link Game#insertTile} and {@link Game#movePlayer} on a fresh game without any observer (events are
+ * dropped at once) and compares every checkpoint: the first difference, or a move the engine now
+ * rejects, is reported with its turn. A replay costs a few microseconds per turn, and
+ * {@link #verifyAll(ExecutorService, int, List)} spreads the games over a pool.
+ * </p>
+ * <p>
+ * Usage: {@code java g62221.labyrinthe.tools.ReplayVerifier record <archive> <games> [seed]} before the
+ * change, then {@code java g62221.labyrinthe.tools.ReplayVerifier verify <archive>} after it. Archives are
+ * read and checked in batches, so they can hold millions of games.
+ * </p>
+ */
+public final class ReplayVerifier {
+
+    /** Number of turns between two checkpoints of a recording. */
+    public static final int CHECKPOINT_INTERVAL = 16;
+
+    /** Number of turns after which the recording of an unfinished game stops. */
+    public static final int MAX_TURNS = 400;
+
+    private static final int MAGIC = 0x4C524550; // "LREP"
+    private static final int BATCH = 20_000;
+
+    private ReplayVerifier() {
+    }
+
+    /**
+     * A recorded game.
+     *
+     * @param seed         The seed of the game ({@code new Game(boardSize, new Random(seed))}).
+     * @param boardSize    The size of the board.
+     * @param players      The number of players (bot-only game).
+     * @param turns        The turns, encoded by {@link TurnCommand#encode()}.
+     * @param checkpoints  The fingerprints after every {@value #CHECKPOINT_INTERVAL} turns, then at the end.
+     */
+    public record Recording(long seed, int boardSize, int players, long[] turns, long[] checkpoints) {
+
+        /**
+         * Writes the recording to an archive.
+         *
+         * @param out The output.
+         * @throws IOException if the output fails.
+         */
+        public void writeTo(DataOutput out) throws IOException {
+            out.writeLong(seed);
+            out.writeByte(boardSize);
+            out.writeByte(players);
+            out.writeInt(turns.length);
+            for (long turn : turns) out.writeLong(turn);
+            out.writeInt(checkpoints.length);
+            for (long checkpoint : checkpoints) out.writeLong(checkpoint);
+        }
+
+        /**
+         * Reads a recording written by {@link #writeTo(DataOutput)}.
+         *
+         * @param in The input.
+         * @return The recording.
+         * @throws IOException if the input fails or ends early.
+         */
+        public static Recording readFrom(DataInput in) throws IOException {
+            long seed = in.readLong();
+            int boardSize = in.readUnsignedByte();
+            int players = in.readUnsignedByte();
+            long[] turns = new long[in.readInt()];
+            for (int i = 0; i < turns.length; i++) turns[i] = in.readLong();
+            long[] checkpoints = new long[in.readInt()];
+            for (int i = 0; i < checkpoints.length; i++) checkpoints[i] = in.readLong();
+            return new Recording(seed, boardSize, players, turns, checkpoints);
+        }
+    }
+
+    /**
+     * First difference between a replay and its recording.
+     *
+     * @param seed   The seed of the game.
+     * @param turn   The number of turns replayed when the difference was seen.
+     * @param reason What differs.
+     */
+    public record Divergence(long seed, int turn, String reason) {
+    }
+
+    /**
+     * Result of a verification.
+     *
+     * @param games       The number of games replayed.
+     * @param turns       The number of turns replayed.
+     * @param nanos       The wall-clock duration of the replays.
+     * @param threads     The number of games replayed at the same time.
+     * @param divergences The games whose replay differs from the recording.
+     */
+    public record Report(int games, long turns, long nanos, int threads, List<Divergence> divergences) {
+
+        /** @return true if every game replayed exactly as recorded. */
+        public boolean ok() {
+            return divergences.isEmpty();
+        }
+
+        /** @return The number of turns replayed per second, per thread. */
+        public double turnsPerSecondPerThread() {
+            return (nanos == 0) ? 0 : turns * 1e9 / nanos / threads;
+        }
+
+        /**
+         * Adds the results of another batch.
+         *
+         * @param other The other report.
+         * @return The combined report.
+         */
+        public Report plus(Report other) {
+            List<Divergence> all = new ArrayList<>(divergences);
+            all.addAll(other.divergences);
+            return new Report(games + other.games, turns + other.turns, nanos + other.nanos,
+                    Math.max(threads, other.threads), all);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d parties, %d tours en %.2f s (%,.0f tours/s par thread) : %s", games, turns,
+                    nanos / 1e9, turnsPerSecondPerThread(),
+                    ok() ? "rejeu identique" : divergences.size() + " divergence(s), dont " + divergences.get(0));
+        }
+    }
+
+    /**
+     * Plays and records a bot-only game with random turns (the objective is taken whenever it is
+     * reachable, so most games are finished).
+     *
+     * @param seed      The seed of the game and of the turns.
+     * @param boardSize The size of the board.
+     * @param players   The number of players.
+     * @return The recording.
+     */
+    public static Recording record(long seed, int boardSize, int players) {
+        Game game = new Game(boardSize, new Random(seed));
+        game.start(players, false);
+        Random random = new Random(~seed * 0x9E3779B97F4A7C15L);
+
+        long[] turns = new long[MAX_TURNS];
+        List<Long> checkpoints = new ArrayList<>();
+        int count = 0;
+        while (count < MAX_TURNS && game.getState() != Game.State.GAME_OVER) {
+            for (int k = random.nextInt(4); k > 0; k--) game.getBoard().rotateExtraTile(true);
+            TurnCommand turn = randomTurn(game, random);
+            turn.execute();
+
+            int player = game.getCurrentPlayerIndex();
+            List<Position> reachable = new ArrayList<>(game.getBoard().getReachablePositions(game.getPlayerPosition(player)));
+            reachable.sort((a, b) -> a.row() != b.row() ? a.row() - b.row() : a.col() - b.col()); // Ordre fixe, indépendant du hachage
+            Position objective = objectiveCell(game, player);
+            turn.completeMove(reachable.contains(objective) ? objective : reachable.get(random.nextInt(reachable.size())));
+
+            turns[count++] = turn.encode();
+            if (count % CHECKPOINT_INTERVAL == 0) checkpoints.add(PositionKey.of(game).fingerprint());
+        }
+        checkpoints.add(PositionKey.of(game).fingerprint());
+        return new Recording(seed, boardSize, players, Arrays.copyOf(turns, count),
+                checkpoints.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    /**
+     * Replays a recorded game and compares it with its checkpoints.
+     *
+     * @param recording The recorded game.
+     * @return The first difference, or null if the replay is identical.
+     */
+    public static Divergence verify(Recording recording) {
+        Game game = new Game(recording.boardSize(), new Random(recording.seed()));
+        game.start(recording.players(), false);
+        long[] turns = recording.turns();
+        long[] checkpoints = recording.checkpoints();
+        int checked = 0;
+
+        for (int i = 0; i < turns.length; i++) {
+            try {
+                TurnCommand.decode(game, turns[i]).execute();
+            } catch (IllegalArgumentException e) {
+                return new Divergence(recording.seed(), i, "coup refusé : " + e.getMessage());
+            }
+            if ((i + 1) % CHECKPOINT_INTERVAL == 0) {
+                long actual = PositionKey.of(game).fingerprint();
+                if (checked >= checkpoints.length - 1 || actual != checkpoints[checked]) {
+                    return new Divergence(recording.seed(), i + 1, "position différente au point de contrôle " + checked);
+                }
+                checked++;
+            }
+        }
+        if (checked != checkpoints.length - 1 || PositionKey.of(game).fingerprint() != checkpoints[checked]) {
+            return new Divergence(recording.seed(), turns.length, "position finale différente");
+        }
+        return null;
+    }
+
+    /**
+     * Replays games on a pool, each task replaying a slice of the list.
+     *
+     * @param pool        The pool running the replays.
+     * @param parallelism The number of slices replayed at the same time (typically the number of threads of the pool).
+     * @param recordings  The recorded games.
+     * @return The report of the verification.
+     */
+    public static Report verifyAll(ExecutorService pool, int parallelism, List<Recording> recordings) {
+        int threads = Math.max(1, parallelism);
+        // Quelques tranches par thread : une tranche de longues parties ne laisse pas les autres cœurs inactifs
+        int slices = Math.min(recordings.size(), 4 * threads);
+        long start = System.nanoTime();
+        List<Future<List<Divergence>>> futures = new ArrayList<>();
+        for (int s = 0; s < slices; s++) {
+            List<Recording> slice = recordings.subList(s * recordings.size() / slices, (s + 1) * recordings.size() / slices);
+            futures.add(pool.submit(() -> {
+                List<Divergence> found = new ArrayList<>();
+                for (Recording r : slice) {
+                    Divergence d = verify(r);
+                    if (d != null) found.add(d);
+                }
+                return found;
+            }));
+        }
+
+        List<Divergence> divergences = new ArrayList<>();
+        try {
+            for (Future<List<Divergence>> f : futures) divergences.addAll(f.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Verification interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A replay failed", e.getCause());
+        } finally {
+            for (Future<List<Divergence>> f : futures) f.cancel(false);
+        }
+        long turns = 0;
+        for (Recording r : recordings) turns += r.turns().length;
+        return new Report(recordings.size(), turns, System.nanoTime() - start, Math.min(threads, Math.max(1, slices)),
+                divergences);
+    }
+
+    /**
+     * Draws a random insertion allowed by the anti-return rule, in the current orientation of the extra tile.
+     * <p>
+     * The direction is drawn first, then the line among the mobile ones; a forbidden insertion is turned into
+     * the opposite one. The draws are part of the recording format: changing them changes every archive.
+     * </p>
+     *
+     * @param game   The game, waiting for an insertion.
+     * @param random The source of the draws.
+     * @return The turn, not executed yet.
+     */
+    static TurnCommand randomTurn(Game game, Random random) {
+        Direction dir = Direction.values()[random.nextInt(4)];
+        int index = 1 + 2 * random.nextInt((game.getBoard().getSize() - 1) / 2);
+        if (dir == game.getForbiddenDirection() && index == game.getForbiddenIndex()) dir = dir.opposite();
+        return new TurnCommand(game, dir, index);
+    }
+
+    /**
+     * Finds the cell a player is heading for: the tile of their current objective, or their start once every
+     * card is found.
+     *
+     * @param game   The game.
+     * @param player The index of the player.
+     * @return The cell, or null if the objective is on the extra tile.
+     */
+    static Position objectiveCell(Game game, int player) {
+        String objective = game.getPlayerCurrentObjective(player);
+        if (objective == null) return game.getPlayerStartPosition(player);
+        Board board = game.getBoard();
+        for (int r = 0; r < board.getSize(); r++) {
+            for (int c = 0; c < board.getSize(); c++) {
+                if (objective.equals(board.getTile(r, c).getTreasure())) return new Position(r, c);
+            }
+        }
+        return null; // Sur la tuile en main
+    }
+
+    /**
+     * Records or verifies an archive from the command line.
+     *
+     * @param args {@code record <archive> <games> [seed]} or {@code verify <archive>}.
+     * @throws IOException if the archive cannot be written or read.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || (args[0].equals("record") && args.length < 3)) {
+            System.err.println("Usage : ReplayVerifier record <archive> <parties> [graine] | verify <archive>");
+            return;
+        }
+        Path archive = Path.of(args[1]);
+        int cores = Runtime.getRuntime().availableProcessors();
+        ExecutorService pool = Executors.newFixedThreadPool(cores);
+        try {
+            if (args[0].equals("record")) {
+                int games = Integer.parseInt(args[2]);
+                long seed = (args.length > 3) ? Long.parseLong(args[3]) : System.nanoTime();
+                record(pool, archive, games, seed);
+                System.out.println("[Rejeu] " + games + " parties enregistrées dans " + archive);
+            } else {
+                Report report = verify(pool, cores, archive);
+                System.out.println("[Rejeu] " + report);
+                if (!report.ok()) System.exit(1);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void record(ExecutorService pool, Path archive, int games, long seed) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(archive)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(games);
+            for (int first = 0; first < games; first += BATCH) {
+                List<Future<Recording>> batch = new ArrayList<>();
+                for (int g = first; g < Math.min(games, first + BATCH); g++) {
+                    long gameSeed = seed + g;
+                    batch.add(pool.submit(() -> record(gameSeed, Board.DEFAULT_SIZE, 2 + (int) Math.floorMod(gameSeed, 3L))));
+                }
+                for (Future<Recording> f : batch) f.get().writeTo(out);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Recording interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IOException("A recording failed", e.getCause());
+        }
+    }
+
+    private static Report verify(ExecutorService pool, int parallelism, Path archive) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(archive)))) {
+            if (in.readInt() != MAGIC) throw new IOException("Not a replay archive: " + archive);
+            int games = in.readInt();
+            Report report = new Report(0, 0, 0, parallelism, List.of());
+            // Par lots : l'archive entière ne tient pas forcément en mémoire
+            for (int first = 0; first < games; first += BATCH) {
+                List<Recording> batch = new ArrayList<>();
+                for (int g = first; g < Math.min(games, first + BATCH); g++) batch.add(Recording.readFrom(in));
+                report = report.plus(verifyAll(pool, parallelism, batch));
+            }
+            return report;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package g62221.labyrinthe.tools;
+
+import g62221.labyrinthe.model.Board;
+import g62221.labyrinthe.model.Game;
+import g62221.labyrinthe.model.ai.Weights;
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+import g62221.labyrinthe.model.strategy.HeuristicStrategy;
+import g62221.labyrinthe.model.strategy.Strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Fast headless games between two parameter sets (or two strategy builds) of the bots, without any view.
+ * <p>
+ * Each game is a bot-only 2-player game on its own {@link LabyrinthFacade}, seeded so that it can be
+ * replayed exactly. Games are played in pairs on the same board with the seats swapped, which cancels
+ * most of the luck of the deal. A match spreads its games over a thread pool: one game per task,
+ * each with its own facade and strategies, so nothing is shared between threads.
+ * </p>
+ */
+public final class SelfPlay {
+
+    /** Number of turns after which an unfinished game is scored as a draw. */
+    public static final int MAX_TURNS = 1000;
+
+    private SelfPlay() {
+    }
+
+    /**
+     * Result of a match, from the point of view of the first parameter set.
+     *
+     * @param wins   Games won by the first set.
+     * @param losses Games won by the second set.
+     * @param draws  Games without a winner after {@value #MAX_TURNS} turns.
+     */
+    public record MatchResult(int wins, int losses, int draws) {
+
+        /**
+         * Gets the number of games played.
+         *
+         * @return wins + losses + draws.
+         */
+        public int games() {
+            return wins + losses + draws;
+        }
+
+        /**
+         * Gets the score of the first set (a draw counts as half a win).
+         *
+         * @return The score, between 0 and 1.
+         */
+        public double score() {
+            return games() == 0 ? 0.5 : (wins + 0.5 * draws) / games();
+        }
+    }
+
+    /**
+     * Plays one game between two parameter sets.
+     *
+     * @param first     The weights of the first set.
+     * @param second    The weights of the second set.
+     * @param seed      The seed of the board and of the card deal.
+     * @param swapSeats true if the second set takes the first seat (and plays first).
+     * @param boardSize The size of the board.
+     * @return +1 if the first set wins, -1 if the second one wins, 0 for a draw.
+     */
+    public static int play(Weights first, Weights second, long seed, boolean swapSeats, int boardSize) {
+        return play(() -> new HeuristicStrategy(first), () -> new HeuristicStrategy(second), seed, swapSeats, boardSize);
+    }
+
+    /**
+     * Plays one game between two strategy builds.
+     *
+     * @param first     Creates the strategy of the first build (called once per game: strategies are not shared).
+     * @param second    Creates the strategy of the second build.
+     * @param seed      The seed of the board and of the card deal.
+     * @param swapSeats true if the second build takes the first seat (and plays first).
+     * @param boardSize The size of the board.
+     * @return +1 if the first build wins, -1 if the second one wins, 0 for a draw.
+     */
+    public static int play(Supplier<? extends Strategy> first, Supplier<? extends Strategy> second,
+                           long seed, boolean swapSeats, int boardSize) {
+        LabyrinthFacade facade = new LabyrinthFacade(boardSize, new Random(seed));
+        int firstSeat = swapSeats ? 1 : 0;
+        facade.setStrategy(firstSeat, first.get());
+        facade.setStrategy(1 - firstSeat, second.get());
+        facade.startGame(2, false);
+
+        for (int turn = 0; turn < MAX_TURNS && facade.getGameState() != Game.State.GAME_OVER; turn++) {
+            facade.playBot();
+        }
+        int winner = facade.getWinnerId();
+        if (winner < 0) return 0;
+        return (winner == firstSeat) ? 1 : -1;
+    }
+
+    /**
+     * Plays a match on the standard board, spread over a thread pool.
+     *
+     * @param pool     The pool running the games.
+     * @param first    The weights of the first set.
+     * @param second   The weights of the second set.
+     * @param baseSeed The seed of the first pair of games (pair k uses baseSeed + k).
+     * @param games    The number of games (rounded up to an even number).
+     * @return The result of the match for the first set.
+     */
+    public static MatchResult match(ExecutorService pool, Weights first, Weights second, long baseSeed, int games) {
+        return match(pool, first, second, baseSeed, games, Board.DEFAULT_SIZE);
+    }
+
+    /**
+     * Plays a match, spread over a thread pool.
+     *
+     * @param pool      The pool running the games.
+     * @param first     The weights of the first set.
+     * @param second    The weights of the second set.
+     * @param baseSeed  The seed of the first pair of games (pair k uses baseSeed + k).
+     * @param games     The number of games (rounded up to an even number).
+     * @param boardSize The size of the boards.
+     * @return The result of the match for the first set.
+     */
+    public static MatchResult match(ExecutorService pool, Weights first, Weights second,
+                                    long baseSeed, int games, int boardSize) {
+        // Une tâche par partie : le pool occupe tous ses cœurs dès qu'il y a assez de parties
+        List<Future<Integer>> results = new ArrayList<>(games + 1);
+        for (int g = 0; g < games; g += 2) {
+            long seed = baseSeed + g / 2;
+            results.add(pool.submit(() -> play(first, second, seed, false, boardSize)));
+            results.add(pool.submit(() -> play(first, second, seed, true, boardSize)));
+        }
+
+        int wins = 0;
+        int losses = 0;
+        int draws = 0;
+        try {
+            for (Future<Integer> result : results) {
+                int r = result.get();
+                if (r > 0) wins++;
+                else if (r < 0) losses++;
+                else draws++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Match interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A self-play game failed", e.getCause());
+        }
+        return new MatchResult(wins, losses, draws);
+    }
+}
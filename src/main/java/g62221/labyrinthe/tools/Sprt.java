@@ -0,0 +1,309 @@
+package g62221.labyrinthe.tools;
+
+import g62221.labyrinthe.model.Board;
+import g62221.labyrinthe.model.ai.Weights;
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+import g62221.labyrinthe.model.strategy.HeuristicStrategy;
+import g62221.labyrinthe.model.strategy.Strategy;
+import g62221.labyrinthe.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Regression harness: plays a candidate strategy build against a baseline until a
+ * Sequential Probability Ratio Test (SPRT) can tell whether it is stronger.
+ * <p>
+ * The two hypotheses are expressed in Elo: H0 "the candidate is at most {@code elo0} stronger" and
+ * H1 "it is at least {@code elo1} stronger". After each pair of games (same seed, seats swapped) the
+ * log-likelihood ratio is updated with the normal approximation of the game scores; the test stops as
+ * soon as it crosses {@code ln(β / (1 − α))} (H0 accepted: no gain, or a regression) or
+ * {@code ln((1 − β) / α)} (H1 accepted). Clear differences are thus decided after a few dozen games,
+ * close ones take longer, up to {@code maxGames}.
+ * </p>
+ * <p>
+ * Pairs run in parallel on a pool (one thread per core from the command line). Every turn of both builds
+ * is timed, so that the report also shows whether the candidate got slower.
+ * </p>
+ * <p>
+ * Usage: {@code java g62221.labyrinthe.tools.Sprt <candidate> <baseline> [elo0] [elo1] [maxGames]}, where a
+ * build is {@code default} or a weight file written by {@link WeightTuner}.
+ * </p>
+ */
+public class Sprt {
+
+    /**
+     * Outcome of the test.
+     */
+    public enum Decision {
+        /** The candidate is not stronger by elo0 or more (no gain, or a regression). */
+        H0_ACCEPTED,
+        /** The candidate is stronger by at least elo1. */
+        H1_ACCEPTED,
+        /** The maximum number of games was reached without a decision. */
+        INCONCLUSIVE
+    }
+
+    /**
+     * Parameters of the test.
+     *
+     * @param elo0      The Elo difference of hypothesis H0.
+     * @param elo1      The Elo difference of hypothesis H1 (greater than elo0).
+     * @param alpha     The probability of accepting H1 when H0 is true.
+     * @param beta      The probability of accepting H0 when H1 is true.
+     * @param minGames  The number of games played before any decision (the variance is unreliable before).
+     * @param maxGames  The number of games after which the test gives up.
+     * @param boardSize The size of the boards.
+     */
+    public record Settings(double elo0, double elo1, double alpha, double beta, int minGames, int maxGames, int boardSize) {
+
+        /**
+         * Creates settings with the usual error rates (5 %) on the standard board.
+         *
+         * @param elo0     The Elo difference of hypothesis H0.
+         * @param elo1     The Elo difference of hypothesis H1.
+         * @param maxGames The number of games after which the test gives up.
+         * @return The settings.
+         */
+        public static Settings of(double elo0, double elo1, int maxGames) {
+            return new Settings(elo0, elo1, 0.05, 0.05, 20, maxGames, Board.DEFAULT_SIZE);
+        }
+
+        /** @return The LLR under which H0 is accepted. */
+        public double lowerBound() {
+            return Math.log(beta / (1 - alpha));
+        }
+
+        /** @return The LLR above which H1 is accepted. */
+        public double upperBound() {
+            return Math.log((1 - beta) / alpha);
+        }
+    }
+
+    /**
+     * Result of a test.
+     *
+     * @param settings       The parameters of the test.
+     * @param wins           Games won by the candidate.
+     * @param losses         Games won by the baseline.
+     * @param draws          Games without a winner.
+     * @param llr            The final log-likelihood ratio.
+     * @param decision       The outcome.
+     * @param candidateTimes The duration of each turn of the candidate (ns).
+     * @param baselineTimes  The duration of each turn of the baseline (ns).
+     */
+    public record Report(Settings settings, int wins, int losses, int draws, double llr, Decision decision,
+                         LatencyHistogram candidateTimes, LatencyHistogram baselineTimes) {
+
+        /**
+         * Estimates the Elo difference from the score of the candidate.
+         *
+         * @return The Elo difference (positive: the candidate is stronger).
+         */
+        public double elo() {
+            int games = wins + losses + draws;
+            double score = (games == 0) ? 0.5 : (wins + 0.5 * draws) / games;
+            score = Math.min(Math.max(score, 1e-3), 1 - 1e-3);
+            return -400 * Math.log10(1 / score - 1);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("SPRT [%.1f, %.1f] : +%d -%d =%d  LLR %.2f (%.2f, %.2f) -> %s, Elo %+.1f%n"
+                            + "  tours candidat  : %s%n  tours référence : %s",
+                    settings.elo0(), settings.elo1(), wins, losses, draws, llr,
+                    settings.lowerBound(), settings.upperBound(), decision, elo(),
+                    describe(candidateTimes), describe(baselineTimes));
+        }
+
+        private static String describe(LatencyHistogram h) {
+            return String.format("%d tours, p50 %d µs, p90 %d µs, p99 %d µs, max %d µs", h.count(),
+                    h.percentile(50) / 1000, h.percentile(90) / 1000, h.percentile(99) / 1000, h.percentile(100) / 1000);
+        }
+    }
+
+    /**
+     * Strategy decorator timing each complete turn (insertion and movement) of a build.
+     */
+    private static final class TimedStrategy implements Strategy {
+        private final Strategy delegate;
+        private final LatencyHistogram times;
+        private long start;
+
+        TimedStrategy(Strategy delegate, LatencyHistogram times) {
+            this.delegate = delegate;
+            this.times = times;
+        }
+
+        @Override
+        public void playInsert(LabyrinthFacade facade) {
+            start = System.nanoTime();
+            delegate.playInsert(facade);
+        }
+
+        @Override
+        public void playMove(LabyrinthFacade facade) {
+            delegate.playMove(facade);
+            times.record(System.nanoTime() - start);
+        }
+    }
+
+    private final ExecutorService pool;
+    private final int parallelism;
+    private final Settings settings;
+
+    /**
+     * Creates a harness.
+     *
+     * @param pool        The pool running the games.
+     * @param parallelism The number of pairs played at the same time (typically the number of threads of the pool).
+     * @param settings    The parameters of the test.
+     */
+    public Sprt(ExecutorService pool, int parallelism, Settings settings) {
+        this.pool = pool;
+        this.parallelism = Math.max(1, parallelism);
+        this.settings = settings;
+    }
+
+    /**
+     * Runs the test between two builds.
+     *
+     * @param candidate Creates the strategy of the candidate (once per game).
+     * @param baseline  Creates the strategy of the baseline (once per game).
+     * @param seed      The seed of the first pair (pair k uses seed + k).
+     * @return The report of the test.
+     */
+    public Report run(Supplier<? extends Strategy> candidate, Supplier<? extends Strategy> baseline, long seed) {
+        LatencyHistogram candidateTimes = new LatencyHistogram();
+        LatencyHistogram baselineTimes = new LatencyHistogram();
+        Supplier<Strategy> timedCandidate = () -> new TimedStrategy(candidate.get(), candidateTimes);
+        Supplier<Strategy> timedBaseline = () -> new TimedStrategy(baseline.get(), baselineTimes);
+
+        CompletionService<int[]> completion = new ExecutorCompletionService<>(pool);
+        List<Future<int[]>> inFlight = new ArrayList<>();
+        int maxPairs = (settings.maxGames() + 1) / 2;
+        int submitted = 0;
+        int done = 0;
+        int wins = 0;
+        int losses = 0;
+        int draws = 0;
+        double llr = 0;
+        Decision decision = Decision.INCONCLUSIVE;
+
+        try {
+            // Quelques paires d'avance par thread : les cœurs ne restent jamais inactifs
+            while (submitted < maxPairs && submitted < 2 * parallelism) {
+                inFlight.add(submitPair(completion, timedCandidate, timedBaseline, seed + submitted++));
+            }
+            while (done < submitted) {
+                int[] pair = completion.take().get();
+                done++;
+                for (int result : pair) {
+                    if (result > 0) wins++;
+                    else if (result < 0) losses++;
+                    else draws++;
+                }
+
+                llr = llr(wins, draws, losses, settings.elo0(), settings.elo1());
+                if (wins + losses + draws >= settings.minGames()) {
+                    if (llr >= settings.upperBound()) decision = Decision.H1_ACCEPTED;
+                    else if (llr <= settings.lowerBound()) decision = Decision.H0_ACCEPTED;
+                    if (decision != Decision.INCONCLUSIVE) break;
+                }
+                if (submitted < maxPairs) {
+                    inFlight.add(submitPair(completion, timedCandidate, timedBaseline, seed + submitted++));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A game of the test failed", e.getCause());
+        } finally {
+            // Décision prise : les paires pas encore commencées sont abandonnées
+            for (Future<int[]> f : inFlight) f.cancel(false);
+        }
+        return new Report(settings, wins, losses, draws, llr, decision, candidateTimes, baselineTimes);
+    }
+
+    private Future<int[]> submitPair(CompletionService<int[]> completion, Supplier<Strategy> candidate,
+                                     Supplier<Strategy> baseline, long seed) {
+        int size = settings.boardSize();
+        return completion.submit(() -> new int[]{
+                SelfPlay.play(candidate, baseline, seed, false, size),
+                SelfPlay.play(candidate, baseline, seed, true, size)
+        });
+    }
+
+    /**
+     * Computes the log-likelihood ratio of H1 against H0 for the observed results
+     * (normal approximation of the distribution of the game scores).
+     *
+     * @param wins   Games won by the candidate.
+     * @param draws  Games without a winner.
+     * @param losses Games lost by the candidate.
+     * @param elo0   The Elo difference of H0.
+     * @param elo1   The Elo difference of H1.
+     * @return The LLR (positive: the results favour H1).
+     */
+    public static double llr(int wins, int draws, int losses, double elo0, double elo1) {
+        int n = wins + draws + losses;
+        if (n == 0) return 0;
+        double w = (double) wins / n;
+        double d = (double) draws / n;
+        double l = (double) losses / n;
+        double score = w + d / 2;
+        double variance = w * (1 - score) * (1 - score) + d * (0.5 - score) * (0.5 - score) + l * score * score;
+        // Variance nulle (que des victoires, par exemple) : plancher pour garder un rapport fini
+        variance = Math.max(variance, 1e-4);
+
+        double s0 = expectedScore(elo0);
+        double s1 = expectedScore(elo1);
+        return n * (s1 - s0) * (2 * score - s0 - s1) / (2 * variance);
+    }
+
+    private static double expectedScore(double elo) {
+        return 1 / (1 + Math.pow(10, -elo / 400));
+    }
+
+    /**
+     * Runs a test from the command line and prints its report.
+     *
+     * @param args candidate, baseline ("default" or a weight file), then optional elo0 (0), elo1 (10), maxGames (20000).
+     * @throws IOException if a weight file cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage : Sprt <candidat> <référence> [elo0] [elo1] [maxParties]");
+            return;
+        }
+        Weights candidate = readBuild(args[0]);
+        Weights baseline = readBuild(args[1]);
+        double elo0 = (args.length > 2) ? Double.parseDouble(args[2]) : 0;
+        double elo1 = (args.length > 3) ? Double.parseDouble(args[3]) : 10;
+        int maxGames = (args.length > 4) ? Integer.parseInt(args[4]) : 20_000;
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        ExecutorService pool = Executors.newFixedThreadPool(cores);
+        try {
+            Sprt sprt = new Sprt(pool, cores, Settings.of(elo0, elo1, maxGames));
+            Report report = sprt.run(() -> new HeuristicStrategy(candidate), () -> new HeuristicStrategy(baseline),
+                    System.nanoTime());
+            System.out.println(report);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static Weights readBuild(String arg) throws IOException {
+        return arg.equals("default") ? Weights.DEFAULT : WeightTuner.readWeights(Path.of(arg));
+    }
+}
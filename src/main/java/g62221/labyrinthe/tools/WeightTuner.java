@@ -0,0 +1,221 @@
+package g62221.labyrinthe.tools;
+
+import g62221.labyrinthe.model.ai.Feature;
+import g62221.labyrinthe.model.ai.Weights;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Tunes the weights of the bots by self-play, with SPSA (Simultaneous Perturbation Stochastic Approximation).
+ * <p>
+ * Each iteration perturbs every weight at once in a random direction {@code Δ} (±1 per weight), plays a
+ * {@link SelfPlay} match between {@code θ + cΔ} and {@code θ − cΔ}, and moves {@code θ} towards the winner:
+ * {@code θ += a · (score − ½) · 2 · Δ}. One match per iteration is enough, whatever the number of weights.
+ * Perturbations and steps are relative to the magnitude of each starting weight, and shrink over time
+ * ({@code a_k = STEP / (k + 1)^0.602}, {@code c_k = PERTURBATION / (k + 1)^0.101}).
+ * </p>
+ * <p>
+ * The games of a match run in parallel on a pool with one thread per core. After each iteration the
+ * state (iteration, seed, weights) is written to a properties file, atomically: an interrupted run
+ * resumes where it stopped, with the same seeds.
+ * </p>
+ * <p>
+ * Usage: {@code java g62221.labyrinthe.tools.WeightTuner [iterations] [games per iteration] [checkpoint file]}.
+ * </p>
+ */
+public class WeightTuner {
+
+    /** Initial step size, relative to the scale of each weight. */
+    public static final double STEP = 0.2;
+
+    /** Initial perturbation, relative to the scale of each weight. */
+    public static final double PERTURBATION = 0.2;
+
+    private final Path checkpoint;
+    private final ExecutorService pool;
+    private final int gamesPerIteration;
+    private final double[] scale;
+
+    private double[] theta;
+    private int iteration = 0;
+    private long seed;
+
+    /**
+     * Creates a tuner, resuming from the checkpoint file if it exists.
+     *
+     * @param start             The weights to start from (when resuming, they only set the scale of the steps).
+     * @param checkpoint        The file where the progress is saved.
+     * @param gamesPerIteration The number of games of each match.
+     * @param pool              The pool running the games.
+     * @param seed              The seed of the games and perturbations (ignored when resuming).
+     * @throws IOException if the checkpoint exists but cannot be read.
+     */
+    public WeightTuner(Weights start, Path checkpoint, int gamesPerIteration, ExecutorService pool, long seed)
+            throws IOException {
+        this.checkpoint = checkpoint;
+        this.pool = pool;
+        this.gamesPerIteration = gamesPerIteration;
+        this.theta = start.toArray();
+        this.seed = seed;
+
+        // Échelle propre à chaque poids : on ne perturbe pas "cartes restantes" comme "surface accessible"
+        this.scale = new double[theta.length];
+        for (int i = 0; i < theta.length; i++) scale[i] = Math.max(0.1, Math.abs(theta[i]));
+
+        if (Files.exists(checkpoint)) load();
+    }
+
+    /**
+     * Plays one iteration and saves the new weights.
+     *
+     * @return The result of the match between the two perturbed parameter sets.
+     * @throws IOException if the checkpoint cannot be written.
+     */
+    public SelfPlay.MatchResult step() throws IOException {
+        int k = iteration;
+        double a = STEP / Math.pow(k + 1, 0.602);
+        double c = PERTURBATION / Math.pow(k + 1, 0.101);
+
+        // Direction de perturbation : ±1 sur chaque poids, tirée d'une graine dérivée de l'itération
+        Random random = new Random(seed ^ (0x9E3779B97F4A7C15L * (k + 1)));
+        double[] delta = new double[theta.length];
+        double[] plus = new double[theta.length];
+        double[] minus = new double[theta.length];
+        for (int i = 0; i < theta.length; i++) {
+            delta[i] = random.nextBoolean() ? 1 : -1;
+            plus[i] = theta[i] + c * scale[i] * delta[i];
+            minus[i] = theta[i] - c * scale[i] * delta[i];
+        }
+
+        SelfPlay.MatchResult result = SelfPlay.match(pool, new Weights(plus), new Weights(minus),
+                seed + (long) k * gamesPerIteration, gamesPerIteration);
+
+        // Pas vers le vainqueur, proportionnel à l'écart de score (entre -1 et 1)
+        double advantage = 2 * (result.score() - 0.5);
+        for (int i = 0; i < theta.length; i++) {
+            theta[i] += a * advantage * scale[i] * delta[i];
+        }
+        iteration++;
+        save();
+        return result;
+    }
+
+    /**
+     * Runs iterations until the given total is reached, printing the progress.
+     *
+     * @param iterations The total number of iterations (those of a resumed run included).
+     * @return The tuned weights.
+     * @throws IOException if the checkpoint cannot be written.
+     */
+    public Weights run(int iterations) throws IOException {
+        while (iteration < iterations) {
+            SelfPlay.MatchResult r = step();
+            System.out.println("[Réglage] itération " + iteration + "/" + iterations + " : "
+                    + r.wins() + " / " + r.losses() + " / " + r.draws() + " -> " + getWeights());
+        }
+        return getWeights();
+    }
+
+    /**
+     * Gets the current weights.
+     *
+     * @return The weights.
+     */
+    public Weights getWeights() {
+        return new Weights(theta);
+    }
+
+    /**
+     * Gets the number of iterations done (resumed ones included).
+     *
+     * @return The iteration count.
+     */
+    public int getIteration() {
+        return iteration;
+    }
+
+    private void save() throws IOException {
+        Properties props = new Properties();
+        props.setProperty("iteration", Integer.toString(iteration));
+        props.setProperty("seed", Long.toString(seed));
+        for (Feature f : Feature.values()) {
+            props.setProperty("weight." + f.name(), Double.toString(theta[f.ordinal()]));
+        }
+
+        // Écriture dans un fichier temporaire puis remplacement : jamais de checkpoint à moitié écrit
+        Path dir = checkpoint.toAbsolutePath().getParent();
+        Path tmp = Files.createTempFile(dir, "tuning", ".tmp");
+        try (Writer out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            props.store(out, "Weight tuning checkpoint");
+        }
+        Files.move(tmp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void load() throws IOException {
+        Properties props = readProperties(checkpoint);
+        iteration = Integer.parseInt(props.getProperty("iteration", "0"));
+        seed = Long.parseLong(props.getProperty("seed", Long.toString(seed)));
+        readWeights(props, theta);
+    }
+
+    /**
+     * Reads the weights saved in a checkpoint file (missing weights keep their default value).
+     *
+     * @param file The checkpoint file.
+     * @return The weights.
+     * @throws IOException if the file cannot be read.
+     */
+    public static Weights readWeights(Path file) throws IOException {
+        double[] values = Weights.DEFAULT.toArray();
+        readWeights(readProperties(file), values);
+        return new Weights(values);
+    }
+
+    private static void readWeights(Properties props, double[] values) {
+        for (Feature f : Feature.values()) {
+            String value = props.getProperty("weight." + f.name());
+            if (value != null) values[f.ordinal()] = Double.parseDouble(value);
+        }
+    }
+
+    private static Properties readProperties(Path file) throws IOException {
+        Properties props = new Properties();
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            props.load(in);
+        }
+        return props;
+    }
+
+    /**
+     * Starts a tuning run from the command line.
+     *
+     * @param args Optional: iterations (100), games per iteration (64), checkpoint file (tuning.properties).
+     * @throws IOException if the checkpoint cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        int iterations = (args.length > 0) ? Integer.parseInt(args[0]) : 100;
+        int games = (args.length > 1) ? Integer.parseInt(args[1]) : 64;
+        Path file = Path.of((args.length > 2) ? args[2] : "tuning.properties");
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        ExecutorService pool = Executors.newFixedThreadPool(cores);
+        try {
+            WeightTuner tuner = new WeightTuner(Weights.DEFAULT, file, games, pool, System.nanoTime());
+            System.out.println("[Réglage] " + cores + " cœurs, reprise à l'itération " + tuner.getIteration());
+            Weights tuned = tuner.run(iterations);
+            System.out.println("[Réglage] Poids finaux : " + tuned);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package g62221.labyrinthe.view;
+
+import g62221.labyrinthe.model.Direction;
+import g62221.labyrinthe.model.Position;
+import g62221.labyrinthe.model.Tile;
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+import g62221.labyrinthe.view.image.ImageFactory;
+import g62221.labyrinthe.view.image.TileAtlas;
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.effect.Effect;
+import javafx.scene.paint.Color;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Alternative board renderer drawing the whole board on a single {@link Canvas}.
+ * <p>
+ * Instead of 49 {@link TileView} nodes (each with an ImageView and pawn children), the tiles,
+ * the pawns, the cell highlights and the slide animation are painted in immediate mode.
+ * Tile images are blitted already rotated from the {@link TileAtlas} (or from
+ * {@link ImageFactory#getRotatedImage} while the atlas is still being built),
+ * so no transform is applied at draw time. The scene graph shrinks to one node,
+ * which lightens the layout/CSS passes and improves frame pacing during slides.
+ * </p>
+ */
+public class BoardCanvas extends Canvas {
+
+    /** Size of a tile on screen, identical to {@link TileView}. */
+    public static final int CELL_SIZE = 100;
+
+    /** Gap between two tiles, identical to the gaps of the board GridPane. */
+    public static final int GAP = 2;
+
+    private static final int BOARD_SIZE = 7;
+    private static final Color[] PAWN_COLORS = {Color.web("#55FF55"), Color.web("#5555FF"), Color.web("#FFFF55"), Color.web("#FF5555")};
+    private static final long SLIDE_DURATION_NS = 300_000_000L;
+
+    private final LabyrinthFacade facade;
+    private final Effect activePawnEffect = new DropShadow(15, Color.WHITE);
+    private final Effect idlePawnEffect = new DropShadow(5, Color.BLACK);
+
+    // Cache par case de la région de l'atlas : recalculée seulement si la tuile ou son orientation change
+    private final Tile[] cachedTiles = new Tile[BOARD_SIZE * BOARD_SIZE];
+    private final int[] cachedRotations = new int[BOARD_SIZE * BOARD_SIZE];
+    private final Rectangle2D[] cachedRegions = new Rectangle2D[BOARD_SIZE * BOARD_SIZE];
+
+    // Cases mises en surbrillance (null = aucune)
+    private boolean[][] highlights;
+
+    // État de l'animation de glissement en cours
+    private Direction slideFrom;
+    private int slideIndex = -1;
+    private double slideProgress = 1.0;
+    private long slideStart;
+    private final AnimationTimer slideTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            if (slideStart == 0) slideStart = now;
+            slideProgress = Math.min(1.0, (now - slideStart) / (double) SLIDE_DURATION_NS);
+            render();
+            if (slideProgress >= 1.0) {
+                stop();
+                slideIndex = -1;
+                if (onSlideFinished != null) onSlideFinished.run();
+            }
+        }
+    };
+    private Runnable onSlideFinished;
+
+    /**
+     * Constructs a new canvas renderer for the board.
+     *
+     * @param facade The game facade to read the state from.
+     */
+    public BoardCanvas(LabyrinthFacade facade) {
+        super(pixelSize(), pixelSize());
+        this.facade = facade;
+    }
+
+    /**
+     * Computes the size of the canvas in pixels (7 cells + 6 gaps).
+     *
+     * @return The width and height of the canvas.
+     */
+    private static double pixelSize() {
+        return BOARD_SIZE * CELL_SIZE + (BOARD_SIZE - 1) * GAP;
+    }
+
+    /**
+     * Registers the action triggered when the user clicks on a cell.
+     *
+     * @param handler Receives the row and column of the clicked cell.
+     */
+    public void setOnCellClicked(BiConsumer<Integer, Integer> handler) {
+        setOnMouseClicked(e -> {
+            int col = (int) (e.getX() / (CELL_SIZE + GAP));
+            int row = (int) (e.getY() / (CELL_SIZE + GAP));
+            if (row >= 0 && row < BOARD_SIZE && col >= 0 && col < BOARD_SIZE) {
+                handler.accept(row, col);
+            }
+        });
+    }
+
+    /**
+     * Sets the cells to highlight with a translucent overlay, and redraws.
+     *
+     * @param cells A 7x7 grid of flags, or null to clear the highlights.
+     */
+    public void setHighlights(boolean[][] cells) {
+        this.highlights = cells;
+        render();
+    }
+
+    /**
+     * Starts the slide animation of a row or column.
+     * <p>
+     * The slid line is drawn shifted by one cell and moves back to its place in 300 ms.
+     * Only this canvas is repainted during the animation.
+     * </p>
+     *
+     * @param fromDir    The side the tiles come from (the opposite of the slide direction).
+     * @param index      The row or column index.
+     * @param onFinished Action run at the end of the animation (can be null).
+     */
+    public void animateSlide(Direction fromDir, int index, Runnable onFinished) {
+        this.slideFrom = fromDir;
+        this.slideIndex = index;
+        this.slideProgress = 0;
+        this.slideStart = 0;
+        this.onSlideFinished = onFinished;
+        slideTimer.start();
+    }
+
+    /**
+     * Repaints the whole board: tiles, highlights and pawns.
+     */
+    public void render() {
+        GraphicsContext gc = getGraphicsContext2D();
+        gc.setFill(Color.BLACK);
+        gc.fillRect(0, 0, getWidth(), getHeight());
+
+        // 1. Tuiles (images pré-tournées : simple copie de pixels)
+        TileAtlas atlas = TileAtlas.getIfReady();
+        for (int r = 0; r < BOARD_SIZE; r++) {
+            for (int c = 0; c < BOARD_SIZE; c++) {
+                Tile tile = facade.getTile(r, c);
+                Rectangle2D region = (atlas != null) ? atlasRegion(atlas, r * BOARD_SIZE + c, tile) : null;
+                if (region != null) {
+                    gc.drawImage(atlas.getImage(), region.getMinX(), region.getMinY(), CELL_SIZE, CELL_SIZE,
+                            cellX(r, c), cellY(r, c), CELL_SIZE, CELL_SIZE);
+                } else {
+                    gc.drawImage(ImageFactory.getRotatedImage(tile, TileView.visualRotation(tile)),
+                            cellX(r, c), cellY(r, c), CELL_SIZE, CELL_SIZE);
+                }
+
+                if (highlights != null && highlights[r][c]) {
+                    gc.setFill(Color.rgb(255, 215, 0, 0.35));
+                    gc.fillRect(cellX(r, c), cellY(r, c), CELL_SIZE, CELL_SIZE);
+                }
+            }
+        }
+
+        // 2. Pions (dessinés par-dessus les tuiles, avec le même décalage en cas de chevauchement)
+        drawPawns(gc);
+    }
+
+    /**
+     * Gets the atlas region of the tile shown in a cell, from the per-cell cache when possible.
+     *
+     * @param atlas The ready atlas.
+     * @param cell  The cell index (row * 7 + column).
+     * @param tile  The tile currently in the cell.
+     * @return The region to draw, or null if the tile is not in the atlas.
+     */
+    private Rectangle2D atlasRegion(TileAtlas atlas, int cell, Tile tile) {
+        if (cachedTiles[cell] != tile || cachedRotations[cell] != tile.getRotation()) {
+            int entry = atlas.entryOf(tile);
+            cachedTiles[cell] = tile;
+            cachedRotations[cell] = tile.getRotation();
+            cachedRegions[cell] = (entry >= 0) ? atlas.viewport(entry, tile.getRotation()) : null;
+        }
+        return cachedRegions[cell];
+    }
+
+    /**
+     * Draws the pawns of all players, the current player last so it stays on top.
+     *
+     * @param gc The graphics context of the canvas.
+     */
+    private void drawPawns(GraphicsContext gc) {
+        int nbPlayers = facade.getNbPlayers();
+        int current = facade.getCurrentPlayerIndex();
+
+        for (int pass = 0; pass < 2; pass++) {
+            for (int i = 0; i < nbPlayers; i++) {
+                // Passe 0 : joueurs inactifs ; Passe 1 : joueur actif
+                if ((i == current) != (pass == 1)) continue;
+                Position pos = facade.getPlayerPosition(i);
+
+                int rank = 0;
+                int buddies = 0;
+                for (int j = 0; j < nbPlayers; j++) {
+                    if (facade.getPlayerPosition(j).equals(pos)) {
+                        if (j < i) rank++;
+                        buddies++;
+                    }
+                }
+
+                double radius = (buddies > 1) ? 18 : 30;
+                double offsetX = 0;
+                double offsetY = 0;
+                if (buddies > 1) {
+                    offsetX = (rank % 2 == 0) ? -20 : 20;
+                    offsetY = (rank < 2) ? -20 : 20;
+                }
+
+                double cx = cellX(pos.row(), pos.col()) + CELL_SIZE / 2.0 + offsetX;
+                double cy = cellY(pos.row(), pos.col()) + CELL_SIZE / 2.0 + offsetY;
+
+                gc.setEffect(i == current ? activePawnEffect : idlePawnEffect);
+                gc.setGlobalAlpha(0.45);
+                gc.setFill(PAWN_COLORS[i % PAWN_COLORS.length]);
+                gc.fillOval(cx - radius, cy - radius, radius * 2, radius * 2);
+                gc.setGlobalAlpha(1.0);
+                gc.setStroke(i == current ? Color.WHITE : Color.BLACK);
+                gc.setLineWidth(2);
+                gc.strokeOval(cx - radius, cy - radius, radius * 2, radius * 2);
+                gc.setEffect(null);
+            }
+        }
+    }
+
+    /**
+     * Computes the left coordinate of a cell, including the slide animation offset.
+     */
+    private double cellX(int r, int c) {
+        double x = c * (CELL_SIZE + GAP);
+        if (slideIndex == r && (slideFrom == Direction.LEFT || slideFrom == Direction.RIGHT)) {
+            double shift = (1.0 - slideProgress) * (CELL_SIZE + GAP);
+            x += (slideFrom == Direction.LEFT) ? -shift : shift;
+        }
+        return x;
+    }
+
+    /**
+     * Computes the top coordinate of a cell, including the slide animation offset.
+     */
+    private double cellY(int r, int c) {
+        double y = r * (CELL_SIZE + GAP);
+        if (slideIndex == c && (slideFrom == Direction.UP || slideFrom == Direction.DOWN)) {
+            double shift = (1.0 - slideProgress) * (CELL_SIZE + GAP);
+            y += (slideFrom == Direction.UP) ? -shift : shift;
+        }
+        return y;
+    }
+}
@@ -0,0 +1,44 @@
+package g62221.labyrinthe.view;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+/**
+ * Executor that runs its tasks once per JavaFX pulse (frame).
+ * <p>
+ * Used as the event dispatcher of the Model: every event published between two frames
+ * is delivered in a single batch, right before the frame is rendered. A bot turn
+ * (slide + move + turn change) therefore costs one refresh instead of three.
+ * </p>
+ */
+public class FrameDispatcher extends AnimationTimer implements Executor {
+
+    // File thread-safe : le modèle peut publier depuis un autre thread que celui de JavaFX
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Queues a task for the next frame.
+     *
+     * @param task The task to run on the JavaFX Application Thread.
+     */
+    @Override
+    public void execute(Runnable task) {
+        tasks.add(task);
+    }
+
+    /**
+     * Runs all the queued tasks. Called by JavaFX at every pulse.
+     *
+     * @param now The timestamp of the current frame in nanoseconds.
+     */
+    @Override
+    public void handle(long now) {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+}
@@ -3,7 +3,9 @@ package g62221.labyrinthe.view;
 import g62221.labyrinthe.controller.Controller;
 import g62221.labyrinthe.model.Direction;
 import g62221.labyrinthe.model.Game;
+import g62221.labyrinthe.model.ai.InsertionPreview;
 import g62221.labyrinthe.model.facade.LabyrinthFacade;
+import g62221.labyrinthe.model.observer.GameEvent;
 import g62221.labyrinthe.model.observer.Observer;
 import g62221.labyrinthe.model.Position;
 import g62221.labyrinthe.view.sound.SoundManager;
@@ -21,8 +23,11 @@ import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.effect.DropShadow;
+import javafx.scene.effect.Effect;
 import javafx.scene.effect.GaussianBlur;
 import javafx.scene.effect.Glow;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
@@ -31,8 +36,7 @@ import javafx.util.Duration;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.HashMap;
+import java.util.concurrent.Executors;
 
 /**
  * Main View class for the Labyrinth game application.
@@ -85,6 +89,16 @@ public class MainView implements Observer {
                     "-fx-cursor: hand; " +
                     "-fx-min-width: 40px; -fx-min-height: 40px;";
 
+    /** Hovered arrow button. */
+    private static final String BTN_ARROW_HOVER =
+            "-fx-background-color: rgba(255,215,0,0.2); -fx-text-fill: gold; -fx-border-color: gold; " +
+                    "-fx-effect: dropshadow(gaussian, gold, 10, 0, 0, 0);";
+
+    /** Hovered arrow button whose insertion opens a path to the objective. */
+    private static final String BTN_ARROW_OBJECTIVE =
+            "-fx-background-color: rgba(85,255,85,0.25); -fx-text-fill: #55ff55; -fx-border-color: #55ff55; " +
+                    "-fx-effect: dropshadow(gaussian, lime, 12, 0, 0, 0);";
+
     /** Main Title style: Large serif font with gold gradient effect. */
     private static final String TITLE_STYLE =
             "-fx-font-size: 72px; " +
@@ -95,6 +109,9 @@ public class MainView implements Observer {
 
     private static final int TILE_SIZE = 85;
 
+    /** Pawn colors by player index (Green, Blue, Yellow, Red). */
+    private static final Color[] PAWN_COLORS = {Color.web("#55FF55"), Color.web("#5555FF"), Color.web("#FFFF55"), Color.web("#FF5555")};
+
     // ==============================================================================================
     //                                      FIELDS
     // ==============================================================================================
@@ -102,6 +119,9 @@ public class MainView implements Observer {
     private final LabyrinthFacade facade;
     private final Stage stage;
     private final SoundManager soundManager; // Audio Management System
+    private final FrameDispatcher frameDispatcher; // Delivers model events once per frame
+    private final StartupPipeline startup; // Background asset loading (images, atlas, audio)
+    private final PerformanceOverlay perfOverlay = new PerformanceOverlay(); // FPS & timings (F3)
 
     // Layout Containers
     private StackPane rootStack;
@@ -111,22 +131,40 @@ public class MainView implements Observer {
     // UI Components
     private TileView[][] tileViews;
     private TileView extraTileView;
+    private BoardCanvas boardCanvas; // Alternative renderer (single Canvas)
+    private boolean canvasMode = false;
+    private final TurboDriver turboDriver; // Fast-forward of bot-only games
+    private boolean turboMode = false;
+    private boolean humanPlayer = true; // false : partie spectateur (bots uniquement)
+    private PauseTransition botPause; // "Réflexion" du bot en cours (rythme normal)
     private Label statusLabel;
     private final List<PlayerInfoPanel> playerPanels = new ArrayList<>();
     private final List<Button> insertButtons = new ArrayList<>();
+    private final InsertionPreview insertionPreview; // Analyse des insertions en tâche de fond (survol des flèches)
+    private Button hoveredInsert; // Flèche survolée, dont l'aperçu est affiché
+    private boolean previewShown = false;
+
+    // Persistent pawn nodes (one per player, moved between tiles instead of being recreated)
+    private Circle[] pawns;
+    private final Effect activePawnEffect = new Glow(0.8);
+    private final Effect idlePawnEffect = new DropShadow(5, Color.BLACK);
+
+    // Dirty tracking: cells whose TileView must be refreshed at the next update
+    private final boolean[][] dirtyCells = new boolean[7][7];
 
     // Control Buttons references (kept to enable/disable them during bot turns)
     private Button btnRotateLeft;
     private Button btnRotateRight;
     private Button btnUndo;
     private Button btnRedo;
+    private Button btnRenderer;
+    private Button btnSpeed;
 
     private Controller controller;
 
     // Game State Flags
     private boolean isBotPlaying = false;
     private boolean gameEnded = false;
-    private Game.State lastState = Game.State.WAITING_FOR_SLIDE;
 
     // Window Dragging Variables (for custom undecorated window feeling)
     private double xOffset = 0;
@@ -138,7 +176,7 @@ public class MainView implements Observer {
 
     /**
      * Constructs the MainView.
-     * Initializes the stage, sound manager, and displays the main menu.
+     * Initializes the stage, sound manager, starts the background asset loading and displays the main menu.
      *
      * @param stage  The primary JavaFX stage.
      * @param facade The game facade (Model).
@@ -147,6 +185,15 @@ public class MainView implements Observer {
         this.stage = stage;
         this.facade = facade;
         this.soundManager = new SoundManager(); // Initialisation du système audio
+        // Décodage des images, de l'atlas et de la musique en parallèle, pendant que le menu s'affiche
+        this.startup = new StartupPipeline(soundManager);
+        this.turboDriver = new TurboDriver(facade, this::renderFullFrame, this::onTurboStopped);
+        // Thread démon dédié : l'analyse d'un tour ne doit jamais retarder une frame
+        this.insertionPreview = new InsertionPreview(7, Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "insertion-preview");
+            t.setDaemon(true);
+            return t;
+        }));
 
         // Chargement de l'icône de l'application
         try {
@@ -158,11 +205,24 @@ public class MainView implements Observer {
 
         stage.setTitle("Labyrinthe - Projet 3dev3a");
 
+        // F3 : affiche/masque les mesures de performance (filtre sur la fenêtre, valable pour toutes les scènes)
+        stage.addEventFilter(KeyEvent.KEY_PRESSED, e -> {
+            if (e.getCode() == KeyCode.F3) perfOverlay.toggle();
+        });
+
         // ABONNEMENT OBSERVER : La Vue écoute le Modèle
+        // Les événements sont regroupés et livrés une seule fois par frame
+        this.frameDispatcher = new FrameDispatcher();
+        facade.setEventDispatcher(frameDispatcher);
+        frameDispatcher.start();
         facade.addObserver(this);
 
+        // Dès que l'atlas de tuiles pré-tournées est prêt, le plateau éventuellement affiché bascule dessus
+        startup.atlasReady().thenRun(() -> Platform.runLater(this::refreshWithAtlas));
+
         // Initial Display: Show the Menu
         showMenu();
+        startup.markFirstScreenShown();
     }
 
     /**
@@ -184,6 +244,9 @@ public class MainView implements Observer {
      * Includes buttons to start the game, read rules, and window controls.
      */
     private void showMenu() {
+        // Une partie spectateur en accéléré ne doit pas continuer derrière le menu
+        detachTurbo();
+
         // Sauvegarde de l'état plein écran pour le restaurer après
         boolean wasFullScreen = stage.isFullScreen();
 
@@ -209,7 +272,8 @@ public class MainView implements Observer {
         buttonsBox.getChildren().addAll(
                 createStyledButton("⚔  Vs 1 Bot", 2),
                 createStyledButton("⚔  Vs 2 Bots", 3),
-                createStyledButton("⚔  Vs 3 Bots", 4)
+                createStyledButton("⚔  Vs 3 Bots", 4),
+                createStyledButton("👁  Spectateur (4 Bots)", 4, false)
         );
 
         // Rules Button
@@ -315,21 +379,38 @@ public class MainView implements Observer {
      * Initializes and launches the Game Loop.
      * Sets up the board, players, and GUI components.
      *
-     * @param nbPlayers The number of players for this session.
+     * @param nbPlayers   The number of players for this session.
+     * @param humanPlayer true if Player 1 is the user, false for a bot-only (spectator) game.
      */
-    private void launchGame(int nbPlayers) {
+    private void launchGame(int nbPlayers, boolean humanPlayer) {
+        // Arrêt des tours de bots de la partie précédente
+        detachTurbo();
+        if (botPause != null) botPause.stop();
+        this.isBotPlaying = false;
+        this.humanPlayer = humanPlayer;
+
         // Initialisation des composants graphiques
         this.mainGrid = new GridPane();
         this.tileViews = new TileView[7][7];
         this.extraTileView = new TileView();
         this.statusLabel = new Label("Initialisation...");
         this.insertButtons.clear();
+        this.hoveredInsert = null;
+        this.previewShown = false;
+        insertionPreview.cancel();
         this.playerPanels.clear();
         this.gameEnded = false;
-        this.lastState = Game.State.WAITING_FOR_SLIDE;
+        this.pawns = createPawns(nbPlayers);
+        this.boardCanvas = new BoardCanvas(facade);
+        boardCanvas.setOnCellClicked((r, c) -> {
+            if (!facade.isCurrentPlayerBot() && !isBotPlaying && !gameEnded && controller != null)
+                controller.handleMove(r, c);
+        });
 
         initializeGameUI(nbPlayers);
-        facade.startGame(nbPlayers); // Démarrage côté Modèle
+        // Le mode de rendu choisi est conservé d'une partie à l'autre
+        if (canvasMode) setCanvasMode(true);
+        facade.startGame(nbPlayers, humanPlayer); // Démarrage côté Modèle
     }
 
     /**
@@ -458,6 +539,27 @@ public class MainView implements Observer {
         btnRedo = createControlButton("Refaire ↪");
         btnRedo.setOnAction(e -> { if (controller != null) controller.handleRedo(); });
 
+        // Bouton de choix du moteur de rendu (Nœuds JavaFX <-> Canvas unique)
+        btnRenderer = createControlButton(canvasMode ? "Rendu : Canvas" : "Rendu : Nœuds");
+        btnRenderer.setOnAction(e -> {
+            setCanvasMode(!canvasMode);
+            btnRenderer.setText(canvasMode ? "Rendu : Canvas" : "Rendu : Nœuds");
+        });
+
+        // Bouton de vitesse : le mode turbo n'existe que si aucun humain ne joue
+        btnSpeed = createControlButton(turboMode ? "Vitesse : Turbo ⚡" : "Vitesse : Normale");
+        btnSpeed.setDisable(humanPlayer);
+        btnSpeed.setOnAction(e -> {
+            turboMode = !turboMode;
+            btnSpeed.setText(turboMode ? "Vitesse : Turbo ⚡" : "Vitesse : Normale");
+            if (isTurboActive() && !gameEnded && facade.isCurrentPlayerBot()) {
+                startTurbo();
+            } else if (turboDriver.isRunning()) {
+                turboDriver.stop();
+                onTurboStopped(); // Retour au rythme normal
+            }
+        });
+
         // Bouton Menu (Rouge)
         Button btnMenu = new Button("MENU 🏠");
         String redStyle = BTN_MAIN_STYLE.replace("#555", "#8b0000").replace("#333", "#500000").replace("#ffd700", "#ffcccc");
@@ -469,7 +571,7 @@ public class MainView implements Observer {
             showMenu();
         });
 
-        controls.getChildren().addAll(extraBox, rotateBox, btnUndo, btnRedo, btnMenu);
+        controls.getChildren().addAll(extraBox, rotateBox, btnUndo, btnRedo, btnRenderer, btnSpeed, btnMenu);
         gameLayout.setBottom(controls);
 
         // --- FINAL WRAPPER: SCROLLPANE ---
@@ -483,8 +585,9 @@ public class MainView implements Observer {
 
         HBox windowControls = createWindowControls();
         StackPane.setAlignment(windowControls, Pos.TOP_RIGHT);
+        StackPane.setAlignment(perfOverlay, Pos.TOP_LEFT);
 
-        rootStack.getChildren().addAll(scrollPane, windowControls);
+        rootStack.getChildren().addAll(scrollPane, windowControls, perfOverlay);
         stage.getScene().setRoot(rootStack);
 
         if (wasFullScreen) stage.setFullScreen(true);
@@ -499,24 +602,89 @@ public class MainView implements Observer {
      * Updates the board, players, and UI status.
      * <p>
      * This is the core method of the Observer pattern. It triggers re-rendering of tiles,
-     * checks for game over conditions, and handles AI turn logic.
+     * checks for game over conditions, and handles AI turn logic. The events are delivered
+     * once per frame, so a whole batch of changes is rendered in a single pass.
      * </p>
+     * <p>
+     * Only the parts touched by the events are refreshed: the slid row or column, the extra tile,
+     * the pawns and the player panels. A full refresh only happens on a new game or an Undo/Redo.
+     * </p>
+     *
+     * <p>
+     * The refresh and its sub-steps are timed for the {@link PerformanceOverlay} when it is displayed.
+     * </p>
+     *
+     * @param events The changes that happened since the last frame.
      */
     @Override
-    public void update() {
+    public void update(List<GameEvent> events) {
         if (tileViews == null) return;
+        long start = perfOverlay.mark();
+        perfOverlay.recordEvents(events.size());
+        applyEvents(events);
+        perfOverlay.record(PerformanceOverlay.Section.UPDATE, start);
+    }
 
-        // Mise à jour visuelle des composants
-        updateTiles();
-        updatePlayers();
-        updatePlayerPanels();
+    /**
+     * Refreshes the view for a batch of model events, then handles the end of the game or the next turn.
+     *
+     * @param events The changes that happened since the last frame.
+     */
+    private void applyEvents(List<GameEvent> events) {
+        // 0. Calcul des zones "sales" à partir des événements du lot
+        boolean extraDirty = false;
+        boolean pawnsDirty = false;
+        boolean panelsDirty = false;
+        for (GameEvent event : events) {
+            if (event instanceof GameEvent.TileSlid slid) {
+                markLineDirty(slid.dir(), slid.index());
+                extraDirty = true;
+            } else if (event instanceof GameEvent.ExtraTileRotated) {
+                extraDirty = true;
+            } else if (event instanceof GameEvent.PlayerMoved) {
+                pawnsDirty = true;
+            } else if (event instanceof GameEvent.TurnChanged) {
+                pawnsDirty = true; // Le pion actif change de surbrillance
+                panelsDirty = true;
+            } else if (event instanceof GameEvent.ObjectiveFound || event instanceof GameEvent.GameOver) {
+                panelsDirty = true;
+            } else {
+                // Nouvelle partie ou Undo/Redo : on ne sait pas ce qui a changé, on rafraîchit tout
+                markAllDirty();
+                extraDirty = true;
+                pawnsDirty = true;
+                panelsDirty = true;
+            }
+        }
 
-        // 1. Détection d'animation (si on vient d'insérer une tuile)
-        Game.State currentState = facade.getGameState();
-        if (lastState == Game.State.WAITING_FOR_SLIDE && currentState == Game.State.WAITING_FOR_MOVE) {
-            animateSlide(facade.getForbiddenDirection(), facade.getForbiddenIndex());
+        // Mise à jour visuelle des seuls composants concernés
+        long mark = perfOverlay.mark();
+        if (canvasMode) {
+            // Le Canvas redessine le plateau en une passe ; seule la tuile en main reste un nœud
+            if (extraDirty) extraTileView.update(facade.getExtraTile());
+            boardCanvas.render();
+            perfOverlay.record(PerformanceOverlay.Section.TILES, mark);
+        } else {
+            updateTiles(extraDirty);
+            perfOverlay.record(PerformanceOverlay.Section.TILES, mark);
+            if (pawnsDirty) {
+                mark = perfOverlay.mark();
+                updatePlayers();
+                perfOverlay.record(PerformanceOverlay.Section.PLAYERS, mark);
+            }
+        }
+        if (panelsDirty) {
+            mark = perfOverlay.mark();
+            updatePlayerPanels();
+            perfOverlay.record(PerformanceOverlay.Section.PANELS, mark);
+        }
+
+        // 1. Animation des glissements contenus dans le lot d'événements
+        for (GameEvent event : events) {
+            if (event instanceof GameEvent.TileSlid slid) {
+                animateSlide(slid.dir().opposite(), slid.index());
+            }
         }
-        lastState = currentState;
 
         // 2. Vérification de victoire
         if (facade.getGameState() == Game.State.GAME_OVER) {
@@ -538,6 +706,12 @@ public class MainView implements Observer {
         boolean isBot = facade.isCurrentPlayerBot();
         int playerNum = facade.getCurrentPlayerIndex() + 1;
 
+        // L'aperçu des insertions ne vaut que pendant la phase d'insertion de l'humain
+        if (isBot || facade.getGameState() != Game.State.WAITING_FOR_SLIDE) {
+            insertionPreview.cancel();
+            showPreview(null);
+        }
+
         if (isBot) {
             statusLabel.setText("L'IA (Joueur " + playerNum + ") réfléchit...");
             statusLabel.setTextFill(Color.CYAN);
@@ -546,6 +720,12 @@ public class MainView implements Observer {
             statusLabel.setTextFill(Color.WHITE);
         }
 
+        // Partie spectateur en turbo : les bots jouent sans pause ni animation
+        if (isBot && isTurboActive()) {
+            startTurbo();
+            return;
+        }
+
         // Si c'est au tour du Bot et qu'il n'est pas déjà en train de jouer
         if (isBot && !isBotPlaying) {
             setControlsEnabled(false); // Désactive les boutons pour l'humain
@@ -553,10 +733,17 @@ public class MainView implements Observer {
 
             // Pause artificielle pour simuler la "réflexion" du bot
             PauseTransition pause = new PauseTransition(Duration.millis(1500));
+            botPause = pause;
             pause.setOnFinished(e -> {
+                long thinkStart = System.nanoTime();
                 controller.handleAIPlay(); // Le contrôleur déclenche l'IA
+                perfOverlay.recordBotThink(System.nanoTime() - thinkStart);
                 isBotPlaying = false;
-                Platform.runLater(this::update);
+                // Les événements du coup arrivent à la prochaine frame ; on relance quand même
+                // la logique de tour au cas où le bot n'aurait rien pu jouer (erreur).
+                Platform.runLater(() -> {
+                    if (facade.getGameState() != Game.State.GAME_OVER) handleTurnLogic();
+                });
             });
             pause.play();
         } else if (!isBot) {
@@ -566,6 +753,9 @@ public class MainView implements Observer {
                 statusLabel.setText(statusLabel.getText() + " : Insérez une tuile");
                 setControlsEnabled(true);
                 mainGrid.setStyle("-fx-border-color: #ffd700; -fx-border-width: 3; -fx-border-radius: 5; -fx-effect: dropshadow(three-pass-box, gold, 10, 0, 0, 0);");
+                // Toutes les insertions sont analysées en arrière-plan (une seule fois par position)
+                insertionPreview.analyze(facade).thenRunAsync(this::refreshPreview, Platform::runLater);
+                refreshPreview();
             } else {
                 statusLabel.setText(statusLabel.getText() + " : Déplacez votre pion");
                 setControlsEnabled(false); // On désactive les insertions, seul le clic plateau est actif
@@ -587,9 +777,9 @@ public class MainView implements Observer {
         victoryBox.setAlignment(Pos.CENTER);
         victoryBox.setMaxSize(600, 400);
 
-        boolean isHumanWinner = (winnerId == 0);
+        boolean isHumanWinner = humanPlayer && (winnerId == 0);
 
-        String mainTitleText = isHumanWinner ? "VICTOIRE !" : "DÉFAITE...";
+        String mainTitleText = isHumanWinner ? "VICTOIRE !" : (humanPlayer ? "DÉFAITE..." : "FIN DE PARTIE");
         String subTitleText = isHumanWinner
                 ? "BRAVO ! VOUS AVEZ GAGNÉ !"
                 : "LE BOT " + (winnerId + 1) + " A GAGNÉ !";
@@ -726,7 +916,13 @@ public class MainView implements Observer {
         btn.setStyle(BTN_MAIN_STYLE + " -fx-padding: 15 30;");
         btn.setOnMouseEntered(e -> btn.setStyle(BTN_MAIN_HOVER + " -fx-padding: 15 30;"));
         btn.setOnMouseExited(e -> btn.setStyle(BTN_MAIN_STYLE + " -fx-padding: 15 30;"));
-        btn.setOnAction(e -> launchGame(nbPlayers));
+        btn.setOnAction(e -> launchGame(nbPlayers, true));
+        return btn;
+    }
+
+    private Button createStyledButton(String text, int nbPlayers, boolean humanPlayer) {
+        Button btn = createStyledButton(text, nbPlayers);
+        btn.setOnAction(e -> launchGame(nbPlayers, humanPlayer));
         return btn;
     }
 
@@ -744,11 +940,17 @@ public class MainView implements Observer {
         btn.setStyle(BTN_ARROW_STYLE);
 
         btn.setOnMouseEntered(e -> {
-            if(!btn.isDisabled())
-                btn.setStyle(BTN_ARROW_STYLE + "-fx-background-color: rgba(255,215,0,0.2); -fx-text-fill: gold; -fx-border-color: gold; -fx-effect: dropshadow(gaussian, gold, 10, 0, 0, 0);");
+            if (btn.isDisabled()) return;
+            btn.setStyle(BTN_ARROW_STYLE + BTN_ARROW_HOVER);
+            hoveredInsert = btn;
+            refreshPreview();
         });
         btn.setOnMouseExited(e -> {
             if(!btn.isDisabled()) btn.setStyle(BTN_ARROW_STYLE);
+            if (hoveredInsert == btn) {
+                hoveredInsert = null;
+                showPreview(null);
+            }
         });
 
         btn.setUserData(new Object[]{dir, logicIndex});
@@ -760,6 +962,45 @@ public class MainView implements Observer {
         mainGrid.add(btn, gridCol, gridRow);
     }
 
+    /**
+     * Shows the preview of the hovered insertion, if its analysis is ready.
+     * Also called when the analysis arrives and when the extra tile is rotated.
+     */
+    private void refreshPreview() {
+        InsertionPreview.Analysis analysis = insertionPreview.current();
+        if (hoveredInsert == null || hoveredInsert.isDisabled() || analysis == null) {
+            showPreview(null);
+            return;
+        }
+        Object[] data = (Object[]) hoveredInsert.getUserData();
+        InsertionPreview.Preview preview = analysis.preview((Direction) data[0], (int) data[1], facade.getExtraTile());
+        showPreview(preview);
+        if (preview != null) {
+            hoveredInsert.setStyle(BTN_ARROW_STYLE + (preview.isObjectiveReachable() ? BTN_ARROW_OBJECTIVE : BTN_ARROW_HOVER));
+        }
+    }
+
+    /**
+     * Highlights the cells reachable after an insertion, in both renderers.
+     *
+     * @param preview The preview to show, or null to clear the highlights.
+     */
+    private void showPreview(InsertionPreview.Preview preview) {
+        if (preview == null && !previewShown) return;
+        if (tileViews == null || boardCanvas == null) return;
+        previewShown = preview != null;
+
+        boolean[][] cells = (preview == null) ? null : new boolean[7][7];
+        for (int r = 0; r < 7; r++) {
+            for (int c = 0; c < 7; c++) {
+                boolean on = cells != null && preview.isReachable(r, c);
+                if (cells != null) cells[r][c] = on;
+                if (!canvasMode) tileViews[r][c].setHighlighted(on);
+            }
+        }
+        if (canvasMode) boardCanvas.setHighlights(cells);
+    }
+
     private VBox createRuleSection(String headerTitle, String bodyText, Color headerColor) {
         VBox box = new VBox(10);
         box.setStyle("-fx-background-color: rgba(0,0,0,0.5); -fx-padding: 20; -fx-background-radius: 15; -fx-border-color: #444; -fx-border-radius: 15;");
@@ -795,6 +1036,12 @@ public class MainView implements Observer {
         // Lancement du son de glissement
         soundManager.playSlide();
 
+        // Mode Canvas : l'animation est dessinée directement, sans TranslateTransition
+        if (canvasMode) {
+            boardCanvas.animateSlide(forbiddenDir, index, soundManager::stopSlide);
+            return;
+        }
+
         ParallelTransition animationGroup = new ParallelTransition();
         double fromX = 0;
         double fromY = 0;
@@ -826,41 +1073,218 @@ public class MainView implements Observer {
         animationGroup.play();
     }
 
-    private void updateTiles() {
+    /**
+     * Switches the board between the node renderer (49 TileViews) and the single Canvas renderer.
+     * <p>
+     * The canvas spans the 7x7 cells of the grid, between the insertion arrows, so the layout
+     * and the controls stay identical in both modes.
+     * </p>
+     *
+     * @param enabled True to draw the board on the Canvas, false to use the TileViews.
+     */
+    private void setCanvasMode(boolean enabled) {
+        showPreview(null); // La surbrillance est redessinée par le nouveau moteur au prochain survol
+        canvasMode = enabled;
+        if (tileViews == null || boardCanvas == null) return;
+
+        if (enabled) {
+            // On retire les 49 TileViews (et leurs pions) du graphe de scène
+            for (TileView[] row : tileViews) mainGrid.getChildren().removeAll(row);
+            if (!mainGrid.getChildren().contains(boardCanvas)) mainGrid.add(boardCanvas, 1, 1, 7, 7);
+            if (facade.getNbPlayers() > 0) boardCanvas.render();
+        } else {
+            mainGrid.getChildren().remove(boardCanvas);
+            for (int r = 0; r < 7; r++) {
+                for (int c = 0; c < 7; c++) {
+                    if (tileViews[r][c].getParent() == null) mainGrid.add(tileViews[r][c], c + 1, r + 1);
+                }
+            }
+            // Les TileViews n'ont pas suivi la partie pendant le mode Canvas : resynchronisation complète
+            if (facade.getNbPlayers() > 0) {
+                markAllDirty();
+                updateTiles(true);
+                updatePlayers();
+            }
+        }
+    }
+
+    /**
+     * Marks every cell of a slid row or column as needing a refresh.
+     *
+     * @param dir   The direction of the slide.
+     * @param index The row or column index.
+     */
+    private void markLineDirty(Direction dir, int index) {
+        boolean horizontal = (dir == Direction.LEFT || dir == Direction.RIGHT);
+        for (int i = 0; i < 7; i++) {
+            if (horizontal) dirtyCells[index][i] = true;
+            else dirtyCells[i][index] = true;
+        }
+    }
+
+    /**
+     * Checks if bot turns must be fast-forwarded (turbo speed selected and no human seat).
+     *
+     * @return true if the turbo driver may play.
+     */
+    private boolean isTurboActive() {
+        return turboMode && !humanPlayer;
+    }
+
+    /**
+     * Hands the game over to the turbo driver.
+     * The view stops observing the model: the driver redraws the whole screen at a capped frame rate instead.
+     */
+    private void startTurbo() {
+        if (turboDriver.isRunning()) return;
+        if (botPause != null) botPause.stop(); // La "réflexion" en cours est remplacée par le turbo
+        isBotPlaying = false;
+        facade.removeObserver(this);
+        turboDriver.start();
+        setControlsEnabled(false);
+        mainGrid.setStyle("");
+        statusLabel.setText("⚡ Mode turbo : les bots jouent à pleine vitesse");
+        statusLabel.setTextFill(Color.CYAN);
+    }
+
+    /**
+     * Stops the turbo driver (if running) and observes the model again.
+     * The events of the fast-forwarded turns are dropped: the caller redraws the whole screen.
+     */
+    private void detachTurbo() {
+        if (turboDriver == null || !turboDriver.isRunning()) return;
+        turboDriver.stop();
+        facade.flushEvents(); // Personne n'écoute : les événements accumulés sont jetés
+        facade.addObserver(this);
+    }
+
+    /**
+     * Called when turbo mode ends (game over, human turn or speed switched back to normal).
+     */
+    private void onTurboStopped() {
+        facade.flushEvents();
+        facade.addObserver(this);
+        renderFullFrame();
+        if (facade.getGameState() == Game.State.GAME_OVER) {
+            if (!gameEnded) {
+                gameEnded = true;
+                showVictoryScreen(facade.getWinnerId());
+            }
+        } else {
+            handleTurnLogic(); // Reprise au rythme normal
+        }
+    }
+
+    /**
+     * Redraws the whole game screen from the current state of the model (used by the turbo driver).
+     */
+    private void renderFullFrame() {
+        if (tileViews == null) return;
+        long start = perfOverlay.mark();
+        perfOverlay.recordBotThink(turboDriver.getLastTurnNanos());
+        markAllDirty();
+
+        long mark = perfOverlay.mark();
+        if (canvasMode) {
+            extraTileView.update(facade.getExtraTile());
+            boardCanvas.render();
+            perfOverlay.record(PerformanceOverlay.Section.TILES, mark);
+        } else {
+            updateTiles(true);
+            perfOverlay.record(PerformanceOverlay.Section.TILES, mark);
+            mark = perfOverlay.mark();
+            updatePlayers();
+            perfOverlay.record(PerformanceOverlay.Section.PLAYERS, mark);
+        }
+        mark = perfOverlay.mark();
+        updatePlayerPanels();
+        perfOverlay.record(PerformanceOverlay.Section.PANELS, mark);
+        perfOverlay.record(PerformanceOverlay.Section.UPDATE, start);
+    }
+
+    /**
+     * Redraws the board with the tile atlas once it has been built (no-op if no game is displayed).
+     */
+    private void refreshWithAtlas() {
+        if (tileViews == null) return;
+        markAllDirty();
+        updateTiles(true);
+        if (canvasMode) boardCanvas.render();
+    }
+
+    /**
+     * Marks the whole board as needing a refresh.
+     */
+    private void markAllDirty() {
+        for (boolean[] row : dirtyCells) java.util.Arrays.fill(row, true);
+    }
+
+    /**
+     * Refreshes the dirty tiles only, then clears their dirty flag.
+     *
+     * @param extraDirty True if the extra tile must be refreshed too.
+     */
+    private void updateTiles(boolean extraDirty) {
         for (int r = 0; r < 7; r++) {
             for (int c = 0; c < 7; c++) {
-                tileViews[r][c].update(facade.getTile(r, c));
-                tileViews[r][c].getChildren().removeIf(node -> node instanceof Circle);
+                if (dirtyCells[r][c]) {
+                    tileViews[r][c].update(facade.getTile(r, c));
+                    dirtyCells[r][c] = false;
+                }
             }
         }
-        extraTileView.update(facade.getExtraTile());
+        if (extraDirty) extraTileView.update(facade.getExtraTile());
+    }
+
+    /**
+     * Creates the persistent pawn nodes of a new game.
+     *
+     * @param nbPlayers The number of players.
+     * @return One pawn per player, not yet attached to a tile.
+     */
+    private Circle[] createPawns(int nbPlayers) {
+        Circle[] created = new Circle[nbPlayers];
+        for (int i = 0; i < nbPlayers; i++) {
+            Circle pawn = new Circle(30, PAWN_COLORS[i % PAWN_COLORS.length]);
+            pawn.setOpacity(0.45);
+            pawn.setStrokeWidth(2);
+            pawn.setMouseTransparent(true); // Le clic doit atteindre la TileView en dessous
+            created[i] = pawn;
+        }
+        return created;
     }
 
+    /**
+     * Places the persistent pawns on their tiles.
+     * <p>
+     * Pawns are only re-parented when their tile changes; their size, offset and highlight
+     * are updated in place, without allocating new nodes or effects.
+     * </p>
+     */
     private void updatePlayers() {
-        Color[] colors = {Color.web("#55FF55"), Color.web("#5555FF"), Color.web("#FFFF55"), Color.web("#FF5555")};
-        int nbPlayers = facade.getNbPlayers();
+        int nbPlayers = Math.min(facade.getNbPlayers(), pawns.length);
         int currentPlayerIndex = facade.getCurrentPlayerIndex();
 
-        // Regroupement des joueurs par case (pour gérer les chevauchements)
-        Map<Position, List<Integer>> playersOnTile = new HashMap<>();
         for (int i = 0; i < nbPlayers; i++) {
             Position pos = facade.getPlayerPosition(i);
-            playersOnTile.putIfAbsent(pos, new ArrayList<>());
-            playersOnTile.get(pos).add(i);
-        }
 
-        for (int i = 0; i < nbPlayers; i++) {
-            Position pos = facade.getPlayerPosition(i);
-            List<Integer> buddies = playersOnTile.get(pos);
+            // Regroupement des joueurs par case (pour gérer les chevauchements)
+            int rank = 0;
+            int buddies = 0;
+            for (int j = 0; j < nbPlayers; j++) {
+                if (facade.getPlayerPosition(j).equals(pos)) {
+                    if (j < i) rank++;
+                    buddies++;
+                }
+            }
 
             double radius;
             double offsetX = 0;
             double offsetY = 0;
 
             // Si plusieurs joueurs sur la même case, on les décale
-            if (buddies.size() > 1) {
+            if (buddies > 1) {
                 radius = 18;
-                int rank = buddies.indexOf(i);
                 switch (rank) {
                     case 0 -> { offsetX = -20; offsetY = -20; }
                     case 1 -> { offsetX = 20; offsetY = -20; }
@@ -871,22 +1295,23 @@ public class MainView implements Observer {
                 radius = 30;
             }
 
-            Circle pawn = new Circle(radius, colors[i % colors.length]);
-            pawn.setOpacity(0.45);
-            pawn.setStroke(Color.BLACK);
-            pawn.setStrokeWidth(2);
+            Circle pawn = pawns[i];
+            pawn.setRadius(radius);
             pawn.setTranslateX(offsetX);
             pawn.setTranslateY(offsetY);
 
             // Mise en valeur du joueur dont c'est le tour
-            if (i == currentPlayerIndex) {
-                pawn.setEffect(new Glow(0.8));
-                pawn.setStroke(Color.WHITE);
-                pawn.setViewOrder(-1);
-            } else {
-                pawn.setEffect(new DropShadow(5, Color.BLACK));
+            boolean active = (i == currentPlayerIndex);
+            pawn.setEffect(active ? activePawnEffect : idlePawnEffect);
+            pawn.setStroke(active ? Color.WHITE : Color.BLACK);
+            pawn.setViewOrder(active ? -1 : 0);
+
+            // Déplacement du nœud uniquement si le pion a changé de case
+            TileView target = tileViews[pos.row()][pos.col()];
+            if (pawn.getParent() != target) {
+                if (pawn.getParent() instanceof Pane previous) previous.getChildren().remove(pawn);
+                target.getChildren().add(pawn);
             }
-            tileViews[pos.row()][pos.col()].getChildren().add(pawn);
         }
     }
 
@@ -905,8 +1330,10 @@ public class MainView implements Observer {
     private void setControlsEnabled(boolean enableSlide) {
         if (btnRotateLeft != null) btnRotateLeft.setDisable(!enableSlide);
         if (btnRotateRight != null) btnRotateRight.setDisable(!enableSlide);
-        if (btnUndo != null) btnUndo.setDisable(isBotPlaying);
-        if (btnRedo != null) btnRedo.setDisable(isBotPlaying);
+        // Pas d'annulation pendant qu'un bot joue (pause de réflexion ou mode turbo)
+        boolean botBusy = isBotPlaying || turboDriver.isRunning();
+        if (btnUndo != null) btnUndo.setDisable(botBusy);
+        if (btnRedo != null) btnRedo.setDisable(botBusy);
 
         Direction forbiddenDir = facade.getForbiddenDirection();
         int forbiddenIdx = facade.getForbiddenIndex();
@@ -0,0 +1,234 @@
+package g62221.labyrinthe.view;
+
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Toggleable performance overlay of the game screen (F3).
+ * <p>
+ * An {@link AnimationTimer} measures the interval between two JavaFX pulses (FPS and frame time). The view
+ * times its refresh and its sub-steps with {@link #mark()} / {@link #record(Section, long)}, and reports
+ * the think time of the bots and the number of model notifications. Heap usage and GC counts are read from
+ * the JVM. With this, a "laggy board" can be attributed to rendering, to the view refresh, to the bots or
+ * to the garbage collector.
+ * </p>
+ * <p>
+ * Values are aggregated over windows of {@value #WINDOW_MS} ms (average and maximum) and the text is only
+ * rebuilt once per window. While the overlay is hidden its timer is stopped and {@link #mark()} returns 0,
+ * so the measures cost nothing.
+ * </p>
+ */
+public class PerformanceOverlay extends StackPane {
+
+    /** Duration of an aggregation window, in milliseconds. */
+    public static final int WINDOW_MS = 500;
+
+    /**
+     * Timed steps of the view.
+     */
+    public enum Section {
+        /** The whole refresh of the view after a batch of model events. */
+        UPDATE("update()"),
+        /** Refresh of the tiles (or the Canvas). */
+        TILES("  tuiles"),
+        /** Placement of the pawns. */
+        PLAYERS("  pions"),
+        /** Refresh of the player panels. */
+        PANELS("  panneaux");
+
+        private final String label;
+
+        Section(String label) {
+            this.label = label;
+        }
+    }
+
+    /**
+     * Sum, count and maximum of the samples of one window.
+     */
+    private static final class Window {
+        long sum;
+        long max;
+        int count;
+
+        void add(long nanos) {
+            sum += nanos;
+            count++;
+            if (nanos > max) max = nanos;
+        }
+
+        String describe() {
+            if (count == 0) return "     -";
+            return String.format(Locale.ROOT, "%6.2f ms  max %6.2f", sum / 1e6 / count, max / 1e6);
+        }
+
+        void clear() {
+            sum = 0;
+            max = 0;
+            count = 0;
+        }
+    }
+
+    private final Label text = new Label();
+    private final Map<Section, Window> sections = new EnumMap<>(Section.class);
+    private final Window frames = new Window();
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+    private final AnimationTimer timer;
+
+    private boolean showing = false;
+    private long lastPulse = 0;
+    private long windowStart = 0;
+    private long lastBotThink = -1;
+    private int events = 0;
+
+    /**
+     * Creates the overlay, hidden.
+     */
+    public PerformanceOverlay() {
+        for (Section s : Section.values()) sections.put(s, new Window());
+
+        text.setStyle("-fx-font-family: 'Consolas', 'Monospaced'; -fx-font-size: 12px; -fx-text-fill: #7CFC00;"
+                + " -fx-background-color: rgba(0,0,0,0.75); -fx-padding: 8; -fx-background-radius: 5;");
+        getChildren().add(text);
+        setAlignment(Pos.TOP_LEFT);
+        setPadding(new Insets(10));
+        setMaxSize(USE_PREF_SIZE, USE_PREF_SIZE);
+        setMouseTransparent(true); // Ne gêne jamais les clics sur le plateau
+        setVisible(false);
+
+        this.timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                onPulse(now);
+            }
+        };
+    }
+
+    /**
+     * Shows or hides the overlay.
+     *
+     * @param show true to show it.
+     */
+    public void setShowing(boolean show) {
+        if (show == showing) return;
+        showing = show;
+        setVisible(show);
+        if (show) {
+            clearWindow();
+            lastPulse = 0;
+            windowStart = 0;
+            text.setText("Mesures en cours...");
+            timer.start();
+        } else {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Shows the overlay if it is hidden, hides it otherwise.
+     */
+    public void toggle() {
+        setShowing(!showing);
+    }
+
+    /**
+     * Checks if the overlay is displayed.
+     *
+     * @return true if shown.
+     */
+    public boolean isShowing() {
+        return showing;
+    }
+
+    /**
+     * Starts a measure.
+     *
+     * @return The start time to give to {@link #record(Section, long)}, or 0 if the overlay is hidden.
+     */
+    public long mark() {
+        return showing ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Ends the measure of a step of the view.
+     *
+     * @param section The step.
+     * @param start   The value returned by {@link #mark()}.
+     */
+    public void record(Section section, long start) {
+        if (start != 0) sections.get(section).add(System.nanoTime() - start);
+    }
+
+    /**
+     * Reports the duration of the last bot turn.
+     *
+     * @param nanos The think time, in nanoseconds.
+     */
+    public void recordBotThink(long nanos) {
+        lastBotThink = nanos;
+    }
+
+    /**
+     * Reports a batch of model notifications.
+     *
+     * @param count The number of events of the batch.
+     */
+    public void recordEvents(int count) {
+        if (showing) events += count;
+    }
+
+    /**
+     * Measures the frame interval, and rebuilds the text at the end of each window.
+     */
+    private void onPulse(long now) {
+        if (lastPulse != 0) frames.add(now - lastPulse);
+        lastPulse = now;
+        if (windowStart == 0) windowStart = now;
+
+        long elapsed = now - windowStart;
+        if (elapsed < WINDOW_MS * 1_000_000L) return;
+
+        StringBuilder sb = new StringBuilder();
+        double fps = frames.count * 1e9 / elapsed;
+        sb.append(String.format(Locale.ROOT, "FPS        %6.1f%n", fps));
+        sb.append("image    ").append(frames.describe()).append('\n');
+        for (Section s : Section.values()) {
+            sb.append(String.format(Locale.ROOT, "%-9s", s.label)).append(sections.get(s).describe()).append('\n');
+        }
+        sb.append(String.format(Locale.ROOT, "IA       %s%n",
+                (lastBotThink < 0) ? "     -" : String.format(Locale.ROOT, "%6.2f ms", lastBotThink / 1e6)));
+        sb.append(String.format(Locale.ROOT, "événements %4.0f /s%n", events * 1e9 / elapsed));
+
+        // Mémoire et ramasse-miettes (cumuls depuis le lancement)
+        Runtime rt = Runtime.getRuntime();
+        long used = rt.totalMemory() - rt.freeMemory();
+        sb.append(String.format(Locale.ROOT, "tas      %4d / %d Mo%n", used >> 20, rt.maxMemory() >> 20));
+        long gcCount = 0;
+        long gcTime = 0;
+        for (GarbageCollectorMXBean gc : collectors) {
+            gcCount += Math.max(0, gc.getCollectionCount());
+            gcTime += Math.max(0, gc.getCollectionTime());
+        }
+        sb.append(String.format(Locale.ROOT, "GC       %4d coll. (%d ms)", gcCount, gcTime));
+
+        text.setText(sb.toString());
+        windowStart = now;
+        clearWindow();
+    }
+
+    private void clearWindow() {
+        frames.clear();
+        for (Window w : sections.values()) w.clear();
+        events = 0;
+    }
+}
@@ -1,6 +1,5 @@
 package g62221.labyrinthe.view;
 
-import g62221.labyrinthe.model.Tile;
 import g62221.labyrinthe.view.image.ImageFactory;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
@@ -13,7 +12,9 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Custom JavaFX component that displays a player's status.
@@ -22,6 +23,12 @@ import java.util.List;
  * the number of remaining cards, and the list of treasures already collected.
  * It changes appearance when it is the player's turn to provide visual feedback.
  * </p>
+ * <p>
+ * The four panels are refreshed at every turn change, so {@link #update} only touches what changed since
+ * the previous call: the two panel styles are built once and swapped, the card images come from the
+ * {@link ImageFactory} cache, and the inventory icons are appended (or detached on Undo) and reused
+ * instead of being rebuilt.
+ * </p>
  */
 public class PlayerInfoPanel extends VBox {
     private final int playerId;
@@ -35,6 +42,23 @@ public class PlayerInfoPanel extends VBox {
     // Couleurs hexadécimales néons pour correspondre au thème sombre
     private static final String[] PLAYER_COLORS = {"#55FF55", "#5555FF", "#FFFF55", "#FF5555"};
 
+    // Style discret (pas son tour), partagé par tous les panneaux
+    private static final String IDLE_STYLE = "-fx-background-color: rgba(20, 20, 20, 0.9); -fx-background-radius: 15; -fx-border-radius: 15; -fx-border-width: 1; -fx-border-color: #444; -fx-effect: dropshadow(three-pass-box, black, 10, 0, 0, 0);";
+    private static final String RETURN_STYLE = "-fx-text-fill: #FF5555; -fx-font-weight: bold;";
+
+    // Ombre des icônes d'inventaire : un seul effet partagé par toutes les icônes
+    private static final DropShadow ICON_SHADOW = new DropShadow(2, Color.BLACK);
+
+    private final String activeStyle; // Style "à son tour", calculé une fois (couleur du joueur)
+
+    // État affiché, pour ne modifier que ce qui a changé
+    private String appliedStyle;
+    private String shownObjective;
+    private boolean objectiveShown = false;
+    private int shownCards = -1;
+    private final List<String> shownTreasures = new ArrayList<>();
+    private final List<ImageView> inventoryIcons = new ArrayList<>(); // Réutilisées d'une mise à jour à l'autre
+
     /**
      * Constructs a new PlayerInfoPanel.
      *
@@ -44,6 +68,9 @@ public class PlayerInfoPanel extends VBox {
     public PlayerInfoPanel(int playerId, boolean isHuman) {
         this.playerId = playerId;
         this.isHuman = isHuman;
+        String pColor = PLAYER_COLORS[playerId % 4];
+        // Bordure brillante et fond légèrement plus clair
+        this.activeStyle = "-fx-background-color: rgba(40, 40, 40, 0.95); -fx-background-radius: 15; -fx-border-radius: 15; -fx-border-width: 2; -fx-border-color: " + pColor + "; -fx-effect: dropshadow(three-pass-box, " + pColor + ", 15, 0, 0, 0);";
 
         // Configuration du Layout vertical (VBox)
         this.setAlignment(Pos.TOP_CENTER);
@@ -114,54 +141,86 @@ public class PlayerInfoPanel extends VBox {
      * @param isCurrentTurn    True if it is this player's turn (triggers highlighting).
      */
     public void update(String currentObjective, int cardsRemaining, List<String> foundObjectives, boolean isCurrentTurn) {
-        // Feedback visuel pour indiquer quel joueur est en train de jouer
-        if (isCurrentTurn) {
-            String pColor = PLAYER_COLORS[playerId % 4];
-            // Bordure brillante et fond légèrement plus clair
-            this.setStyle("-fx-background-color: rgba(40, 40, 40, 0.95); -fx-background-radius: 15; -fx-border-radius: 15; -fx-border-width: 2; -fx-border-color: " + pColor + "; -fx-effect: dropshadow(three-pass-box, " + pColor + ", 15, 0, 0, 0);");
-        } else {
-            // Retour au style sombre et discret
-            this.setStyle("-fx-background-color: rgba(20, 20, 20, 0.9); -fx-background-radius: 15; -fx-border-radius: 15; -fx-border-width: 1; -fx-border-color: #444; -fx-effect: dropshadow(three-pass-box, black, 10, 0, 0, 0);");
+        // Feedback visuel pour indiquer quel joueur est en train de jouer (style recalculé seulement au changement)
+        String style = isCurrentTurn ? activeStyle : IDLE_STYLE;
+        if (style != appliedStyle) {
+            this.setStyle(style);
+            appliedStyle = style;
+        }
+
+        // Carte objectif et compteur : uniquement quand ils changent
+        if (!objectiveShown || !Objects.equals(currentObjective, shownObjective) || cardsRemaining != shownCards) {
+            showObjective(currentObjective, cardsRemaining);
         }
 
-        this.remainingCountLabel.setText(cardsRemaining + " restante(s)");
+        // Mise à jour de l'inventaire visuel (petites icônes en bas)
+        updateInventory(foundObjectives);
+    }
 
-        // Gestion de l'affichage de la carte objectif
+    /**
+     * Displays the objective card and the number of remaining cards.
+     */
+    private void showObjective(String currentObjective, int cardsRemaining) {
+        boolean wasReturning = objectiveShown && shownObjective == null;
         if (currentObjective != null) {
             if (isHuman) {
-                // Si c'est un humain, on montre le trésor
-                // Astuce : On crée une tuile temporaire juste pour récupérer l'image du trésor via la Factory
-                Tile fakeTile = new Tile(Tile.Shape.T, 0, currentObjective, false);
-                this.currentCardView.setImage(ImageFactory.getImage(fakeTile));
+                // Si c'est un humain, on montre le trésor (image du cache, sans tuile temporaire)
+                this.currentCardView.setImage(ImageFactory.getTreasureImage(currentObjective));
             } else {
                 // Si c'est un BOT, on cache l'objectif (Dos de carte)
-                try {
-                    String path = "/back_card.jpg";
-                    if (getClass().getResource(path) != null) {
-                        this.currentCardView.setImage(new javafx.scene.image.Image(getClass().getResourceAsStream(path)));
-                    } else {
-                        this.currentCardView.setImage(createPlaceholder(Color.DARKRED));
-                    }
-                } catch (Exception e) {
-                    this.currentCardView.setImage(createPlaceholder(Color.DARKRED));
-                }
+                // Image partagée et préchargée par la Factory (plus de lecture disque à chaque tour)
+                javafx.scene.image.Image back = ImageFactory.getCardBack();
+                this.currentCardView.setImage(back != null ? back : createPlaceholder(Color.DARKRED));
             }
+            this.remainingCountLabel.setText(cardsRemaining + " restante(s)");
+            // Undo après le dernier trésor : le compteur reprend son style normal
+            if (wasReturning) this.remainingCountLabel.setStyle("");
         } else {
             // Plus d'objectifs : Le joueur doit retourner à sa case départ
             this.currentCardView.setImage(null);
             this.remainingCountLabel.setText("RETOUR DÉPART !");
-            this.remainingCountLabel.setStyle("-fx-text-fill: #FF5555; -fx-font-weight: bold;");
+            this.remainingCountLabel.setStyle(RETURN_STYLE);
         }
+        shownObjective = currentObjective;
+        shownCards = cardsRemaining;
+        objectiveShown = true;
+    }
 
-        // Mise à jour de l'inventaire visuel (petites icônes en bas)
-        foundTreasuresPane.getChildren().clear();
-        for (String treasure : foundObjectives) {
-            Tile fakeTile = new Tile(Tile.Shape.T, 0, treasure, false);
-            ImageView imgView = new ImageView(ImageFactory.getImage(fakeTile));
-            imgView.setFitWidth(25);
-            imgView.setFitHeight(25);
-            imgView.setEffect(new DropShadow(2, Color.BLACK));
-            foundTreasuresPane.getChildren().add(imgView);
+    /**
+     * Brings the inventory icons in line with the found treasures.
+     * <p>
+     * Treasures are only ever appended during a game; an Undo removes the last ones. The icons of the
+     * common prefix are kept, the others are detached and kept for reuse.
+     * </p>
+     */
+    private void updateInventory(List<String> foundObjectives) {
+        // Longueur du préfixe commun entre l'inventaire affiché et le nouveau
+        int common = 0;
+        int max = Math.min(shownTreasures.size(), foundObjectives.size());
+        while (common < max && shownTreasures.get(common).equals(foundObjectives.get(common))) common++;
+
+        // Retrait des icônes au-delà du préfixe (Undo ou nouvelle partie)
+        if (common < shownTreasures.size()) {
+            foundTreasuresPane.getChildren().remove(common, shownTreasures.size());
+            shownTreasures.subList(common, shownTreasures.size()).clear();
+        }
+
+        // Ajout des trésors nouvellement trouvés, en réutilisant les icônes existantes
+        for (int i = common; i < foundObjectives.size(); i++) {
+            String treasure = foundObjectives.get(i);
+            ImageView icon;
+            if (i < inventoryIcons.size()) {
+                icon = inventoryIcons.get(i);
+            } else {
+                icon = new ImageView();
+                icon.setFitWidth(25);
+                icon.setFitHeight(25);
+                icon.setEffect(ICON_SHADOW);
+                inventoryIcons.add(icon);
+            }
+            icon.setImage(ImageFactory.getTreasureImage(treasure));
+            foundTreasuresPane.getChildren().add(icon);
+            shownTreasures.add(treasure);
         }
     }
 
@@ -0,0 +1,142 @@
+package g62221.labyrinthe.view;
+
+import g62221.labyrinthe.metrics.MetricsRegistry;
+import g62221.labyrinthe.metrics.Timer;
+import g62221.labyrinthe.view.image.ImageFactory;
+import g62221.labyrinthe.view.image.TileAtlas;
+import g62221.labyrinthe.view.sound.SoundManager;
+import javafx.animation.AnimationTimer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background asset loading started when the application launches.
+ * <p>
+ * The tile images and the music are decoded concurrently on a small pool of daemon threads while the menu
+ * is already on screen; the tile atlas is then assembled from the decoded images. Each stage exposes its
+ * own "ready" future, and two startup timings are measured from the creation of the pipeline:
+ * </p>
+ * <ul>
+ *     <li><b>time-to-first-frame</b>: the first JavaFX pulse after the menu has been shown;</li>
+ *     <li><b>time-to-interactive</b>: the menu is shown and every asset is ready, so no click can block
+ *     on a disk read or a decode.</li>
+ * </ul>
+ * <p>
+ * Both are available through {@link #firstFrameReady()} and {@link #interactiveReady()}, and recorded in the
+ * {@link MetricsRegistry} ({@code startup.first-frame}, {@code startup.interactive}) when metrics are on.
+ * </p>
+ */
+public class StartupPipeline {
+
+    private static final Timer FIRST_FRAME_TIMER = MetricsRegistry.global().timer("startup.first-frame");
+    private static final Timer INTERACTIVE_TIMER = MetricsRegistry.global().timer("startup.interactive");
+
+    private final long startNanos = System.nanoTime();
+    private final ExecutorService executor;
+
+    private final CompletableFuture<Void> images;
+    private final CompletableFuture<TileAtlas> atlas;
+    private final CompletableFuture<Void> audio;
+    private final CompletableFuture<Long> firstFrame = new CompletableFuture<>();
+    private final CompletableFuture<Long> interactive;
+
+    /**
+     * Starts loading every asset in the background.
+     *
+     * @param soundManager The sound manager whose music must be decoded.
+     */
+    public StartupPipeline(SoundManager soundManager) {
+        // Threads démons : ils ne doivent pas empêcher la fermeture de l'application
+        AtomicInteger counter = new AtomicInteger();
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors() - 1);
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "asset-loader-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        // Images et musique démarrent en même temps ; l'atlas est assemblé à partir des images décodées
+        this.images = ImageFactory.preloadAll(executor);
+        this.atlas = images.thenCompose(v -> TileAtlas.buildAsync(executor));
+        this.audio = soundManager.loadAsync(executor);
+
+        this.interactive = CompletableFuture.allOf(images, atlas, audio, firstFrame)
+                .thenApply(v -> elapsedMillis());
+        interactive.whenComplete((ms, error) -> {
+            executor.shutdown(); // Plus rien à charger : les threads se terminent
+            if (error != null) {
+                System.err.println("Erreur de chargement des ressources : " + error.getMessage());
+            } else {
+                FIRST_FRAME_TIMER.record(firstFrame.join() * 1_000_000);
+                INTERACTIVE_TIMER.record(ms * 1_000_000);
+            }
+        });
+    }
+
+    /**
+     * Records the time of the first frame. Must be called on the JavaFX thread right after the
+     * first screen has been set: the timing is taken at the next pulse, when it is actually rendered.
+     */
+    public void markFirstScreenShown() {
+        if (firstFrame.isDone()) return;
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                firstFrame.complete(elapsedMillis());
+            }
+        }.start();
+    }
+
+    /**
+     * Gets the future completed when every tile image is decoded.
+     *
+     * @return The "ready" future of the images.
+     */
+    public CompletableFuture<Void> imagesReady() {
+        return images;
+    }
+
+    /**
+     * Gets the future completed when the tile atlas is built.
+     *
+     * @return The "ready" future of the atlas.
+     */
+    public CompletableFuture<TileAtlas> atlasReady() {
+        return atlas;
+    }
+
+    /**
+     * Gets the future completed when the music is decoded.
+     *
+     * @return The "ready" future of the audio.
+     */
+    public CompletableFuture<Void> audioReady() {
+        return audio;
+    }
+
+    /**
+     * Gets the future completed with the time-to-first-frame, in milliseconds.
+     *
+     * @return The "ready" future of the first rendered frame.
+     */
+    public CompletableFuture<Long> firstFrameReady() {
+        return firstFrame;
+    }
+
+    /**
+     * Gets the future completed with the time-to-interactive, in milliseconds.
+     *
+     * @return The "ready" future of the whole startup.
+     */
+    public CompletableFuture<Long> interactiveReady() {
+        return interactive;
+    }
+
+    private long elapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -2,7 +2,9 @@ package g62221.labyrinthe.view;
 
 import g62221.labyrinthe.model.Tile;
 import g62221.labyrinthe.view.image.ImageFactory;
+import g62221.labyrinthe.view.image.TileAtlas;
 import javafx.scene.image.ImageView;
+import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 
 import java.util.HashMap;
@@ -20,6 +22,12 @@ import java.util.Map;
 public class TileView extends StackPane {
 
     private final ImageView imageView;
+    private Region highlight; // Voile de surbrillance (créé à la première utilisation)
+
+    // Dernier état affiché : permet d'ignorer les mises à jour qui ne changent rien
+    private Tile displayedTile;
+    private int displayedRotation = -1;
+    private int displayedEntry = -1; // Entrée de l'atlas utilisée (-1 = image simple + rotation)
 
     // --- VISUAL CORRECTION MAP ---
     // Why is this needed?
@@ -79,43 +87,38 @@ public class TileView extends StackPane {
 
     /**
      * Updates the visual state of the tile based on the model data.
+     * <p>
+     * When the {@link TileAtlas} is ready, the tile is shown as a pre-rotated sub-image of the atlas
+     * (viewport, no rotation). Until then, the plain image is rotated by the ImageView.
+     * </p>
      *
      * @param tile The tile data object from the model.
      */
     public void update(Tile tile) {
         if (tile == null) return;
-
-        // 1. Récupération de l'image optimisée (via le Pattern Flyweight / Factory)
-        imageView.setImage(ImageFactory.getImage(tile));
-
-        // 2. Calcul de la rotation
-        // Rotation Logique (Model) : L'état du jeu (0, 90, 180, 270)
-        double rotationLogique = tile.getRotation();
-        double correction = 0;
-
-        String name = tile.getTreasure();
-        // Nettoyage du nom pour trouver la clé dans la map
-        String keyName = (name != null) ? name.replace("fixed_tile_", "") : null;
-
-        // --- Application de la correction visuelle ---
-        if (keyName != null && CORRECTIONS.containsKey(keyName)) {
-            // Cas A : C'est un trésor connu dans la map de correction
-            correction = CORRECTIONS.get(keyName);
-        } else if (tile.isFixed() && name != null && name.startsWith("fixed_tile_") && !name.contains("goal")) {
-            // Cas B : C'est un coin fixe (déjà dessiné correctement, pas de rotation)
-            imageView.setRotate(0);
-            return;
-        } else if (!tile.hasTreasure()) {
-            // Cas C : Tuile couloir vide
-            correction = 0;
-        } else {
-            // Cas D : Fallback pour les formes T et L génériques
-            if (tile.getShape() == Tile.Shape.T) correction = tile.isFixed() ? 270.0 : 180.0;
-            if (tile.getShape() == Tile.Shape.L) correction = 180.0;
+        TileAtlas atlas = TileAtlas.getIfReady();
+
+        // 0. Même tuile, même orientation (et atlas déjà utilisé s'il est prêt) : rien à faire
+        boolean sameTile = (tile == displayedTile);
+        if (sameTile && tile.getRotation() == displayedRotation && (displayedEntry >= 0 || atlas == null)) return;
+        displayedTile = tile;
+        displayedRotation = tile.getRotation();
+
+        // 1. Chemin rapide : sous-image pré-tournée de l'atlas (recherche d'entrée seulement si la tuile a changé)
+        if (atlas != null) {
+            if (!sameTile || displayedEntry < 0) displayedEntry = atlas.entryOf(tile);
+            if (displayedEntry >= 0) {
+                imageView.setImage(atlas.getImage());
+                imageView.setViewport(atlas.viewport(displayedEntry, tile.getRotation()));
+                imageView.setRotate(0);
+                return;
+            }
         }
 
-        // Application finale de la rotation sur le composant JavaFX
-        imageView.setRotate(rotationLogique + correction);
+        // 2. Repli : image optimisée (via le Pattern Flyweight / Factory) + rotation à l'affichage
+        imageView.setViewport(null);
+        imageView.setImage(ImageFactory.getImage(tile));
+        imageView.setRotate(visualRotation(tile));
 
         // --- DEBUG VISUEL (Outil de développement) ---
         // Ce bloc de code m'a servi à vérifier que les connexions logiques (isReachable)
@@ -144,4 +147,57 @@ public class TileView extends StackPane {
         }
         */
     }
-}
\ No newline at end of file
+
+    /**
+     * Shows or hides a translucent overlay on the tile (same color as the highlights of the Canvas renderer).
+     *
+     * @param on true to highlight the tile.
+     */
+    public void setHighlighted(boolean on) {
+        if (highlight == null) {
+            if (!on) return;
+            highlight = new Region();
+            highlight.setStyle("-fx-background-color: rgba(255,215,0,0.35);");
+            highlight.setMouseTransparent(true);
+            getChildren().add(highlight);
+        }
+        highlight.setVisible(on);
+    }
+
+    /**
+     * Computes the on-screen rotation of a tile image.
+     * <p>
+     * Combines the logical rotation of the model with the correction needed by the source image
+     * (see {@code CORRECTIONS}). Shared by every renderer so that they all draw tiles the same way.
+     * </p>
+     *
+     * @param tile The tile to draw.
+     * @return The rotation to apply to the image, in degrees (clockwise).
+     */
+    public static double visualRotation(Tile tile) {
+        // Rotation Logique (Model) : L'état du jeu (0, 90, 180, 270)
+        double rotationLogique = tile.getRotation();
+        double correction = 0;
+
+        String name = ImageFactory.designOf(tile.getTreasure());
+        // Nettoyage du nom pour trouver la clé dans la map
+        String keyName = (name != null) ? name.replace("fixed_tile_", "") : null;
+
+        // --- Application de la correction visuelle ---
+        if (keyName != null && CORRECTIONS.containsKey(keyName)) {
+            // Cas A : C'est un trésor connu dans la map de correction
+            correction = CORRECTIONS.get(keyName);
+        } else if (tile.isFixed() && name != null && name.startsWith("fixed_tile_") && !name.contains("goal")) {
+            // Cas B : C'est un coin fixe (déjà dessiné correctement, pas de rotation)
+            return 0;
+        } else if (!tile.hasTreasure()) {
+            // Cas C : Tuile couloir vide
+            correction = 0;
+        } else {
+            // Cas D : Fallback pour les formes T et L génériques
+            if (tile.getShape() == Tile.Shape.T) correction = tile.isFixed() ? 270.0 : 180.0;
+            if (tile.getShape() == Tile.Shape.L) correction = 180.0;
+        }
+        return rotationLogique + correction;
+    }
+}
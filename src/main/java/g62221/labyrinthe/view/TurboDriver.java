@@ -0,0 +1,124 @@
+package g62221.labyrinthe.view;
+
+import g62221.labyrinthe.model.Game;
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+import javafx.animation.AnimationTimer;
+
+/**
+ * Fast-forward driver for bot-only games (spectator "turbo" speed).
+ * <p>
+ * At every JavaFX pulse, bot turns are played back to back for a fixed time budget, without the
+ * artificial thinking pause, the slide animation or the slide sound. The board is then redrawn at most
+ * {@value #MAX_FPS} times per second: the intermediate states played in between are never displayed.
+ * </p>
+ * <p>
+ * The driver stops by itself when the game is over, or as soon as a human player must play
+ * (the view then goes back to the normal pacing).
+ * </p>
+ */
+public class TurboDriver extends AnimationTimer {
+
+    /** Maximum number of board redraws per second in turbo mode. */
+    public static final int MAX_FPS = 30;
+
+    // Temps de calcul accordé aux bots par frame : le reste de la frame sert au rendu
+    private static final long TURN_BUDGET_NS = 10_000_000L;
+    private static final long FRAME_INTERVAL_NS = 1_000_000_000L / MAX_FPS;
+
+    private final LabyrinthFacade facade;
+    private final Runnable renderFrame;
+    private final Runnable onStopped;
+
+    private boolean running = false;
+    private long lastFrame = 0;
+    private long turnsPlayed = 0;
+    private long lastTurnNanos = 0;
+
+    /**
+     * Constructs a turbo driver.
+     *
+     * @param facade      The game facade.
+     * @param renderFrame Full redraw of the game screen (called at a capped rate).
+     * @param onStopped   Action run when the driver stops by itself (game over or human turn).
+     */
+    public TurboDriver(LabyrinthFacade facade, Runnable renderFrame, Runnable onStopped) {
+        this.facade = facade;
+        this.renderFrame = renderFrame;
+        this.onStopped = onStopped;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        lastFrame = 0;
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        super.stop();
+    }
+
+    /**
+     * Checks if the driver is currently playing the game.
+     *
+     * @return true between {@link #start()} and {@link #stop()}.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Gets the number of bot turns played in turbo mode since the creation of the driver.
+     *
+     * @return The number of turns.
+     */
+    public long getTurnsPlayed() {
+        return turnsPlayed;
+    }
+
+    /**
+     * Gets the duration of the last bot turn played in turbo mode.
+     *
+     * @return The duration in nanoseconds (0 before the first turn).
+     */
+    public long getLastTurnNanos() {
+        return lastTurnNanos;
+    }
+
+    /**
+     * Plays as many bot turns as the budget allows, then redraws if the frame cap permits it.
+     *
+     * @param now The timestamp of the current frame in nanoseconds.
+     */
+    @Override
+    public void handle(long now) {
+        // 1. Tours de bots enchaînés, sans pause ni animation
+        long deadline = System.nanoTime() + TURN_BUDGET_NS;
+        while (canPlay() && System.nanoTime() < deadline) {
+            long start = System.nanoTime();
+            facade.playBot();
+            lastTurnNanos = System.nanoTime() - start;
+            turnsPlayed++;
+        }
+
+        // 2. Fin (victoire ou tour humain) : dernière image puis retour au rythme normal
+        if (!canPlay()) {
+            stop();
+            renderFrame.run();
+            onStopped.run();
+            return;
+        }
+
+        // 3. Rendu plafonné : les états intermédiaires sont simplement sautés
+        if (now - lastFrame >= FRAME_INTERVAL_NS) {
+            lastFrame = now;
+            renderFrame.run();
+        }
+    }
+
+    private boolean canPlay() {
+        return facade.getGameState() != Game.State.GAME_OVER && facade.isCurrentPlayerBot();
+    }
+}
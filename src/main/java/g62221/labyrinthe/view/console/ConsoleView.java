@@ -173,12 +173,15 @@ public class ConsoleView {
      * </p>
      */
     private void displayBoardSimple() {
-        System.out.println("\n      0   1   2   3   4   5   6");
-        System.out.println("    ┌───┬───┬───┬───┬───┬───┬───┐");
+        int size = facade.getBoardSize();
+        StringBuilder header = new StringBuilder("\n    "); // Aligné sur la marge "%-4d" des lignes
+        for (int c = 0; c < size; c++) header.append(String.format("%3d ", c));
+        System.out.println(header);
+        System.out.println("    " + gridLine('┌', '┬', '┐', size));
 
-        for (int r = 0; r < 7; r++) {
-            System.out.print(r + "   │"); // Numéro de ligne à gauche
-            for (int c = 0; c < 7; c++) {
+        for (int r = 0; r < size; r++) {
+            System.out.print(String.format("%-4d│", r)); // Numéro de ligne à gauche
+            for (int c = 0; c < size; c++) {
                 Tile tile = facade.getTile(r, c);
                 String symbol = getTileSymbol(tile);
                 String content = " " + symbol + " ";
@@ -195,9 +198,26 @@ public class ConsoleView {
             }
             System.out.println();
             // Ligne de séparation entre les rangées
-            if (r < 6) System.out.println("    ├───┼───┼───┼───┼───┼───┼───┤");
+            if (r < size - 1) System.out.println("    " + gridLine('├', '┼', '┤', size));
         }
-        System.out.println("    └───┴───┴───┴───┴───┴───┴───┘");
+        System.out.println("    " + gridLine('└', '┴', '┘', size));
+    }
+
+    /**
+     * Builds a horizontal line of the ASCII grid.
+     *
+     * @param left   The left border character.
+     * @param middle The separator between two cells.
+     * @param right  The right border character.
+     * @param size   The number of cells.
+     * @return The line, e.g. "├───┼───┤".
+     */
+    private static String gridLine(char left, char middle, char right, int size) {
+        StringBuilder line = new StringBuilder().append(left);
+        for (int c = 0; c < size; c++) {
+            line.append("───").append(c < size - 1 ? middle : right);
+        }
+        return line.toString();
     }
 
     /**
@@ -1,14 +1,21 @@
 package g62221.labyrinthe.view.image;
 
+import g62221.labyrinthe.model.Board;
 import g62221.labyrinthe.model.Tile;
 import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
 import javafx.scene.image.WritableImage;
 import javafx.scene.paint.Color;
 
 import java.io.InputStream;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /**
  * Factory class responsible for loading and caching game images.
@@ -17,12 +24,26 @@ import java.util.Set;
  * each image file is loaded into memory only once, optimizing performance and memory usage.
  * It also handles the logic of mapping a {@link Tile} object to its corresponding file path.
  * </p>
+ * <p>
+ * The cache is thread-safe and stores one "ready" future per file: {@link #preloadAll(Executor)} decodes
+ * every image in parallel on background threads at startup, and {@link #getImage(Tile)} only decodes
+ * on the calling thread if the image was never requested before.
+ * </p>
  */
 public class ImageFactory {
 
-    // Cache memory: Key = File Path, Value = Loaded JavaFX Image
+    /** Resource path of the back of an objective card. */
+    public static final String CARD_BACK_PATH = "/back_card.jpg";
+
+    // Cache memory: Key = File Path, Value = Future of the loaded JavaFX Image (thread-safe)
     // C'est le cœur du Pattern Flyweight : on stocke les images chargées pour ne pas les recharger à chaque fois.
-    private static final Map<String, Image> cache = new HashMap<>();
+    private static final Map<String, CompletableFuture<Image>> cache = new ConcurrentHashMap<>();
+
+    // Cache des images pré-tournées : Key = chemin + "@" + nombre de quarts de tour
+    private static final Map<String, Image> rotatedCache = new ConcurrentHashMap<>();
+
+    // Une tuile représentative par fichier image du jeu (calculée une seule fois)
+    private static Map<String, Tile> representatives;
 
     // Fallback image displayed when a file is missing
     private static final Image ERROR_IMAGE;
@@ -59,24 +80,180 @@ public class ImageFactory {
         // 1. Détermination du chemin du fichier selon les propriétés de la tuile
         String path = determinePath(tile);
 
-        // 2. Vérification du cache (Optimisation mémoire)
-        if (!cache.containsKey(path)) {
-            try (InputStream is = ImageFactory.class.getResourceAsStream(path)) {
-                if (is != null) {
-                    // Chargement réussi -> Ajout au cache
-                    cache.put(path, new Image(is));
-                } else {
-                    // Fichier introuvable -> Log erreur et retour image rose
-                    System.err.println("Image introuvable : " + path);
-                    return ERROR_IMAGE;
+        // 2. Vérification du cache : si le préchargement est en cours, on attend son résultat
+        Image img = ready(path).join();
+        return (img != null) ? img : ERROR_IMAGE;
+    }
+
+    /**
+     * Retrieves the picture of a treasure alone (objective cards, inventories), without building a tile.
+     *
+     * @param treasure The treasure name (copies such as {@code goal_bat#2} share the original picture).
+     * @return The corresponding JavaFX Image, or a magenta square if loading fails.
+     */
+    public static Image getTreasureImage(String treasure) {
+        Image img = ready(treasurePath(designOf(treasure))).join();
+        return (img != null) ? img : ERROR_IMAGE;
+    }
+
+    /**
+     * Retrieves the back of an objective card.
+     *
+     * @return The card back image, or null if the file is missing.
+     */
+    public static Image getCardBack() {
+        return ready(CARD_BACK_PATH).join();
+    }
+
+    /**
+     * Gets the "ready" future of an image file.
+     * <p>
+     * If the file was never requested, it is decoded synchronously on the calling thread.
+     * </p>
+     *
+     * @param path The resource path of the image.
+     * @return A future completed with the image, or with null if the file is missing.
+     */
+    public static CompletableFuture<Image> ready(String path) {
+        return cache.computeIfAbsent(path, p -> CompletableFuture.completedFuture(load(p)));
+    }
+
+    /**
+     * Starts decoding every tile image (and the card back) in parallel.
+     * <p>
+     * Files already requested are not decoded twice: their existing future is reused.
+     * </p>
+     *
+     * @param executor The background threads doing the decoding.
+     * @return A future completed when all the images are in the cache.
+     */
+    public static CompletableFuture<Void> preloadAll(Executor executor) {
+        CompletableFuture<?>[] loads = new CompletableFuture<?>[representativeTiles().size() + 1];
+        int i = 0;
+        for (String path : representativeTiles().keySet()) {
+            loads[i++] = cache.computeIfAbsent(path, p -> CompletableFuture.supplyAsync(() -> load(p), executor));
+        }
+        loads[i] = cache.computeIfAbsent(CARD_BACK_PATH, p -> CompletableFuture.supplyAsync(() -> load(p), executor));
+        return CompletableFuture.allOf(loads);
+    }
+
+    /**
+     * Decodes an image file from the resources.
+     *
+     * @param path The resource path of the image.
+     * @return The decoded image, or null if the file is missing or unreadable.
+     */
+    private static Image load(String path) {
+        try (InputStream is = ImageFactory.class.getResourceAsStream(path)) {
+            if (is != null) {
+                // Chargement réussi (décodage complet, pas en arrière-plan JavaFX)
+                return new Image(is);
+            }
+            // Fichier introuvable -> Log erreur (l'appelant affichera l'image rose)
+            System.err.println("Image introuvable : " + path);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * Lists one representative tile per image file used by the board.
+     * <p>
+     * A freshly generated {@link Board} contains every kind of tile (corners, fixed treasures,
+     * mobile treasures, corridors): it is scanned once and the result is cached.
+     * </p>
+     *
+     * @return An unmodifiable map: image path -> a tile drawn with this image.
+     */
+    static synchronized Map<String, Tile> representativeTiles() {
+        if (representatives == null) {
+            Board board = new Board();
+            Map<String, Tile> found = new LinkedHashMap<>();
+            for (int r = 0; r < 7; r++) {
+                for (int c = 0; c < 7; c++) {
+                    Tile t = board.getTile(r, c);
+                    found.putIfAbsent(determinePath(t), t);
                 }
-            } catch (Exception e) {
-                e.printStackTrace();
-                return ERROR_IMAGE;
             }
+            Tile extra = board.getExtraTile();
+            found.putIfAbsent(determinePath(extra), extra);
+            representatives = Collections.unmodifiableMap(found);
         }
-        // Retourne l'image stockée en mémoire
-        return cache.get(path);
+        return representatives;
+    }
+
+    /**
+     * Retrieves the image of a tile already rotated by the given angle.
+     * <p>
+     * The rotated pixels are computed once per (image, quarter turn) and cached, so renderers
+     * can draw the tile without any runtime transform.
+     * </p>
+     *
+     * @param tile    The tile model to visualize.
+     * @param degrees The clockwise rotation to bake into the image (multiple of 90).
+     * @return The rotated JavaFX Image.
+     */
+    public static Image getRotatedImage(Tile tile, double degrees) {
+        Image base = getImage(tile);
+        int quarterTurns = Math.floorMod((int) Math.round(degrees / 90.0), 4);
+        if (quarterTurns == 0 || base == ERROR_IMAGE) return base;
+
+        String key = determinePath(tile) + "@" + quarterTurns;
+        return rotatedCache.computeIfAbsent(key, k -> rotate(base, quarterTurns));
+    }
+
+    /**
+     * Rotates the pixels of an image clockwise by a number of quarter turns.
+     *
+     * @param src          The source image (must be fully loaded).
+     * @param quarterTurns The number of 90° clockwise turns (1 to 3).
+     * @return A new image containing the rotated pixels.
+     */
+    static Image rotate(Image src, int quarterTurns) {
+        PixelReader reader = src.getPixelReader();
+        if (reader == null) return src; // Image pas encore chargée : on renvoie l'originale
+
+        int w = (int) src.getWidth();
+        int h = (int) src.getHeight();
+        int[] in = new int[w * h];
+        reader.getPixels(0, 0, w, h, PixelFormat.getIntArgbInstance(), in, 0, w);
+
+        // Les quarts de tour impairs échangent largeur et hauteur
+        boolean swap = (quarterTurns % 2 == 1);
+        int outW = swap ? h : w;
+        int outH = swap ? w : h;
+        int[] out = new int[w * h];
+
+        for (int y = 0; y < h; y++) {
+            for (int x = 0; x < w; x++) {
+                int nx;
+                int ny;
+                switch (quarterTurns) {
+                    case 1 -> { nx = h - 1 - y; ny = x; }         // 90° horaire
+                    case 2 -> { nx = w - 1 - x; ny = h - 1 - y; } // 180°
+                    default -> { nx = y; ny = w - 1 - x; }        // 270° horaire
+                }
+                out[ny * outW + nx] = in[y * w + x];
+            }
+        }
+
+        WritableImage rotated = new WritableImage(outW, outH);
+        rotated.getPixelWriter().setPixels(0, 0, outW, outH, PixelFormat.getIntArgbInstance(), out, 0, outW);
+        return rotated;
+    }
+
+    /**
+     * Gets the design of a treasure: on large boards the copies of a treasure ({@code goal_bat#2})
+     * share the image of the original one.
+     *
+     * @param treasure The treasure name, or null.
+     * @return The name without its copy suffix, or null.
+     */
+    public static String designOf(String treasure) {
+        if (treasure == null) return null;
+        int suffix = treasure.indexOf('#');
+        return (suffix < 0) ? treasure : treasure.substring(0, suffix);
     }
 
     /**
@@ -89,10 +266,10 @@ public class ImageFactory {
      * @param tile The tile to analyze.
      * @return The relative string path to the image resource.
      */
-    private static String determinePath(Tile tile) {
+    static String determinePath(Tile tile) {
         // CAS 1 : La tuile possède un dessin spécifique (Trésor ou départ)
         if (tile.getTreasure() != null) {
-            String name = tile.getTreasure();
+            String name = designOf(tile.getTreasure());
 
             // A. Tuiles de coins (Corners)
             if (name.startsWith("fixed_tile")) {
@@ -100,17 +277,7 @@ public class ImageFactory {
             }
 
             // B. Trésors
-            // On s'assure que le nom commence bien par "goal_" pour matcher les fichiers
-            String filename = name.startsWith("goal_") ? name : "goal_" + name;
-
-            // VÉRIFICATION : Est-ce un trésor fixe ou mobile ?
-            // Cela change le dossier de destination.
-            if (FIXED_TREASURES_FILES.contains(filename)) {
-                return "/Fixed_tiles/" + filename + ".jpg";
-            } else {
-                // Trésor mobile -> Dossier racine
-                return "/" + filename + ".jpg";
-            }
+            return treasurePath(name);
         }
 
         // CAS 2 : Tuiles couloirs simples (I ou L sans trésor)
@@ -121,4 +288,24 @@ public class ImageFactory {
             default -> "/I_tiles/I_Shape.jpg";
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Determines the resource path of a treasure picture.
+     *
+     * @param name The treasure design (without copy suffix).
+     * @return The relative string path to the image resource.
+     */
+    private static String treasurePath(String name) {
+        // On s'assure que le nom commence bien par "goal_" pour matcher les fichiers
+        String filename = name.startsWith("goal_") ? name : "goal_" + name;
+
+        // VÉRIFICATION : Est-ce un trésor fixe ou mobile ?
+        // Cela change le dossier de destination.
+        if (FIXED_TREASURES_FILES.contains(filename)) {
+            return "/Fixed_tiles/" + filename + ".jpg";
+        } else {
+            // Trésor mobile -> Dossier racine
+            return "/" + filename + ".jpg";
+        }
+    }
+}
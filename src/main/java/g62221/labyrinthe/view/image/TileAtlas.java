@@ -0,0 +1,239 @@
+package g62221.labyrinthe.view.image;
+
+import g62221.labyrinthe.model.Tile;
+import g62221.labyrinthe.view.TileView;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Texture atlas holding every tile image pre-rendered in its four on-screen orientations.
+ * <p>
+ * The atlas is one single image built in the background at startup. For each tile image it contains
+ * four {@value #CELL}x{@value #CELL} cells, already rotated with the visual corrections of
+ * {@link TileView#visualRotation(Tile)} baked in. Renderers then only select a sub-image
+ * (an {@code ImageView} viewport or a {@code drawImage} source rectangle): no rotation at draw time
+ * and no correction lookup per frame.
+ * </p>
+ */
+public final class TileAtlas {
+
+    /** Size in pixels of one pre-rendered tile. */
+    public static final int CELL = 100;
+
+    // Nombre d'images par ligne de l'atlas (chaque image occupe 4 cellules : une par orientation)
+    private static final int ENTRIES_PER_ROW = 4;
+
+    private static volatile TileAtlas instance;
+    private static CompletableFuture<TileAtlas> building;
+
+    private final Image image;
+    private final Map<String, Integer> entryByPath;
+    private final int[][] orientations;   // [entrée][rotation logique / 90] -> orientation finale (quart de tour)
+    private final Rectangle2D[] viewports; // [entrée * 4 + orientation finale]
+
+    private TileAtlas(Image image, Map<String, Integer> entryByPath, int[][] orientations, Rectangle2D[] viewports) {
+        this.image = image;
+        this.entryByPath = entryByPath;
+        this.orientations = orientations;
+        this.viewports = viewports;
+    }
+
+    /**
+     * Starts building the atlas on a background thread (only once).
+     *
+     * @return A future completed with the atlas when it is ready.
+     */
+    public static CompletableFuture<TileAtlas> buildAsync() {
+        return buildAsync(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Starts building the atlas on the given executor (only once: later calls return the same future).
+     *
+     * @param executor The background threads building the atlas.
+     * @return A future completed with the atlas when it is ready.
+     */
+    public static synchronized CompletableFuture<TileAtlas> buildAsync(Executor executor) {
+        if (building == null) {
+            building = CompletableFuture.supplyAsync(() -> {
+                // Publication avant la complétion : les actions chaînées voient déjà l'atlas
+                TileAtlas atlas = build();
+                instance = atlas;
+                return atlas;
+            }, executor);
+        }
+        return building;
+    }
+
+    /**
+     * Gets the atlas if the background build has completed.
+     *
+     * @return The atlas, or null if it is not ready yet (renderers must then use {@link ImageFactory}).
+     */
+    public static TileAtlas getIfReady() {
+        return instance;
+    }
+
+    /**
+     * Builds the atlas synchronously.
+     * <p>
+     * The list of images comes from {@link ImageFactory#representativeTiles()}, and their pixels from the
+     * images {@link ImageFactory} has decoded: each file is decoded once at startup.
+     * </p>
+     *
+     * @return The complete atlas.
+     */
+    static TileAtlas build() {
+        // 1. Une tuile représentative par image distincte
+        Map<String, Tile> representatives = ImageFactory.representativeTiles();
+
+        int nbEntries = representatives.size();
+        int atlasW = ENTRIES_PER_ROW * 4 * CELL;
+        int atlasH = ((nbEntries + ENTRIES_PER_ROW - 1) / ENTRIES_PER_ROW) * CELL;
+        int[] pixels = new int[atlasW * atlasH];
+
+        Map<String, Integer> entryByPath = new HashMap<>();
+        int[][] orientations = new int[nbEntries][4];
+        Rectangle2D[] viewports = new Rectangle2D[nbEntries * 4];
+        int[] source = new int[CELL * CELL];
+
+        int entry = 0;
+        for (Map.Entry<String, Tile> e : representatives.entrySet()) {
+            Tile t = e.getValue();
+            entryByPath.put(e.getKey(), entry);
+
+            // 2. Table d'orientation : rotation logique -> orientation affichée (corrections incluses)
+            for (int k = 0; k < 4; k++) {
+                Tile rotated = t.withRotation(k * 90);
+                orientations[entry][k] = Math.floorMod((int) Math.round(TileView.visualRotation(rotated) / 90.0), 4);
+            }
+
+            // 3. Pixels de l'image déjà décodée par ImageFactory (redimensionnés) et copie des 4 orientations
+            loadPixels(e.getKey(), source);
+            int baseX = (entry % ENTRIES_PER_ROW) * 4 * CELL;
+            int baseY = (entry / ENTRIES_PER_ROW) * CELL;
+            for (int q = 0; q < 4; q++) {
+                int cellX = baseX + q * CELL;
+                blitRotated(source, q, pixels, atlasW, cellX, baseY);
+                viewports[entry * 4 + q] = new Rectangle2D(cellX, baseY, CELL, CELL);
+            }
+            entry++;
+        }
+
+        // 4. Une seule image pour tout l'atlas
+        WritableImage atlasImage = new WritableImage(atlasW, atlasH);
+        atlasImage.getPixelWriter().setPixels(0, 0, atlasW, atlasH, PixelFormat.getIntArgbInstance(), pixels, 0, atlasW);
+        return new TileAtlas(atlasImage, entryByPath, orientations, viewports);
+    }
+
+    /**
+     * Reads the image of a tile, as decoded by {@link ImageFactory} (waiting for its preload if it is in
+     * progress), scaled to {@value #CELL} pixels into an ARGB buffer.
+     * A missing image is filled with magenta, like {@link ImageFactory}.
+     */
+    private static void loadPixels(String path, int[] target) {
+        Image img = ImageFactory.ready(path).join();
+        PixelReader reader = (img != null && !img.isError()) ? img.getPixelReader() : null;
+        if (reader == null) {
+            Arrays.fill(target, 0xFFFF00FF);
+            return;
+        }
+        int w = (int) img.getWidth();
+        int h = (int) img.getHeight();
+        if (w == CELL && h == CELL) {
+            reader.getPixels(0, 0, CELL, CELL, PixelFormat.getIntArgbInstance(), target, 0, CELL);
+            return;
+        }
+        int[] full = new int[w * h];
+        reader.getPixels(0, 0, w, h, PixelFormat.getIntArgbInstance(), full, 0, w);
+        scale(full, w, h, target);
+    }
+
+    /**
+     * Scales an ARGB buffer to {@value #CELL}x{@value #CELL} pixels, each target pixel being the mean of the
+     * source pixels it covers (the source images are larger than the cells).
+     */
+    private static void scale(int[] src, int w, int h, int[] dst) {
+        for (int y = 0; y < CELL; y++) {
+            int y0 = y * h / CELL;
+            int y1 = Math.max(y0 + 1, (y + 1) * h / CELL);
+            for (int x = 0; x < CELL; x++) {
+                int x0 = x * w / CELL;
+                int x1 = Math.max(x0 + 1, (x + 1) * w / CELL);
+                long a = 0, r = 0, g = 0, b = 0;
+                for (int sy = y0; sy < y1; sy++) {
+                    for (int sx = x0; sx < x1; sx++) {
+                        int p = src[sy * w + sx];
+                        a += p >>> 24;
+                        r += (p >>> 16) & 0xFF;
+                        g += (p >>> 8) & 0xFF;
+                        b += p & 0xFF;
+                    }
+                }
+                int n = (y1 - y0) * (x1 - x0);
+                dst[y * CELL + x] = (int) ((a / n) << 24 | (r / n) << 16 | (g / n) << 8 | (b / n));
+            }
+        }
+    }
+
+    /**
+     * Copies a square ARGB buffer into the atlas, rotated clockwise by a number of quarter turns.
+     */
+    private static void blitRotated(int[] src, int quarterTurns, int[] dst, int dstWidth, int dstX, int dstY) {
+        for (int y = 0; y < CELL; y++) {
+            for (int x = 0; x < CELL; x++) {
+                int nx;
+                int ny;
+                switch (quarterTurns) {
+                    case 0 -> { nx = x; ny = y; }
+                    case 1 -> { nx = CELL - 1 - y; ny = x; }
+                    case 2 -> { nx = CELL - 1 - x; ny = CELL - 1 - y; }
+                    default -> { nx = y; ny = CELL - 1 - x; }
+                }
+                dst[(dstY + ny) * dstWidth + dstX + nx] = src[y * CELL + x];
+            }
+        }
+    }
+
+    /**
+     * Gets the atlas image (to be used with a viewport or a source rectangle).
+     *
+     * @return The image containing all the pre-rendered tiles.
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * Finds the atlas entry of a tile. Meant to be called only when a cell shows a different tile.
+     *
+     * @param tile The tile to draw.
+     * @return The entry index, or -1 if the image of this tile is not in the atlas.
+     */
+    public int entryOf(Tile tile) {
+        Integer entry = entryByPath.get(ImageFactory.determinePath(tile));
+        return (entry != null) ? entry : -1;
+    }
+
+    /**
+     * Gets the sub-image showing a tile entry with a given logical rotation.
+     *
+     * @param entry    The entry index (see {@link #entryOf(Tile)}).
+     * @param rotation The logical rotation of the tile in degrees (0, 90, 180, 270).
+     * @return The region of the atlas to draw.
+     */
+    public Rectangle2D viewport(int entry, int rotation) {
+        int finalOrientation = orientations[entry][(rotation / 90) & 3];
+        return viewports[entry * 4 + finalOrientation];
+    }
+}
@@ -5,23 +5,53 @@ import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 
 import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class SoundManager {
-    private MediaPlayer musicPlayer;
-    private AudioClip clickSound;
-    private AudioClip slideSound;
-    private boolean isMuted = false;
+    // Écrits par le thread de chargement, lus par le thread JavaFX
+    private volatile MediaPlayer musicPlayer;
+    private volatile AudioClip clickSound;
+    private volatile AudioClip slideSound;
+    private volatile boolean isMuted = false;
+    private volatile double musicVolume = 0.3; // Volume musique doux (30%)
 
+    private CompletableFuture<Void> ready;
+
+    /**
+     * Creates the sound manager without decoding anything.
+     * The audio files are loaded by {@link #loadAsync(Executor)}, off the path to the first frame.
+     */
     public SoundManager() {
+    }
+
+    /**
+     * Decodes the music on a background thread, then starts it (only once).
+     * Until then, every method of this class is a silent no-op.
+     *
+     * @param executor The background threads doing the decoding.
+     * @return A future completed when the audio is ready.
+     */
+    public synchronized CompletableFuture<Void> loadAsync(Executor executor) {
+        if (ready == null) {
+            ready = CompletableFuture.runAsync(this::load, executor);
+        }
+        return ready;
+    }
+
+    private void load() {
         try {
             // Chargement de la musique (MediaPlayer pour les fichiers longs/boucle)
             URL musicUrl = getClass().getResource("/sounds/music.mp3");
             if (musicUrl != null) {
                 Media media = new Media(musicUrl.toExternalForm());
-                musicPlayer = new MediaPlayer(media);
-                musicPlayer.setCycleCount(MediaPlayer.INDEFINITE); // Boucle infinie
-                musicPlayer.setVolume(0.3); // Volume musique doux (30%)
-                musicPlayer.play();
+                MediaPlayer player = new MediaPlayer(media);
+                player.setCycleCount(MediaPlayer.INDEFINITE); // Boucle infinie
+                // Réglages faits pendant le chargement (slider, mute) appliqués avant la lecture
+                player.setVolume(musicVolume);
+                player.setMute(isMuted);
+                musicPlayer = player;
+                player.play();
             }
 
         } catch (Exception e) {
@@ -53,6 +83,7 @@ public class SoundManager {
         return isMuted;
     }
     public void setMusicVolume(double volume) {
+        musicVolume = volume;
         if (musicPlayer != null) {
             musicPlayer.setVolume(volume);
         }
@@ -62,6 +93,6 @@ public class SoundManager {
      * Récupère le volume actuel (utile pour initialiser le slider).
      */
     public double getMusicVolume() {
-        return musicPlayer != null ? musicPlayer.getVolume() : 0.3;
+        return musicPlayer != null ? musicPlayer.getVolume() : musicVolume;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,77 @@
+import g62221.labyrinthe.model.*;
+import g62221.labyrinthe.model.ai.BatchReachability;
+import g62221.labyrinthe.model.ai.PackedBoard;
+import g62221.labyrinthe.model.ai.ReachabilityEngine;
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+class BatchReachabilityTest {
+
+    private static final int BOARDS = 150;
+
+    @Test
+    void testBatchMatchesTheEngine() {
+        PackedBoard[] boards = randomBoards(9, BOARDS);
+        int[] starts = new int[BOARDS];
+        Random random = new Random(5);
+        for (int b = 0; b < BOARDS; b++) starts[b] = random.nextInt(81);
+
+        BatchReachability batch = new BatchReachability(9, BOARDS);
+        check(batch, boards, starts);
+        check(batch, boards, new int[BOARDS]); // Réutilisé : rien ne reste du lot précédent
+    }
+
+    @Test
+    void testBatchRejectsMixedSizes() {
+        PackedBoard[] boards = {randomBoards(7, 1)[0], randomBoards(9, 1)[0]};
+        BatchReachability batch = new BatchReachability(9, 2);
+        assertThrows(IllegalArgumentException.class, () -> batch.compute(boards, 2, new int[]{0, 0}));
+    }
+
+    @Test
+    void testBatchCanBeReusedWithSmallerBoards() {
+        // Les drapeaux laissés par les grands plateaux ne doivent rien compter pour les petits
+        BatchReachability batch = new BatchReachability(9, BOARDS);
+        int[] starts = new int[BOARDS];
+        batch.compute(randomBoards(9, BOARDS), BOARDS, starts);
+
+        PackedBoard[] small = randomBoards(7, 3);
+        ReachabilityEngine engine = new ReachabilityEngine(7);
+        batch.compute(small, 3, starts);
+        assertEquals(3, batch.count());
+        for (int b = 0; b < 3; b++) {
+            assertEquals(engine.explore(small[b], 0), batch.reachedCount(b), "Plateau " + b);
+        }
+    }
+
+    private void check(BatchReachability batch, PackedBoard[] boards, int[] starts) {
+        ReachabilityEngine engine = new ReachabilityEngine(9);
+        batch.compute(boards, BOARDS, starts);
+        for (int b = 0; b < BOARDS; b++) {
+            int reached = engine.explore(boards[b], starts[b]);
+            assertEquals(reached, batch.reachedCount(b), "Plateau " + b);
+            for (int c = 0; c < 81; c++) {
+                assertEquals(engine.isReached(c), batch.isReached(b, c), "Plateau " + b + ", case " + c);
+            }
+        }
+    }
+
+    private PackedBoard[] randomBoards(int size, int count) {
+        // Positions variées : plateaux tirés au hasard puis quelques glissements
+        PackedBoard[] boards = new PackedBoard[count];
+        Random random = new Random(size);
+        for (int b = 0; b < count; b++) {
+            LabyrinthFacade facade = new LabyrinthFacade(size, new Random(b));
+            facade.startGame(2, false);
+            boards[b] = new PackedBoard(size);
+            boards[b].load(facade);
+            for (int k = 0; k < 3; k++) {
+                boards[b].slide(Direction.values()[random.nextInt(4)], 1 + 2 * random.nextInt(size / 2));
+            }
+        }
+        return boards;
+    }
+}
@@ -3,6 +3,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+
+import java.util.HashSet;
 import java.util.Set;
 
 class BoardTest {
@@ -53,4 +56,88 @@ class BoardTest {
             assertTrue(board.getReachablePositions(p).contains(start), "Le chemin doit être symétrique");
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testStandardBoardKeepsItsDeck() {
+        assertEquals(7, board.getSize());
+        assertArrayEquals(new int[]{1, 3, 5}, board.getMobileIndices());
+        assertEquals(24, board.getTreasures().size(), "Le plateau standard contient 24 trésors");
+        assertEquals("goal_keys", board.getTile(2, 2).getTreasure());
+        assertEquals("goal_candleholder", board.getTile(4, 6).getTreasure());
+    }
+
+    @Test
+    void testLargeBoardIsProportional() {
+        Board large = new Board(21);
+        assertEquals(21, large.getSize());
+        assertEquals(10, large.getMobileIndices().length);
+
+        int fixed = 0;
+        for (int r = 0; r < 21; r++) {
+            for (int c = 0; c < 21; c++) {
+                assertNotNull(large.getTile(r, c));
+                if (large.getTile(r, c).isFixed()) fixed++;
+            }
+        }
+        assertEquals(121, fixed, "Une case sur deux en ligne et en colonne est fixe");
+        assertEquals("fixed_tile_downright_corner", large.getTile(20, 20).getTreasure());
+
+        // Chaque trésor (copies comprises) est unique : les cartes objectifs restent sans ambiguïté
+        Set<String> names = new HashSet<>(large.getTreasures());
+        assertEquals(large.getTreasures().size(), names.size());
+        assertTrue(names.size() > 24);
+
+        // Le glissement d'une ligne parcourt toute la largeur
+        Tile last = large.getTile(19, 20);
+        large.slide(Direction.RIGHT, 19);
+        assertSame(last, large.getExtraTile());
+        assertThrows(IllegalArgumentException.class, () -> new Board(8), "La taille doit être impaire");
+    }
+
+    @Test
+    void testTilesAreSharedAndImmutable() {
+        Tile tile = board.getTile(1, 0);
+        Tile turned = tile.rotated();
+        assertNotSame(tile, turned);
+        assertEquals((tile.getRotation() + 90) % 360, turned.getRotation());
+        assertSame(tile, turned.rotatedCounterClockwise(), "Les 4 orientations d'une tuile sont partagées");
+        assertSame(tile, tile.withRotation(tile.getRotation() + 360));
+
+        // Tourner la tuile en main ne touche pas l'ancienne instance
+        Tile extra = board.getExtraTile();
+        int rotation = extra.getRotation();
+        board.rotateExtraTile(true);
+        assertEquals(rotation, extra.getRotation());
+        assertSame(extra.rotated(), board.getExtraTile());
+    }
+
+    @Test
+    void testCopiedBoardIsIndependent() {
+        Board copy = new Board(board);
+        for (int r = 0; r < 7; r++) {
+            for (int c = 0; c < 7; c++) assertSame(board.getTile(r, c), copy.getTile(r, c), "Tuiles partagées");
+        }
+
+        copy.rotateExtraTile(false);
+        copy.slide(Direction.DOWN, 3);
+        assertSame(copy.getTile(0, 3), board.getExtraTile().rotatedCounterClockwise());
+        assertNotSame(board.getTile(6, 3), board.getExtraTile(), "L'original ne bouge pas");
+        assertSame(board.getTile(6, 3), copy.getExtraTile());
+    }
+
+    @Test
+    void testBotsPlayOnLargeBoard() {
+        LabyrinthFacade facade = new LabyrinthFacade(21);
+        facade.startGame(4, false);
+        assertEquals(new Position(20, 20), facade.getPlayerStartPosition(1));
+
+        for (int turn = 0; turn < 40 && facade.getGameState() != Game.State.GAME_OVER; turn++) {
+            facade.playBot();
+            for (int p = 0; p < 4; p++) {
+                Position pos = facade.getPlayerPosition(p);
+                assertTrue(pos.row() >= 0 && pos.row() < 21 && pos.col() >= 0 && pos.col() < 21,
+                        "Les pions poussés hors du plateau réapparaissent de l'autre côté");
+            }
+        }
+    }
+}
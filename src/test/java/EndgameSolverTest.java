@@ -0,0 +1,59 @@
+import g62221.labyrinthe.model.*;
+import g62221.labyrinthe.model.ai.EndgameSolver;
+import g62221.labyrinthe.model.ai.HeuristicSearch;
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+class EndgameSolverTest {
+
+    @Test
+    void testNoProofWhileTreasuresRemain() {
+        LabyrinthFacade facade = new LabyrinthFacade(7, new Random(1));
+        facade.startGame(2, false);
+        assertNull(new EndgameSolver(7).solve(facade), "Le solveur ne traite que le retour au départ");
+    }
+
+    @Test
+    void testProofsHoldAgainstTheActualReplies() {
+        int proofs = 0;
+        int deepProofs = 0;
+        for (long seed = 1; seed <= 12; seed++) {
+            LabyrinthFacade facade = new LabyrinthFacade(7, new Random(seed));
+            facade.startGame(2, false);
+            EndgameSolver solver = new EndgameSolver(7);
+            int[] promised = {Integer.MAX_VALUE, Integer.MAX_VALUE}; // Tours promis par la dernière preuve
+
+            for (int turn = 0; turn < 400 && facade.getGameState() != Game.State.GAME_OVER; turn++) {
+                int player = facade.getCurrentPlayerIndex();
+                EndgameSolver.Result proof = solver.solve(facade);
+                if (proof == null) {
+                    assertTrue(promised[player] == Integer.MAX_VALUE, "Une preuve ne peut pas être perdue en route");
+                    facade.playBot();
+                    continue;
+                }
+
+                // Chaque nouvelle preuve tient la promesse de la précédente, quelle qu'ait été la réponse
+                assertTrue(proof.turns() <= promised[player], "Victoire promise en " + promised[player]);
+                proofs++;
+                if (proof.turns() > 1) deepProofs++;
+
+                HeuristicSearch.Move move = proof.move();
+                for (int i = 0; i < move.rotations(); i++) facade.rotateExtraTile();
+                assertTrue(facade.insertTile(move.direction(), move.index()));
+                facade.movePlayer(move.row(), move.col());
+                assertEquals(new Position(move.row(), move.col()), facade.getPlayerPosition(player));
+
+                if (proof.turns() == 1) {
+                    assertEquals(Game.State.GAME_OVER, facade.getGameState(), "Victoire en 1 : la partie est finie");
+                    assertEquals(player, facade.getWinnerId());
+                }
+                promised[player] = proof.turns() - 1;
+            }
+        }
+        assertTrue(proofs > 0, "Au moins une fin de partie doit être résolue");
+        assertTrue(deepProofs > 0, "Au moins une victoire en plusieurs tours doit être prouvée");
+    }
+}
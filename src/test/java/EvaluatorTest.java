@@ -0,0 +1,119 @@
+import g62221.labyrinthe.model.*;
+import g62221.labyrinthe.model.ai.Evaluator;
+import g62221.labyrinthe.model.ai.Feature;
+import g62221.labyrinthe.model.ai.HeuristicSearch;
+import g62221.labyrinthe.model.ai.PackedBoard;
+import g62221.labyrinthe.model.ai.ReachabilityEngine;
+import g62221.labyrinthe.model.ai.Weights;
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class EvaluatorTest {
+
+    private LabyrinthFacade facade;
+
+    @BeforeEach
+    void setUp() {
+        facade = new LabyrinthFacade();
+        facade.startGame(3);
+    }
+
+    @Test
+    void testPackedSlideMatchesBoard() {
+        PackedBoard root = new PackedBoard(7);
+        PackedBoard child = new PackedBoard(7);
+        ReachabilityEngine engine = new ReachabilityEngine(7);
+        root.load(facade);
+
+        for (Direction dir : Direction.values()) {
+            for (int index : facade.getMobileIndices()) {
+                child.copyFrom(root);
+                child.slide(dir, index);
+                assertTrue(facade.insertTile(dir, index));
+
+                // Même plateau, même tuile en main, mêmes pions, même région accessible
+                for (int r = 0; r < 7; r++) {
+                    for (int c = 0; c < 7; c++) {
+                        assertEquals(PackedBoard.maskOf(facade.getTile(r, c)), child.mask(r * 7 + c), dir + " " + index);
+                    }
+                }
+                assertEquals(PackedBoard.maskOf(facade.getExtraTile()), child.extraMask());
+                Position pos = facade.getPlayerPosition(0);
+                assertEquals(pos.row() * 7 + pos.col(), child.playerCell(0));
+                assertEquals(FacadeSupport.reachableOnFacade(facade, pos).size(), engine.explore(child, child.playerCell(0)));
+
+                facade.undo();
+            }
+        }
+    }
+
+    @Test
+    void testFeaturesAndWeights() {
+        PackedBoard board = new PackedBoard(7);
+        board.load(facade);
+        double[] features = new double[Feature.COUNT];
+        Evaluator evaluator = new Evaluator(Weights.DEFAULT, 7);
+        evaluator.features(board, 0, features);
+
+        assertEquals(facade.getPlayerCardsCount(0), features[Feature.CARDS_REMAINING.ordinal()]);
+        double area = features[Feature.REACHABLE_AREA.ordinal()];
+        assertTrue(area > 0 && area <= 1, "La case de départ est toujours accessible");
+        double blocking = features[Feature.BLOCKING_INSERTIONS.ordinal()];
+        assertTrue(blocking >= 0 && blocking <= 1);
+        assertEquals(Weights.DEFAULT.dot(features), evaluator.evaluate(board, 0), 1e-9);
+
+        // Un poids nul désactive le calcul de la caractéristique
+        Evaluator lazy = new Evaluator(Weights.DEFAULT.with(Feature.BLOCKING_INSERTIONS, 0), 7);
+        lazy.features(board, 0, features);
+        assertEquals(0, features[Feature.BLOCKING_INSERTIONS.ordinal()]);
+    }
+
+    @Test
+    void testRecordRoundTrip() {
+        PackedBoard original = new PackedBoard(7);
+        PackedBoard restored = new PackedBoard(7);
+        original.load(facade);
+        original.slide(Direction.DOWN, 3); // Règle anti-retour active
+        byte[] record = new byte[PackedBoard.recordSize(7) + 5];
+        original.writeTo(record, 5);
+        restored.readFrom(record, 5);
+
+        // Même position, et elle évolue pareil : trésors, objectifs et interdit sont restaurés
+        for (Direction dir : Direction.values()) {
+            for (int index : facade.getMobileIndices()) {
+                assertEquals(original.isForbidden(dir, index), restored.isForbidden(dir, index));
+            }
+        }
+        original.slide(Direction.RIGHT, 1);
+        restored.slide(Direction.RIGHT, 1);
+        assertEquals(original.size(), restored.size());
+        assertEquals(original.extraMask(), restored.extraMask());
+        for (int c = 0; c < original.cellCount(); c++) assertEquals(original.mask(c), restored.mask(c));
+        assertEquals(original.currentPlayer(), restored.currentPlayer());
+        for (int p = 0; p < original.playerCount(); p++) {
+            assertEquals(original.playerCell(p), restored.playerCell(p));
+            assertEquals(original.cards(p), restored.cards(p));
+            assertEquals(original.targetCell(p), restored.targetCell(p), "Objectif du joueur " + p);
+        }
+    }
+
+    @Test
+    void testSearchPlaysLegalTurns() {
+        HeuristicSearch search = new HeuristicSearch(Weights.DEFAULT, 7);
+        for (int turn = 0; turn < 12 && facade.getGameState() != Game.State.GAME_OVER; turn++) {
+            HeuristicSearch.Move move = search.bestMove(facade);
+            assertNotNull(move);
+            assertFalse(move.direction() == facade.getForbiddenDirection()
+                    && move.index() == facade.getForbiddenIndex(), "La règle anti-retour doit être respectée");
+
+            for (int i = 0; i < move.rotations(); i++) facade.rotateExtraTile();
+            assertTrue(facade.insertTile(move.direction(), move.index()));
+            int player = facade.getCurrentPlayerIndex();
+            facade.movePlayer(move.row(), move.col());
+            assertEquals(new Position(move.row(), move.col()), facade.getPlayerPosition(player),
+                    "La destination choisie doit être accessible");
+        }
+    }
+}
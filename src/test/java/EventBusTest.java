@@ -0,0 +1,68 @@
+import g62221.labyrinthe.model.*;
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+import g62221.labyrinthe.model.observer.EventBus;
+import g62221.labyrinthe.model.observer.GameEvent;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class EventBusTest {
+
+    @Test
+    void testSynchronousDeliveryByDefault() {
+        EventBus bus = new EventBus();
+        List<List<GameEvent>> batches = new ArrayList<>();
+        bus.subscribe(batches::add);
+
+        bus.publish(new GameEvent.StateRestored());
+        bus.publish(new GameEvent.GameOver(1));
+
+        // Sans dispatcher différé, chaque événement est livré tout de suite (lot de 1)
+        assertEquals(2, batches.size());
+        assertEquals(1, batches.get(0).size());
+    }
+
+    @Test
+    void testBurstIsCoalescedIntoOneBatch() {
+        EventBus bus = new EventBus();
+        List<Runnable> frames = new ArrayList<>();
+        bus.setDispatcher(frames::add); // Simule une boucle de rendu : on exécute à la main
+        List<List<GameEvent>> batches = new ArrayList<>();
+        bus.subscribe(batches::add);
+
+        bus.publish(new GameEvent.TileSlid(Direction.RIGHT, 1));
+        bus.publish(new GameEvent.PlayerMoved(0, new Position(6, 0), new Position(5, 0)));
+        bus.publish(new GameEvent.TurnChanged(1, Game.State.WAITING_FOR_SLIDE));
+
+        // Un seul flush planifié pour toute la rafale
+        assertEquals(1, frames.size());
+        assertTrue(batches.isEmpty(), "Rien ne doit être livré avant la frame");
+
+        frames.get(0).run();
+        assertEquals(1, batches.size());
+        assertEquals(3, batches.get(0).size());
+        assertEquals(new GameEvent.TileSlid(Direction.RIGHT, 1), batches.get(0).get(0));
+    }
+
+    @Test
+    void testBotSimulationsAreNotNotified() {
+        LabyrinthFacade facade = new LabyrinthFacade();
+        facade.startGame(2);
+
+        // Le joueur humain termine son tour sans bouger
+        assertTrue(facade.insertTile(Direction.RIGHT, 1));
+        Position pos = facade.getPlayerPosition(0);
+        facade.movePlayer(pos.row(), pos.col());
+        assertTrue(facade.isCurrentPlayerBot());
+
+        List<GameEvent> received = new ArrayList<>();
+        facade.addObserver(received::addAll);
+        facade.playBot();
+
+        // Les 12 insertions simulées sont invisibles : seul le coup réel est publié
+        long slides = received.stream().filter(e -> e instanceof GameEvent.TileSlid).count();
+        assertEquals(1, slides, "Une seule insertion doit être notifiée");
+    }
+}
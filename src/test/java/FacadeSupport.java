@@ -0,0 +1,96 @@
+import g62221.labyrinthe.model.*;
+import g62221.labyrinthe.model.command.TurnCommand;
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Helpers shared by the tests: random turns, the cell a player is heading for, and a reference flood fill
+ * on the tiles exposed by the facade.
+ */
+final class FacadeSupport {
+
+    private FacadeSupport() {
+    }
+
+    /**
+     * Draws a random insertion allowed by the anti-return rule: a random direction and line, turned into the
+     * opposite direction if forbidden.
+     *
+     * @param game   The game, waiting for an insertion.
+     * @param random The source of the draws.
+     * @return The turn, not executed yet.
+     */
+    static TurnCommand randomTurn(Game game, Random random) {
+        Direction dir = Direction.values()[random.nextInt(4)];
+        int index = 1 + 2 * random.nextInt(game.getBoard().getSize() / 2);
+        if (dir == game.getForbiddenDirection() && index == game.getForbiddenIndex()) dir = dir.opposite();
+        return new TurnCommand(game, dir, index);
+    }
+
+    /**
+     * Finds the cell a player is heading for: the tile of their current objective, or their start once every
+     * card is found.
+     *
+     * @param game   The game.
+     * @param player The index of the player.
+     * @return The cell, or null if the objective is on the extra tile.
+     */
+    static Position objectiveCell(Game game, int player) {
+        String objective = game.getPlayerCurrentObjective(player);
+        if (objective == null) return game.getPlayerStartPosition(player);
+        Board board = game.getBoard();
+        for (int r = 0; r < board.getSize(); r++) {
+            for (int c = 0; c < board.getSize(); c++) {
+                if (objective.equals(board.getTile(r, c).getTreasure())) return new Position(r, c);
+            }
+        }
+        return null; // Sur la tuile en main
+    }
+
+    /**
+     * Finds the cell a player is heading for, read from the facade.
+     *
+     * @param facade The facade of the game.
+     * @param player The index of the player.
+     * @return The cell, or null if the objective is on the extra tile.
+     */
+    static Position objectiveCell(LabyrinthFacade facade, int player) {
+        String objective = facade.getPlayerCurrentObjective(player);
+        if (objective == null) return facade.getPlayerStartPosition(player);
+        int size = facade.getBoardSize();
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                if (objective.equals(facade.getTile(r, c).getTreasure())) return new Position(r, c);
+            }
+        }
+        return null; // Sur la tuile en main
+    }
+
+    /**
+     * Reference flood fill on the tiles of the model (same rule as {@code Board.getReachablePositions}).
+     *
+     * @param facade The facade of the game.
+     * @param pos    The starting cell.
+     * @return The reachable cells, the start included.
+     */
+    static Set<Position> reachableOnFacade(LabyrinthFacade facade, Position pos) {
+        int size = facade.getBoardSize();
+        Set<Position> seen = new HashSet<>();
+        ArrayDeque<Position> queue = new ArrayDeque<>();
+        seen.add(pos);
+        queue.add(pos);
+        while (!queue.isEmpty()) {
+            Position p = queue.poll();
+            for (Direction d : facade.getTile(p.row(), p.col()).getConnectors()) {
+                Position n = p.next(d);
+                if (n.row() < 0 || n.row() >= size || n.col() < 0 || n.col() >= size) continue;
+                if (facade.getTile(n.row(), n.col()).getConnectors().contains(d.opposite()) && seen.add(n)) queue.add(n);
+            }
+        }
+        return seen;
+    }
+}
@@ -0,0 +1,60 @@
+import g62221.labyrinthe.model.*;
+import g62221.labyrinthe.model.actor.GameActor;
+import g62221.labyrinthe.model.actor.GameSnapshot;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+class GameActorTest {
+
+    @Test
+    void testSnapshotIsPublishedAfterEachMessage() {
+        GameActor actor = new GameActor(Runnable::run);
+        actor.startGame(2, true).join();
+
+        GameSnapshot before = actor.snapshot();
+        assertEquals(Game.State.WAITING_FOR_SLIDE, before.state());
+        assertTrue(actor.insertTile(Direction.RIGHT, 1).join());
+
+        GameSnapshot after = actor.snapshot();
+        assertEquals(Game.State.WAITING_FOR_MOVE, after.state());
+        assertEquals(before.version() + 1, after.version());
+        // L'ancien snapshot est immuable : il décrit toujours l'état d'avant
+        assertEquals(Game.State.WAITING_FOR_SLIDE, before.state());
+        // Les lignes non glissées réutilisent les mêmes cellules
+        assertSame(before.cell(0, 0), after.cell(0, 0));
+    }
+
+    @Test
+    void testConcurrentWritersAreSerialized() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            GameActor actor = new GameActor(pool);
+            actor.startGame(4, false).join();
+            long start = actor.snapshot().version();
+            int rotation = actor.snapshot().extraTile().rotation();
+
+            // 4 threads envoient chacun 50 rotations en même temps
+            int perThread = 50;
+            CompletableFuture<?>[] senders = new CompletableFuture<?>[4];
+            for (int t = 0; t < senders.length; t++) {
+                senders[t] = CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < perThread; i++) actor.rotateExtraTile();
+                }, pool);
+            }
+            CompletableFuture.allOf(senders).join();
+
+            // Un message final : quand il est traité, tous les précédents le sont aussi (ordre FIFO)
+            actor.tell(f -> { }).join();
+            GameSnapshot end = actor.snapshot();
+            assertEquals(start + 4 * perThread + 1, end.version(), "Aucun message perdu");
+            // 200 quarts de tour : un message perdu ou rejoué laisserait la tuile tournée
+            assertEquals(rotation, end.extraTile().rotation(), "Aucune rotation perdue ni dupliquée");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+import g62221.labyrinthe.model.*;
+import g62221.labyrinthe.model.actor.GameActor;
+import g62221.labyrinthe.model.actor.GameSnapshot;
+import g62221.labyrinthe.server.DeltaDecoder;
+import g62221.labyrinthe.server.DeltaEncoder;
+import g62221.labyrinthe.server.GameSession;
+import g62221.labyrinthe.metrics.LatencyHistogram;
+import g62221.labyrinthe.server.ProtocolHandler;
+import g62221.labyrinthe.server.ServerMetrics;
+import g62221.labyrinthe.server.SessionRegistry;
+import g62221.labyrinthe.server.SpectatorBroadcaster;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+class GameServerTest {
+
+    private final SessionRegistry registry = new SessionRegistry(Runnable::run);
+    private final ServerMetrics metrics = new ServerMetrics();
+
+    private ProtocolHandler newClient() {
+        // Exécuteur synchrone : les messages des parties (tours de bots compris) s'exécutent dans le thread du test
+        return new ProtocolHandler(registry, metrics);
+    }
+
+    @Test
+    void testHumanTurnThenBotsReply() {
+        ProtocolHandler client = newClient();
+        assertTrue(client.handle("NEW 2").startsWith("OK "));
+        assertEquals(1, registry.size());
+
+        assertEquals("OK", client.handle("INSERT RIGHT 1"));
+        // Rester sur place est toujours un déplacement valide
+        String state = client.handle("STATE");
+        String position = state.substring(state.indexOf("players=") + 8).split(",")[0];
+        String[] rc = position.split(":");
+        assertEquals("OK 1", client.handle("MOVE " + rc[0] + " " + rc[1]), "Le bot doit répondre par un tour");
+
+        assertTrue(client.handle("STATE").contains("current=0"), "La main doit revenir au joueur humain");
+        assertEquals(2, metrics.getMovesPlayed());
+    }
+
+    @Test
+    void testErrorsAreReportedWithoutClosing() {
+        ProtocolHandler client = newClient();
+        assertTrue(client.handle("STATE").startsWith("ERR"), "Pas de partie avant NEW");
+        client.handle("NEW 3");
+        assertTrue(client.handle("MOVE 0 0").startsWith("ERR"), "Il faut d'abord insérer");
+        assertTrue(client.handle("INSERT RIGHT").startsWith("ERR"));
+        assertTrue(client.handle("FLY").startsWith("ERR"));
+        assertFalse(client.isClosed());
+
+        assertEquals("BYE", client.handle("QUIT"));
+        assertTrue(client.isClosed());
+        assertEquals(0, registry.size(), "La partie est libérée à la déconnexion");
+    }
+
+    @Test
+    void testBotOnlySessionsArePlayedAtOnce() {
+        ProtocolHandler client = newClient();
+        client.handle("NEW 4 BOTS");
+        String state = client.handle("STATE");
+        // Joués d'un coup : la partie est finie, ou la limite de tours de bots est atteinte
+        assertTrue(state.contains("state=GAME_OVER") || metrics.getMovesPlayed() == GameSession.MAX_BOT_TURNS, state);
+        assertEquals(1, metrics.getSessionsCreated());
+    }
+
+    @Test
+    void testHistogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) histogram.record(i * 1000L);
+
+        assertEquals(1000, histogram.count());
+        long p99 = histogram.percentile(99);
+        // Précision des seaux logarithmiques : 12,5 %
+        assertTrue(p99 >= 990_000 && p99 <= 990_000 * 1.125, "p99 = " + p99);
+    }
+
+    @Test
+    void testSnapshotLatencyCoversOnlyItsWindow() {
+        for (int i = 0; i < 1000; i++) metrics.recordMoveLatency(1_000_000L);
+        assertTrue(metrics.snapshot(0).p99MoveMillis() < 1.2);
+
+        // Un pic récent apparaît dans la fenêtre suivante, sans être dilué par l'historique
+        for (int i = 0; i < 10; i++) metrics.recordMoveLatency(50_000_000L);
+        assertTrue(metrics.snapshot(0).p99MoveMillis() > 40, "Le pic doit apparaître dans sa fenêtre");
+        assertEquals(0, metrics.snapshot(0).p99MoveMillis(), 1e-9, "Fenêtre vide");
+        assertEquals(1010, metrics.getMoveLatency().count(), "L'histogramme global garde tout");
+    }
+
+    @Test
+    void testDeltasRebuildTheGame() {
+        GameActor actor = new GameActor(Runnable::run);
+        DeltaEncoder encoder = new DeltaEncoder();
+        DeltaDecoder decoder = new DeltaDecoder();
+        actor.addSnapshotListener(s -> decoder.apply(ByteBuffer.wrap(encoder.encode(s))));
+        actor.startGame(4, false).join();
+
+        int keyframeSize = encoder.encodeKeyframe(actor.snapshot()).length;
+        for (int turn = 0; turn < 40 && actor.snapshot().state() != Game.State.GAME_OVER; turn++) {
+            actor.playBot().join();
+            GameSnapshot expected = actor.snapshot();
+            GameSnapshot rebuilt = decoder.snapshot();
+            assertEquals(expected.cells(), rebuilt.cells(), "Plateau reconstruit au tour " + turn);
+            assertEquals(expected.extraTile(), rebuilt.extraTile());
+            assertEquals(expected.state(), rebuilt.state());
+            assertEquals(expected.currentPlayer(), rebuilt.currentPlayer());
+            for (int i = 0; i < expected.players().size(); i++) {
+                assertEquals(expected.players().get(i).position(), rebuilt.players().get(i).position());
+                assertEquals(expected.players().get(i).objective(), rebuilt.players().get(i).objective());
+            }
+        }
+
+        // Un tour ne touche qu'une ligne : le delta est bien plus petit que la keyframe
+        GameSnapshot before = actor.snapshot();
+        DeltaEncoder fresh = new DeltaEncoder();
+        fresh.encode(before);
+        actor.rotateExtraTile().join();
+        assertTrue(fresh.encode(actor.snapshot()).length < keyframeSize / 4, "Le delta doit être compact");
+    }
+
+    @Test
+    void testFramesAreEncodedOnceForAllSpectators() throws InterruptedException {
+        long[] encoded = new long[2];
+        int[] audiences = {5, 500};
+        for (int run = 0; run < 2; run++) {
+            GameActor actor = new GameActor(Runnable::run);
+            actor.startGame(4, false).join();
+            SpectatorBroadcaster broadcaster = new SpectatorBroadcaster();
+            actor.addSnapshotListener(broadcaster);
+            List<SpectatorBroadcaster.Subscription> subs = new ArrayList<>();
+            for (int i = 0; i < audiences[run]; i++) subs.add(broadcaster.subscribe());
+            for (int turn = 0; turn < 10; turn++) actor.rotateExtraTile().join();
+            encoded[run] = broadcaster.getFramesEncoded();
+
+            // Un spectateur arrivé en cours de partie commence par une keyframe
+            SpectatorBroadcaster.Subscription late = broadcaster.subscribe();
+            DeltaDecoder decoder = new DeltaDecoder();
+            assertTrue(decoder.apply(late.take()), "Le retardataire doit recevoir une keyframe");
+            assertEquals(actor.snapshot().extraTile(), decoder.snapshot().extraTile());
+        }
+        assertEquals(encoded[0], encoded[1], "Le coût d'encodage ne dépend pas du nombre de spectateurs");
+    }
+}
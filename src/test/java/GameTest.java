@@ -62,4 +62,18 @@ class GameTest {
 
         assertEquals(new Position(1, 0), game.getPlayerPosition(0), "Le joueur expulsé à droite doit réapparaître à gauche");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testBotOnlyGame() {
+        Game spectator = new Game();
+        spectator.start(4, false);
+
+        // Sans humain, le joueur 0 est lui aussi un bot
+        assertFalse(spectator.hasHumanPlayer());
+        assertTrue(spectator.isCurrentPlayerBot());
+
+        // Partie classique : le joueur 0 reste l'humain
+        assertTrue(game.hasHumanPlayer());
+        assertFalse(game.isCurrentPlayerBot());
+    }
+}
@@ -0,0 +1,77 @@
+import g62221.labyrinthe.model.*;
+import g62221.labyrinthe.model.ai.InsertionPreview;
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+class InsertionPreviewTest {
+
+    @Test
+    void testPreviewsMatchThePlayedInsertions() {
+        LabyrinthFacade facade = new LabyrinthFacade(7, new Random(6));
+        facade.startGame(3);
+        assertTrue(facade.insertTile(Direction.RIGHT, 3)); // Une ligne interdite pour le tour suivant
+        facade.movePlayer(facade.getPlayerPosition(0).row(), facade.getPlayerPosition(0).col());
+
+        InsertionPreview previewer = new InsertionPreview(7, Runnable::run);
+        InsertionPreview.Analysis analysis = previewer.analyze(facade).join();
+        assertSame(analysis, previewer.current());
+        int player = facade.getCurrentPlayerIndex();
+
+        for (int turn = 0; turn < 4; turn++) {
+            for (Direction dir : Direction.values()) {
+                for (int index : facade.getMobileIndices()) {
+                    InsertionPreview.Preview preview = analysis.preview(dir, index, facade.getExtraTile());
+                    if (dir == facade.getForbiddenDirection() && index == facade.getForbiddenIndex()) {
+                        assertNull(preview, "Pas d'aperçu pour l'insertion interdite");
+                        continue;
+                    }
+
+                    // Le coup réellement joué donne la même région et le même verdict sur l'objectif
+                    assertTrue(facade.insertTile(dir, index));
+                    Position pawn = facade.getPlayerPosition(player);
+                    Set<Position> reachable = FacadeSupport.reachableOnFacade(facade, pawn);
+                    assertEquals(pawn, preview.getPawnPosition());
+                    assertEquals(reachable.size(), preview.getReachableCount(), dir + " " + index);
+                    for (Position p : reachable) assertTrue(preview.isReachable(p.row(), p.col()));
+                    assertEquals(reachable.contains(FacadeSupport.objectiveCell(facade, player)), preview.isObjectiveReachable());
+                    facade.undo();
+                }
+            }
+            facade.rotateExtraTile();
+        }
+    }
+
+    @Test
+    void testAnalysisIsCachedAndCancelled() {
+        LabyrinthFacade facade = new LabyrinthFacade(7, new Random(8));
+        facade.startGame(2);
+        List<Runnable> queued = new ArrayList<>();
+        InsertionPreview previewer = new InsertionPreview(7, queued::add);
+
+        // Même position, même la tuile en main tournée : une seule analyse
+        CompletableFuture<InsertionPreview.Analysis> first = previewer.analyze(facade);
+        facade.rotateExtraTile();
+        assertSame(first, previewer.analyze(facade));
+        assertEquals(1, queued.size());
+        assertNull(previewer.current(), "Analyse pas encore faite");
+
+        // Nouvelle position : l'analyse en attente est annulée et ne calcule rien
+        assertTrue(facade.insertTile(Direction.DOWN, 1));
+        CompletableFuture<InsertionPreview.Analysis> second = previewer.analyze(facade);
+        assertNotSame(first, second);
+        assertTrue(first.isCancelled());
+        for (Runnable task : queued) task.run();
+        assertTrue(second.isDone());
+        assertSame(second.join(), previewer.current());
+
+        previewer.cancel();
+        assertNull(previewer.current());
+    }
+}
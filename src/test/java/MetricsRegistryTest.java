@@ -0,0 +1,83 @@
+import g62221.labyrinthe.model.*;
+import g62221.labyrinthe.metrics.Counter;
+import g62221.labyrinthe.metrics.MetricsRegistry;
+import g62221.labyrinthe.metrics.Timer;
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+class MetricsRegistryTest {
+
+    @Test
+    void testDisabledRegistryRecordsNothing() {
+        MetricsRegistry registry = new MetricsRegistry(false);
+        Counter counter = registry.counter("test.counter");
+        Timer timer = registry.timer("test.timer");
+
+        counter.increment();
+        long start = timer.start();
+        timer.stop(start);
+        assertEquals(0, start, "Désactivé : l'horloge n'est même pas lue");
+        assertEquals(0, counter.sum());
+        assertEquals(0, timer.histogram().count());
+
+        registry.setEnabled(true);
+        counter.add(3);
+        timer.stop(timer.start());
+        assertEquals(3, counter.sum());
+        assertEquals(1, timer.histogram().count());
+        assertSame(counter, registry.counter("test.counter"), "Un nom désigne toujours la même métrique");
+    }
+
+    @Test
+    void testDumpIsSortedByName() {
+        MetricsRegistry registry = new MetricsRegistry(true);
+        registry.timer("b.timer").record(2_000);
+        registry.counter("a.counter").add(5);
+        registry.counter("c.counter").increment();
+
+        List<String> lines = registry.dump();
+        assertEquals(3, lines.size());
+        assertEquals("a.counter 5", lines.get(0));
+        assertTrue(lines.get(1).startsWith("b.timer count=1"), lines.get(1));
+        assertEquals("c.counter 1", lines.get(2));
+
+        registry.reset();
+        assertEquals("a.counter 0", registry.dump().get(0));
+    }
+
+    @Test
+    void testFlightRecorderReceivesModelEvents() throws Exception {
+        Path file = Files.createTempFile("labyrinthe", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("g62221.labyrinthe.Slide");
+            recording.enable("g62221.labyrinthe.BotDecision");
+            recording.start();
+
+            LabyrinthFacade facade = new LabyrinthFacade(Board.DEFAULT_SIZE, new Random(3));
+            facade.startGame(2, false);
+            facade.playBot();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("g62221.labyrinthe.Slide")),
+                "Le glissement du bot doit être enregistré");
+        RecordedEvent decision = events.stream()
+                .filter(e -> e.getEventType().getName().equals("g62221.labyrinthe.BotDecision"))
+                .findFirst().orElseThrow();
+        assertTrue(decision.getInt("candidates") > 0, "La stratégie par défaut évalue des insertions");
+        assertNotNull(decision.getString("direction"));
+    }
+}
@@ -0,0 +1,63 @@
+import g62221.labyrinthe.model.*;
+import g62221.labyrinthe.model.ai.HeuristicSearch;
+import g62221.labyrinthe.model.ai.PackedBoard;
+import g62221.labyrinthe.model.ai.ParallelSearch;
+import g62221.labyrinthe.model.ai.Weights;
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+class ParallelSearchTest {
+
+    private ExecutorService pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void testParallelSearchMatchesSequentialSearch() {
+        HeuristicSearch sequential = new HeuristicSearch(Weights.DEFAULT, 7);
+        ParallelSearch parallel = new ParallelSearch(Weights.DEFAULT, 7, pool, 4);
+
+        for (long seed = 0; seed < 4; seed++) {
+            LabyrinthFacade facade = new LabyrinthFacade(7, new Random(seed));
+            facade.startGame(2 + (int) seed % 3, false);
+            for (int turn = 0; turn < 40 && facade.getGameState() != Game.State.GAME_OVER; turn++) {
+                // Même coup, même score, quel que soit l'ordonnancement des sous-tâches
+                HeuristicSearch.Move expected = sequential.bestMove(facade);
+                assertEquals(expected, parallel.bestMove(facade), "Partie " + seed + ", tour " + turn);
+                assertTrue(parallel.getCandidates() > 0);
+
+                for (int i = 0; i < expected.rotations(); i++) facade.rotateExtraTile();
+                assertTrue(facade.insertTile(expected.direction(), expected.index()));
+                facade.movePlayer(expected.row(), expected.col());
+            }
+        }
+    }
+
+    @Test
+    void testExpiredDeadlineEvaluatesNothing() {
+        LabyrinthFacade facade = new LabyrinthFacade(7, new Random(3));
+        facade.startGame(2, false);
+        PackedBoard board = new PackedBoard(7);
+        board.load(facade);
+
+        ParallelSearch parallel = new ParallelSearch(Weights.DEFAULT, 7, pool, 4);
+        assertNull(parallel.bestMove(board, System.nanoTime() - 1), "Aucune insertion après l'échéance");
+        assertEquals(0, parallel.getCandidates());
+        assertNotNull(parallel.bestMove(board, ParallelSearch.NO_DEADLINE));
+    }
+}
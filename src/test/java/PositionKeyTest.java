@@ -0,0 +1,151 @@
+import g62221.labyrinthe.model.*;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+class PositionKeyTest {
+
+    @Test
+    void testSamePositionGivesEqualKeys() {
+        Game first = new Game(7, new Random(4));
+        Game second = new Game(7, new Random(4));
+        first.start(3);
+        second.start(3);
+        assertEquals(PositionKey.of(first), PositionKey.of(second));
+        assertEquals(PositionKey.of(first).hashCode(), PositionKey.of(second).hashCode());
+
+        // Une insertion change la position, donc la clé
+        first.insertTile(Direction.RIGHT, 1);
+        assertNotEquals(PositionKey.of(first), PositionKey.of(second));
+        assertTrue(PositionKey.of(first).length() <= 8, "Une poignée de longs sur le plateau standard");
+    }
+
+    @Test
+    void testRestoredGameHasTheSamePosition() {
+        Game played = new Game(7, new Random(9));
+        played.start(4);
+        Random random = new Random(10);
+        for (int turn = 0; turn < 12; turn++) {
+            FacadeSupport.randomTurn(played, random).execute();
+            Position pos = played.getPlayerPosition(played.getCurrentPlayerIndex());
+            played.movePlayer(pos);
+        }
+        PositionKey key = PositionKey.of(played);
+
+        // Autre partie, autres tirages : la clé y ramène la même position
+        Game restored = new Game(7, new Random(77));
+        restored.start(4);
+        key.restore(restored);
+        assertEquals(key, PositionKey.of(restored));
+        assertEquals(played.getCurrentPlayerIndex(), restored.getCurrentPlayerIndex());
+        for (int r = 0; r < 7; r++) {
+            for (int c = 0; c < 7; c++) {
+                Tile expected = played.getBoard().getTile(r, c);
+                Tile actual = restored.getBoard().getTile(r, c);
+                // Une tuile droite peut revenir tournée d'un demi-tour : mêmes ouvertures
+                assertEquals(new HashSet<>(expected.getConnectors()), new HashSet<>(actual.getConnectors()), "Case " + r + "," + c);
+                assertEquals(expected.getTreasure(), actual.getTreasure(), "Case " + r + "," + c);
+            }
+        }
+        for (int p = 0; p < 4; p++) {
+            assertEquals(played.getPlayerPosition(p), restored.getPlayerPosition(p));
+            assertEquals(played.getPlayerCurrentObjective(p), restored.getPlayerCurrentObjective(p));
+            assertEquals(played.getPlayerCardsCount(p), restored.getPlayerCardsCount(p));
+        }
+    }
+
+    @Test
+    void testRestoreReusesTheSharedTiles() {
+        Game played = new Game(7, new Random(5));
+        played.start(2);
+        played.insertTile(Direction.DOWN, 1);
+        played.getBoard().rotateExtraTile(true);
+        PositionKey key = PositionKey.of(played);
+
+        // Identités (orientation 0) des tuiles à trésor de l'autre partie, avant restauration
+        Game restored = new Game(7, new Random(6));
+        restored.start(2);
+        Map<String, Tile> identities = new HashMap<>();
+        for (int r = 0; r < 7; r++) {
+            for (int c = 0; c < 7; c++) {
+                Tile t = restored.getBoard().getTile(r, c);
+                if (t.hasTreasure()) identities.put(t.getTreasure(), t.withRotation(0));
+            }
+        }
+        Tile extra = restored.getBoard().getExtraTile();
+        if (extra.hasTreasure()) identities.put(extra.getTreasure(), extra.withRotation(0));
+
+        // La clé ne crée aucune tuile : chaque case reprend l'instance partagée, dans son orientation
+        key.restore(restored);
+        assertEquals(key, PositionKey.of(restored));
+        for (int r = 0; r < 7; r++) {
+            for (int c = 0; c < 7; c++) {
+                Tile t = restored.getBoard().getTile(r, c);
+                if (t.hasTreasure() && !t.isFixed()) {
+                    assertSame(identities.get(t.getTreasure()).withRotation(t.getRotation()), t, "Case " + r + "," + c);
+                }
+            }
+        }
+        extra = restored.getBoard().getExtraTile();
+        if (extra.hasTreasure()) assertSame(identities.get(extra.getTreasure()).withRotation(extra.getRotation()), extra);
+    }
+
+    @Test
+    void testHalfTurnOfAStraightTileKeepsTheKey() {
+        // Premières parties dont la tuile en main est droite, puis en angle
+        Game straight = gameWithExtra(Tile.Shape.I);
+        PositionKey key = PositionKey.of(straight);
+        straight.getBoard().rotateExtraTile(true);
+        assertNotEquals(key, PositionKey.of(straight), "Un quart de tour change les ouvertures");
+        straight.getBoard().rotateExtraTile(true);
+        assertEquals(key, PositionKey.of(straight), "Un demi-tour ne change rien en jeu");
+
+        Game corner = gameWithExtra(Tile.Shape.L);
+        key = PositionKey.of(corner);
+        corner.getBoard().rotateExtraTile(true);
+        corner.getBoard().rotateExtraTile(true);
+        assertNotEquals(key, PositionKey.of(corner));
+    }
+
+    @Test
+    void testKeysDeduplicatePositions() {
+        Game game = new Game(7, new Random(2));
+        game.start(2);
+        Set<PositionKey> seen = new HashSet<>();
+        assertTrue(seen.add(PositionKey.of(game)));
+
+        // La même position rencontrée deux fois n'est comptée qu'une fois
+        game.insertTile(Direction.DOWN, 3);
+        assertTrue(seen.add(PositionKey.of(game)));
+        assertFalse(seen.add(PositionKey.of(game)));
+        assertEquals(2, seen.size());
+    }
+
+    @Test
+    void testKeyRejectsAnotherGameShape() {
+        Game game = new Game(7, new Random(1));
+        game.start(2);
+        PositionKey key = PositionKey.of(game);
+
+        Game larger = new Game(9, new Random(1));
+        larger.start(2);
+        assertThrows(IllegalArgumentException.class, () -> key.restore(larger));
+        Game crowded = new Game(7, new Random(1));
+        crowded.start(3);
+        assertThrows(IllegalArgumentException.class, () -> key.restore(crowded));
+    }
+
+    private static Game gameWithExtra(Tile.Shape shape) {
+        for (long seed = 0; ; seed++) {
+            Game game = new Game(7, new Random(seed));
+            game.start(2);
+            if (game.getBoard().getExtraTile().getShape() == shape) return game;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+import g62221.labyrinthe.model.*;
+import g62221.labyrinthe.model.ai.PackedBoard;
+import g62221.labyrinthe.model.ai.ReachabilityEngine;
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+import g62221.labyrinthe.model.store.PositionStore;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+class PositionStoreTest {
+
+    @Test
+    void testStoredPositionsAreRestoredAndViewedInPlace() {
+        // Plus d'un segment, pour passer d'un bloc de mémoire à l'autre
+        int count = PositionStore.CHUNK_RECORDS + 10;
+        LabyrinthFacade facade = new LabyrinthFacade(7, new Random(1));
+        facade.startGame(3, false);
+        PackedBoard board = new PackedBoard(7);
+        board.load(facade);
+        Random random = new Random(2);
+
+        try (PositionStore store = new PositionStore(7)) {
+            for (int i = 0; i < count; i++) {
+                board.slide(Direction.values()[random.nextInt(4)], 1 + 2 * random.nextInt(3));
+                assertEquals(i, store.append(board));
+            }
+            assertEquals(count, store.size());
+
+            // La dernière position revient à l'identique
+            PackedBoard restored = new PackedBoard(7);
+            store.load(count - 1, restored);
+            for (int c = 0; c < 49; c++) assertEquals(board.mask(c), restored.mask(c));
+            assertEquals(board.extraMask(), restored.extraMask());
+
+            // Une vue se lit sans copie et donne les mêmes régions que le plateau restauré
+            ReachabilityEngine engine = new ReachabilityEngine(7);
+            PositionStore.View view = store.view(0);
+            for (long i = 0; i < count; i += 997) {
+                store.view(i, view);
+                store.load(i, restored);
+                assertEquals(restored.playerCell(0), view.playerCell(0));
+                int start = view.playerCell(view.currentPlayer());
+                assertEquals(engine.explore(restored, start), engine.explore(view, start), "Position " + i);
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> store.view(count));
+        }
+    }
+
+    @Test
+    void testTreasureIdsAreTheSameInEveryRecord() {
+        LabyrinthFacade facade = new LabyrinthFacade(7, new Random(4));
+        facade.startGame(2, false);
+        PackedBoard board = new PackedBoard(7);
+        int width = PackedBoard.recordSize(7);
+        int treasuresAt = PackedBoard.RECORD_MASKS + 25;
+        byte[] before = new byte[width];
+        byte[] after = new byte[width];
+        board.load(facade);
+        board.writeTo(before, 0);
+
+        // Les trésors glissent avec la ligne : chacun garde son id d'un enregistrement à l'autre
+        assertTrue(facade.insertTile(Direction.RIGHT, 1));
+        board.load(facade);
+        board.writeTo(after, 0);
+        for (int c = 0; c < 7; c++) {
+            int from = (c == 0) ? -1 : 7 + c - 1; // La case 0 reçoit la tuile en main
+            byte id = (from < 0) ? before[6] : before[treasuresAt + from];
+            assertEquals(id, after[treasuresAt + 7 + c], "Case " + (7 + c));
+        }
+        assertEquals(before[treasuresAt + 13], after[6], "La tuile éjectée passe en main avec son id");
+        assertEquals(before[8 + 4], after[8 + 4], "Même objectif, même id");
+        assertEquals(facade.getTreasureId(facade.getPlayerCurrentObjective(0)) + 1, after[8 + 4]);
+    }
+
+    @Test
+    void testClosedStoreFreesItsMemory() {
+        LabyrinthFacade facade = new LabyrinthFacade(7, new Random(3));
+        facade.startGame(2, false);
+        PackedBoard board = new PackedBoard(7);
+        board.load(facade);
+
+        PositionStore store = new PositionStore(7);
+        store.append(board);
+        PositionStore.View view = store.view(0);
+        assertTrue(store.byteSize() > 0);
+        store.close();
+
+        // Mémoire libérée : une vue restante ou un ajout échoue proprement au lieu de lire une zone rendue
+        assertEquals(0, store.size());
+        assertThrows(IllegalStateException.class, () -> view.size());
+        assertThrows(IllegalStateException.class, () -> store.append(board));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.view(0));
+    }
+
+    @Test
+    void testStoreRejectsLargerBoards() {
+        LabyrinthFacade facade = new LabyrinthFacade(9, new Random(1));
+        facade.startGame(2, false);
+        PackedBoard board = new PackedBoard(9);
+        board.load(facade);
+        try (PositionStore store = new PositionStore(7)) {
+            assertThrows(IllegalArgumentException.class, () -> store.append(board));
+            assertEquals(0, store.size());
+        }
+    }
+}
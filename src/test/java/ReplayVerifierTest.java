@@ -0,0 +1,64 @@
+import g62221.labyrinthe.model.*;
+import g62221.labyrinthe.tools.ReplayVerifier;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+class ReplayVerifierTest {
+
+    @Test
+    void testRecordedGamesReplayIdentically() throws IOException {
+        List<ReplayVerifier.Recording> games = new ArrayList<>();
+        for (long seed = 0; seed < 24; seed++) games.add(ReplayVerifier.record(seed, 7, 2 + (int) (seed % 3)));
+        assertTrue(games.get(0).checkpoints().length > 1, "Des points de contrôle en cours de partie");
+
+        // Aller-retour par l'archive, puis rejeu en parallèle
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            for (ReplayVerifier.Recording r : games) r.writeTo(out);
+        }
+        List<ReplayVerifier.Recording> read = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            for (int i = 0; i < games.size(); i++) read.add(ReplayVerifier.Recording.readFrom(in));
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            ReplayVerifier.Report report = ReplayVerifier.verifyAll(pool, 2, read);
+            assertTrue(report.ok(), report.toString());
+            assertEquals(24, report.games());
+            assertEquals(games.stream().mapToLong(r -> r.turns().length).sum(), report.turns());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void testAlteredGameIsReportedAtItsCheckpoint() {
+        ReplayVerifier.Recording game = ReplayVerifier.record(5, 7, 2);
+        assertNull(ReplayVerifier.verify(game));
+
+        // Un point de contrôle faussé : la divergence est signalée à ce tour-là
+        long[] checkpoints = game.checkpoints().clone();
+        checkpoints[1] ^= 1;
+        ReplayVerifier.Divergence d = ReplayVerifier.verify(new ReplayVerifier.Recording(game.seed(), 7, 2,
+                game.turns(), checkpoints));
+        assertNotNull(d);
+        assertEquals(2 * ReplayVerifier.CHECKPOINT_INTERVAL, d.turn());
+
+        // Une autre graine (autre donne) ne rejoue pas la même partie
+        assertNotNull(ReplayVerifier.verify(new ReplayVerifier.Recording(game.seed() + 1, 7, 2,
+                game.turns(), game.checkpoints())));
+        assertNotNull(ReplayVerifier.verify(new ReplayVerifier.Recording(game.seed(), 7, 2,
+                Arrays.copyOf(game.turns(), game.turns().length - 1), game.checkpoints())));
+    }
+}
@@ -0,0 +1,38 @@
+import g62221.labyrinthe.model.*;
+import g62221.labyrinthe.model.strategy.HeuristicStrategy;
+import g62221.labyrinthe.model.strategy.RandomStrategy;
+import g62221.labyrinthe.tools.Sprt;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+class SprtTest {
+
+    @Test
+    void testLikelihoodRatioFollowsTheResults() {
+        assertEquals(0, Sprt.llr(0, 0, 0, 0, 10), 1e-9, "Aucune partie : aucune information");
+        assertTrue(Sprt.llr(60, 10, 30, 0, 10) > 0, "Un score nettement gagnant favorise H1");
+        assertTrue(Sprt.llr(30, 10, 60, 0, 10) < 0, "Un score nettement perdant favorise H0");
+        assertTrue(Sprt.llr(600, 100, 300, 0, 10) > Sprt.llr(60, 10, 30, 0, 10),
+                "Plus de parties au même score : plus de certitude");
+    }
+
+    @Test
+    void testClearImprovementIsAcceptedEarly() {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Sprt sprt = new Sprt(pool, 2, Sprt.Settings.of(0, 50, 400));
+            Sprt.Report report = sprt.run(HeuristicStrategy::new, RandomStrategy::new, 1);
+
+            assertEquals(Sprt.Decision.H1_ACCEPTED, report.decision(), report.toString());
+            assertTrue(report.wins() + report.losses() + report.draws() < 400, "Le test doit s'arrêter avant le maximum");
+            assertTrue(report.elo() > 50);
+            assertTrue(report.candidateTimes().count() > 0, "Les tours du candidat doivent être chronométrés");
+            assertTrue(report.baselineTimes().count() > 0, "Les tours de la référence doivent être chronométrés");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
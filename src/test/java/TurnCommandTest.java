@@ -0,0 +1,118 @@
+import g62221.labyrinthe.model.*;
+import g62221.labyrinthe.model.command.CommandManager;
+import g62221.labyrinthe.model.command.TurnCommand;
+import g62221.labyrinthe.model.facade.LabyrinthFacade;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class TurnCommandTest {
+
+    @Test
+    void testTurnsUndoAndRedoAtomically() {
+        Game game = new Game(7, new Random(12));
+        game.start(3);
+        CommandManager history = new CommandManager();
+        Random random = new Random(13);
+        List<PositionKey> before = new ArrayList<>();
+        List<Long> encoded = new ArrayList<>();
+        int found = 0;
+
+        for (int turn = 0; turn < 60 && game.getState() != Game.State.GAME_OVER; turn++) {
+            for (int k = random.nextInt(4); k > 0; k--) game.getBoard().rotateExtraTile(true);
+            before.add(PositionKey.of(game));
+
+            TurnCommand command = FacadeSupport.randomTurn(game, random);
+            history.execute(command);
+            assertTrue(command.isAwaitingMove());
+
+            // Vers le trésor s'il est accessible, sinon une case accessible au hasard
+            int player = game.getCurrentPlayerIndex();
+            int cards = game.getPlayerCardsCount(player);
+            List<Position> reachable = new ArrayList<>(game.getBoard().getReachablePositions(game.getPlayerPosition(player)));
+            Position destination = reachable.get(random.nextInt(reachable.size()));
+            for (Position p : reachable) {
+                if (p.equals(FacadeSupport.objectiveCell(game, player))) destination = p;
+            }
+            command.completeMove(destination);
+            if (game.getPlayerCardsCount(player) < cards) found++;
+            encoded.add(command.encode());
+        }
+        assertEquals(before.size(), history.size(), "Une seule entrée d'historique par tour");
+        assertTrue(found > 0, "Au moins un trésor trouvé pendant la partie");
+        PositionKey end = PositionKey.of(game);
+
+        // Chaque Undo ramène exactement la position d'avant le tour (cartes, interdit, joueur courant...)
+        for (int i = before.size() - 1; i >= 0; i--) {
+            history.undo();
+            assertEquals(before.get(i), PositionKey.of(game), "Tour " + i);
+        }
+        assertNull(history.peek());
+        for (int i = 0; i < before.size(); i++) history.redo();
+        assertEquals(end, PositionKey.of(game), "Les Redo rejouent toute la partie");
+
+        // Un tour décodé s'annule sur la position d'après le tour, comme l'original
+        int last = encoded.size() - 1;
+        TurnCommand.decode(game, encoded.get(last)).undo();
+        assertEquals(before.get(last), PositionKey.of(game));
+        TurnCommand replayed = TurnCommand.decode(game, encoded.get(last));
+        replayed.execute();
+        assertEquals(end, PositionKey.of(game));
+        assertEquals((long) encoded.get(last), replayed.encode());
+    }
+
+    @Test
+    void testFacadeRecordsOneEntryPerTurn() {
+        LabyrinthFacade facade = new LabyrinthFacade(7, new Random(5));
+        facade.startGame(2, false);
+        for (int turn = 0; turn < 6; turn++) facade.playBot();
+        assertEquals(6, facade.getHistorySize());
+
+        // Undo avant le déplacement : seule l'insertion est annulée
+        Position pawn = facade.getPlayerPosition(facade.getCurrentPlayerIndex());
+        assertTrue(facade.insertTile(facade.getForbiddenDirection() == Direction.DOWN ? Direction.UP : Direction.DOWN, 1));
+        assertEquals(7, facade.getHistorySize());
+        facade.undo();
+        assertEquals(Game.State.WAITING_FOR_SLIDE, facade.getGameState());
+        assertEquals(pawn, facade.getPlayerPosition(facade.getCurrentPlayerIndex()));
+        assertEquals(6, facade.getHistorySize());
+
+        // Undo après un tour complet : retour au joueur précédent, en phase d'insertion
+        int player = facade.getCurrentPlayerIndex();
+        facade.undo();
+        assertEquals(1 - player, facade.getCurrentPlayerIndex());
+        assertEquals(Game.State.WAITING_FOR_SLIDE, facade.getGameState());
+    }
+
+    @Test
+    void testInsertOutsideTheInsertionPhaseIsNotRecorded() {
+        Game game = new Game(7, new Random(9));
+        game.start(2);
+        CommandManager history = new CommandManager();
+        PositionKey start = PositionKey.of(game);
+
+        // Double insertion (double clic) : la seconde est refusée sans toucher la tuile en main
+        history.execute(new TurnCommand(game, Direction.DOWN, 3));
+        PositionKey slid = PositionKey.of(game);
+        assertThrows(IllegalStateException.class, () -> history.execute(new TurnCommand(game, Direction.RIGHT, 1)));
+        assertEquals(1, history.size(), "Aucune entrée d'historique pour l'insertion refusée");
+        assertEquals(slid, PositionKey.of(game));
+
+        // Un seul Undo rend le plateau d'origine
+        history.undo();
+        assertEquals(start, PositionKey.of(game));
+
+        // La façade signale le refus, et ignore un déplacement avant l'insertion
+        LabyrinthFacade facade = new LabyrinthFacade(7, new Random(9));
+        facade.startGame(2, false);
+        Position pawn = facade.getPlayerPosition(0);
+        facade.movePlayer(pawn.row(), pawn.col());
+        assertEquals(0, facade.getHistorySize());
+        assertTrue(facade.insertTile(Direction.DOWN, 3));
+        assertFalse(facade.insertTile(Direction.RIGHT, 1));
+        assertEquals(1, facade.getHistorySize());
+    }
+}
@@ -0,0 +1,55 @@
+import g62221.labyrinthe.model.*;
+import g62221.labyrinthe.model.ai.Feature;
+import g62221.labyrinthe.model.ai.Weights;
+import g62221.labyrinthe.tools.SelfPlay;
+import g62221.labyrinthe.tools.WeightTuner;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+class WeightTunerTest {
+
+    @Test
+    void testSelfPlayIsReproducible() {
+        Weights other = Weights.DEFAULT.with(Feature.REACHABLE_AREA, 0);
+        int first = SelfPlay.play(Weights.DEFAULT, other, 42, false, 7);
+        assertEquals(first, SelfPlay.play(Weights.DEFAULT, other, 42, false, 7), "Même graine, même partie");
+
+        // Deux jeux de poids identiques : le résultat ne dépend que du siège
+        int swapped = SelfPlay.play(Weights.DEFAULT, Weights.DEFAULT, 7, true, 7);
+        assertEquals(-SelfPlay.play(Weights.DEFAULT, Weights.DEFAULT, 7, false, 7), swapped);
+    }
+
+    @Test
+    void testTunerCheckpointsAndResumes() throws Exception {
+        Path dir = Files.createTempDirectory("tuning");
+        Path file = dir.resolve("tuning.properties");
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            WeightTuner tuner = new WeightTuner(Weights.DEFAULT, file, 2, pool, 1234);
+            SelfPlay.MatchResult result = tuner.step();
+            assertEquals(2, result.games());
+            assertTrue(Files.exists(file), "Le progrès doit être sauvegardé après chaque itération");
+
+            // Une nouvelle instance reprend à l'itération suivante avec les mêmes poids
+            WeightTuner resumed = new WeightTuner(Weights.DEFAULT, file, 2, pool, 999);
+            assertEquals(1, resumed.getIteration());
+            assertEquals(tuner.getWeights(), resumed.getWeights());
+
+            // Même graine reprise : la suite est identique à une exécution sans interruption
+            tuner.step();
+            resumed.step();
+            assertEquals(tuner.getWeights(), resumed.getWeights());
+        } finally {
+            pool.shutdownNow();
+            try (var files = Files.list(dir)) {
+                for (Path p : files.toList()) Files.delete(p);
+            }
+            Files.delete(dir);
+        }
+    }
+}